@@ -0,0 +1,86 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.utils.CanvasPersistence;
+import com.example.scenory.view.components.DrawingCanvas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Canvas save/restore round trip and the checks run on every panel switch.
+ * The canvases are DrawingCanvas instances, so pixels are read from and written to
+ * the layer tiles as in the app; calls still execute on the FX thread, as they do there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", FxBenchmarkSupport.GLASS_MONOCLE, FxBenchmarkSupport.MONOCLE_HEADLESS,
+        FxBenchmarkSupport.PRISM_SOFTWARE})
+public class CanvasPersistenceBenchmark {
+
+    @Param({"800x600", "1920x1080", "2560x1440", "3840x2160"})
+    public String size;
+
+    @Param({"EMPTY", "SPARSE", "DENSE"})
+    public FxBenchmarkSupport.Density density;
+
+    private DrawingCanvas canvas;
+    private DrawingCanvas restoreTarget;
+    private byte[] pngData;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FxBenchmarkSupport.startToolkit();
+        int[] dimensions = FxBenchmarkSupport.parseSize(size);
+        FxBenchmarkSupport.onFxThread(() -> {
+            canvas = FxBenchmarkSupport.createCanvas(dimensions[0], dimensions[1], density);
+            restoreTarget = new DrawingCanvas(dimensions[0], dimensions[1]);
+            pngData = CanvasPersistence.saveCanvasToBytes(canvas);
+            return null;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FxBenchmarkSupport.onFxThread(() -> {
+            canvas.dispose();
+            restoreTarget.dispose();
+            return null;
+        });
+    }
+
+    @Benchmark
+    public byte[] saveCanvasToBytes() throws Exception {
+        return FxBenchmarkSupport.onFxThread(() -> CanvasPersistence.saveCanvasToBytes(canvas));
+    }
+
+    @Benchmark
+    public boolean restoreCanvasFromBytes() throws Exception {
+        return FxBenchmarkSupport.onFxThread(() -> CanvasPersistence.restoreCanvasFromBytes(restoreTarget, pngData));
+    }
+
+    @Benchmark
+    public boolean canvasHasDrawing() throws Exception {
+        return FxBenchmarkSupport.onFxThread(() -> CanvasPersistence.canvasHasDrawing(canvas));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean isValidImageData() {
+        return CanvasPersistence.isValidImageData(pngData);
+    }
+}
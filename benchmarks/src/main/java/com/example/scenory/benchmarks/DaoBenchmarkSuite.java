@@ -0,0 +1,330 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.database.PanelDAO;
+import com.example.scenory.database.PanelLayoutDAO;
+import com.example.scenory.database.ProjectDAO;
+import com.example.scenory.database.SceneDAO;
+import com.example.scenory.model.Panel;
+import com.example.scenory.model.Project;
+import com.example.scenory.model.Scene;
+import com.example.scenory.persistence.UserPreferences;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * DAO load/save benchmarks and round-trip checks against the embedded stand-in.
+ * For each project size it measures a full save (project, scenes, panels), a
+ * project open, a single panel update, a preference write and a layout write,
+ * then verifies the reopened project matches what was saved. Results go to a
+ * JSON report so query and batching changes can be compared run over run.
+ *
+ * <pre>
+ * DaoBenchmarkSuite [--sizes 10,100,1000,10000] [--report FILE] [--guide "DB_setup Guide.md"] [--url JDBC_URL]
+ * </pre>
+ */
+public class DaoBenchmarkSuite {
+
+    private static final int PANELS_PER_SCENE = 20;
+    private static final int WARMUP_ROUNDS = 2;
+
+    /**
+     * Latency summary for one operation at one project size
+     */
+    public static final class Measurement {
+        public final String operation;
+        public final int panels;
+        public final int samples;
+        public final double meanMs;
+        public final double p50Ms;
+        public final double p95Ms;
+        public final double minMs;
+        public final double maxMs;
+
+        Measurement(String operation, int panels, double[] millis) {
+            Arrays.sort(millis);
+            this.operation = operation;
+            this.panels = panels;
+            this.samples = millis.length;
+            this.meanMs = Arrays.stream(millis).average().orElse(0);
+            this.p50Ms = percentile(millis, 0.50);
+            this.p95Ms = percentile(millis, 0.95);
+            this.minMs = millis[0];
+            this.maxMs = millis[millis.length - 1];
+        }
+
+        private static double percentile(double[] sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-16s %6d panels: mean %9.2f ms  p50 %9.2f  p95 %9.2f  (%d samples)",
+                    operation, panels, meanMs, p50Ms, p95Ms, samples);
+        }
+    }
+
+    private final List<Measurement> measurements = new ArrayList<>();
+    private final List<String> integrityFailures = new ArrayList<>();
+    private final Random random = new Random(2024);
+    private byte[] canvasPng;
+    private byte[] thumbnailPng;
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = {10, 100, 1000, 10000};
+        Path report = Paths.get("target", "dao-benchmark-report.json");
+        Path guide = Paths.get("..", "DB_setup Guide.md");
+        String url = EmbeddedDatabase.DEFAULT_URL;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sizes" -> sizes = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--report" -> report = Paths.get(args[++i]);
+                case "--guide" -> guide = Paths.get(args[++i]);
+                case "--url" -> url = args[++i];
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        EmbeddedDatabase.start(url, guide);
+
+        DaoBenchmarkSuite suite = new DaoBenchmarkSuite();
+        suite.prepareImages();
+        for (int size : sizes) {
+            suite.run(size);
+        }
+        suite.writeReport(report, url, sizes);
+
+        if (!suite.integrityFailures.isEmpty()) {
+            System.err.println("❌ Round-trip check failed:");
+            suite.integrityFailures.forEach(failure -> System.err.println("   - " + failure));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Measure every operation for one project size
+     */
+    private void run(int panelCount) {
+        int rounds = Math.max(3, Math.min(20, 2000 / panelCount));
+        System.out.println("\n📊 " + panelCount + " panels (" + rounds + " rounds)");
+
+        // Full save: a fresh project each round
+        List<Project> saved = new ArrayList<>();
+        record("fullSave", panelCount, rounds, () -> {
+            Project project = createProject(panelCount);
+            saveProjectTree(project);
+            saved.add(project);
+            return project;
+        });
+        Project project = saved.get(saved.size() - 1);
+        int projectId = Integer.parseInt(project.getId());
+
+        record("projectOpen", panelCount, rounds, () -> ProjectDAO.load(projectId));
+
+        List<Panel> panels = new ArrayList<>();
+        List<Integer> sceneIds = new ArrayList<>();
+        for (Scene scene : project.getScenes()) {
+            for (Panel panel : scene.getPanels()) {
+                panels.add(panel);
+                sceneIds.add(Integer.parseInt(scene.getId()));
+            }
+        }
+        record("panelUpdate", panelCount, rounds * 5, () -> {
+            int index = random.nextInt(panels.size());
+            Panel panel = panels.get(index);
+            panel.setDialogue("Updated line " + random.nextInt(1000));
+            PanelDAO.save(panel, sceneIds.get(index));
+            return panel;
+        });
+
+        UserPreferences preferences = UserPreferences.getInstance();
+        record("preferenceWrite", panelCount, rounds * 5, () -> {
+            preferences.setDouble(UserPreferences.DEFAULT_PANEL_DURATION, 1 + random.nextInt(50) / 10.0);
+            return preferences;
+        });
+
+        PanelLayoutDAO.PanelLayout layout = new PanelLayoutDAO.PanelLayout();
+        record("layoutWrite", panelCount, rounds * 5, () -> {
+            layout.setLeftPanelWidth(200 + random.nextInt(100));
+            PanelLayoutDAO.saveLayout("default", "default", layout);
+            return layout;
+        });
+
+        verifyRoundTrip(project);
+    }
+
+    /**
+     * Time an operation: warmup rounds are discarded
+     */
+    private void record(String operation, int panels, int rounds, Supplier<Object> action) {
+        double[] millis = new double[rounds];
+        for (int i = 0; i < WARMUP_ROUNDS + rounds; i++) {
+            long start = System.nanoTime();
+            Object result = action.get();
+            long elapsed = System.nanoTime() - start;
+            if (result == null) {
+                integrityFailures.add(operation + " returned nothing at " + panels + " panels");
+            }
+            if (i >= WARMUP_ROUNDS) {
+                millis[i - WARMUP_ROUNDS] = elapsed / 1_000_000.0;
+            }
+        }
+        Measurement measurement = new Measurement(operation, panels, millis);
+        measurements.add(measurement);
+        System.out.println("⏱️ " + measurement);
+    }
+
+    /**
+     * Reopen the project and compare it with what was saved
+     */
+    private void verifyRoundTrip(Project expected) {
+        Project loaded = ProjectDAO.load(Integer.parseInt(expected.getId()));
+        if (loaded == null) {
+            integrityFailures.add("Project " + expected.getId() + " could not be reopened");
+            return;
+        }
+        if (loaded.getScenes().size() != expected.getScenes().size()) {
+            integrityFailures.add("Project " + expected.getId() + ": " + loaded.getScenes().size() +
+                    " scenes loaded, " + expected.getScenes().size() + " saved");
+            return;
+        }
+        for (int s = 0; s < expected.getScenes().size(); s++) {
+            List<Panel> savedPanels = expected.getScenes().get(s).getPanels();
+            List<Panel> loadedPanels = loaded.getScenes().get(s).getPanels();
+            if (savedPanels.size() != loadedPanels.size()) {
+                integrityFailures.add("Scene " + s + ": " + loadedPanels.size() + " panels loaded, " +
+                        savedPanels.size() + " saved");
+                continue;
+            }
+            for (int p = 0; p < savedPanels.size(); p++) {
+                Panel before = savedPanels.get(p);
+                Panel after = loadedPanels.get(p);
+                if (!before.getName().equals(after.getName()) ||
+                        !Arrays.equals(before.getCanvasImageData(), after.getCanvasImageData()) ||
+                        !Objects.equals(before.getDialogue(), after.getDialogue())) {
+                    integrityFailures.add("Panel " + before.getId() + " differs after reload");
+                }
+            }
+        }
+    }
+
+    // =====================================
+    // FIXTURES
+    // =====================================
+
+    private Project createProject(int panelCount) {
+        Project project = new Project();
+        project.setName("Benchmark " + panelCount + " panels");
+        project.setDescription("DAO benchmark fixture");
+
+        List<Scene> scenes = new ArrayList<>();
+        int sceneCount = (panelCount + PANELS_PER_SCENE - 1) / PANELS_PER_SCENE;
+        int remaining = panelCount;
+        for (int s = 0; s < sceneCount; s++) {
+            Scene scene = new Scene();
+            scene.setName("Scene " + (s + 1));
+            scene.setSequenceOrder(s);
+
+            List<Panel> panels = new ArrayList<>();
+            for (int p = 0; p < Math.min(PANELS_PER_SCENE, remaining); p++) {
+                Panel panel = new Panel();
+                panel.setName("Panel " + (s + 1) + "." + (p + 1));
+                panel.setSequenceOrder(p);
+                panel.setDialogue("Line " + p);
+                panel.setAction("Action " + p);
+                panel.setCanvasImageData(canvasPng);
+                panel.setThumbnailData(thumbnailPng);
+                panels.add(panel);
+            }
+            remaining -= panels.size();
+            scene.setPanels(panels);
+            scenes.add(scene);
+        }
+        project.setScenes(scenes);
+        return project;
+    }
+
+    /**
+     * Save a whole project the way the app does: project, then scenes, then panels
+     */
+    private static void saveProjectTree(Project project) {
+        ProjectDAO.save(project);
+        int projectId = Integer.parseInt(project.getId());
+        for (Scene scene : project.getScenes()) {
+            SceneDAO.save(scene, projectId);
+            int sceneId = Integer.parseInt(scene.getId());
+            for (Panel panel : scene.getPanels()) {
+                PanelDAO.save(panel, sceneId);
+            }
+        }
+    }
+
+    /**
+     * A sketch-like 800x600 canvas PNG and its thumbnail, shared by all fixture panels
+     */
+    private void prepareImages() throws IOException {
+        BufferedImage canvas = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = canvas.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, 800, 600);
+        Random strokes = new Random(5);
+        for (int i = 0; i < 60; i++) {
+            g2d.setColor(new Color(strokes.nextInt(0xFFFFFF)));
+            g2d.setStroke(new BasicStroke(1 + strokes.nextFloat() * 6));
+            g2d.drawLine(strokes.nextInt(800), strokes.nextInt(600), strokes.nextInt(800), strokes.nextInt(600));
+        }
+        g2d.dispose();
+        canvasPng = png(canvas);
+
+        BufferedImage thumbnail = new BufferedImage(120, 90, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D thumb = thumbnail.createGraphics();
+        thumb.drawImage(canvas, 0, 0, 120, 90, null);
+        thumb.dispose();
+        thumbnailPng = png(thumbnail);
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "PNG", out);
+        return out.toByteArray();
+    }
+
+    private void writeReport(Path report, String url, int[] sizes) throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("timestamp", Instant.now().toString());
+        root.put("javaVersion", System.getProperty("java.version"));
+        root.put("database", url);
+        root.put("sizes", sizes);
+        root.put("canvasBytesPerPanel", canvasPng.length);
+        root.put("measurements", measurements);
+        root.put("integrityFailures", integrityFailures);
+
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), root);
+        System.out.println("\n📄 Report written to " + report.toAbsolutePath());
+    }
+}
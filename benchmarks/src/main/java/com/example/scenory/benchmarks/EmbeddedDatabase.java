@@ -0,0 +1,83 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.database.DatabaseManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Embedded MySQL-compatible stand-in for DAO benchmarks and integration checks.
+ * H2 runs in MySQL mode and DatabaseManager is pointed at it through the
+ * scenory.db.url system property, so the DAOs run unchanged. The schema is read
+ * from the creation script in the DB setup guide, which keeps the stand-in in
+ * step with what users actually create.
+ */
+public final class EmbeddedDatabase {
+
+    public static final String DEFAULT_URL =
+            "jdbc:h2:file:./target/dao-bench/scenory;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE";
+
+    private EmbeddedDatabase() {
+    }
+
+    /**
+     * Point DatabaseManager at the stand-in and create the schema. Must run before
+     * anything else touches DatabaseManager.
+     */
+    public static void start(String jdbcUrl, Path setupGuide) throws IOException, SQLException {
+        System.setProperty("scenory.db.url", jdbcUrl);
+        System.setProperty("scenory.db.username", "sa");
+        System.setProperty("scenory.db.password", "");
+
+        List<String> statements = schemaStatements(setupGuide);
+        try (Connection conn = DatabaseManager.getInstance().getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+            for (String sql : statements) {
+                stmt.execute(sql);
+            }
+        }
+        System.out.println("🗄️ Embedded database ready (" + statements.size() + " schema statements from " +
+                setupGuide.getFileName() + ")");
+    }
+
+    /**
+     * Statements of the first SQL block in the setup guide, minus the parts that
+     * only make sense on a MySQL server (database creation, session variables and
+     * the sample rows that depend on them)
+     */
+    static List<String> schemaStatements(Path setupGuide) throws IOException {
+        String markdown = Files.readString(setupGuide, StandardCharsets.UTF_8);
+        int start = markdown.indexOf("```sql");
+        int end = markdown.indexOf("```", start + 6);
+        if (start < 0 || end < 0) {
+            throw new IOException("No SQL block found in " + setupGuide);
+        }
+
+        StringBuilder script = new StringBuilder();
+        for (String line : markdown.substring(start + 6, end).split("\n")) {
+            int comment = line.indexOf("--");
+            script.append(comment >= 0 ? line.substring(0, comment) : line).append('\n');
+        }
+
+        List<String> statements = new ArrayList<>();
+        for (String raw : script.toString().split(";")) {
+            String sql = raw.strip();
+            String upper = sql.toUpperCase(Locale.ROOT);
+            if (sql.isEmpty() || upper.startsWith("CREATE DATABASE") || upper.startsWith("USE ") ||
+                    sql.contains("@")) {
+                continue;
+            }
+            statements.add(sql);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.view.components.DrawingCanvas;
+import com.example.scenory.view.components.TiledRaster;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.paint.Color;
+
+import java.awt.BasicStroke;
+import java.awt.geom.Path2D;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Shared fixtures for benchmarks that touch JavaFX.
+ * Canvas nodes must be used on the FX application thread, so the toolkit is
+ * started once per fork and work is marshalled there and waited on. Forks run
+ * on Monocle's headless platform with software rendering, so no display is needed.
+ */
+public final class FxBenchmarkSupport {
+
+    // JVM flags for headless JavaFX (Monocle is on the benchmark classpath)
+    public static final String GLASS_MONOCLE = "-Dglass.platform=Monocle";
+    public static final String MONOCLE_HEADLESS = "-Dmonocle.platform=Headless";
+    public static final String PRISM_SOFTWARE = "-Dprism.order=sw";
+
+    /**
+     * How much is drawn on a benchmark canvas
+     */
+    public enum Density {
+        EMPTY(0), SPARSE(40), DENSE(1500);
+
+        private final int strokes;
+
+        Density(int strokes) {
+            this.strokes = strokes;
+        }
+
+        public int getStrokes() {
+            return strokes;
+        }
+    }
+
+    private static volatile boolean started;
+
+    private FxBenchmarkSupport() {
+    }
+
+    /**
+     * Start the JavaFX toolkit if it is not running yet
+     */
+    public static synchronized void startToolkit() throws InterruptedException {
+        if (started) return;
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+        } catch (IllegalStateException alreadyRunning) {
+            latch.countDown();
+        }
+        latch.await();
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+
+    /**
+     * Run a task on the FX thread and wait for its result
+     */
+    public static <T> T onFxThread(Callable<T> task) throws Exception {
+        if (Platform.isFxApplicationThread()) {
+            return task.call();
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(task.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Parse a "WIDTHxHEIGHT" benchmark parameter
+     */
+    public static int[] parseSize(String size) {
+        String[] parts = size.toLowerCase().split("x");
+        return new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+    }
+
+    /**
+     * Create a drawing canvas with reproducible pseudo-random pen strokes (call on the FX thread).
+     * Strokes are painted into the active layer's tiles the way the pen tool does.
+     */
+    public static DrawingCanvas createCanvas(int width, int height, Density density) {
+        DrawingCanvas canvas = new DrawingCanvas(width, height);
+        TiledRaster raster = canvas.getRaster();
+
+        Random random = new Random(42);
+        for (int stroke = 0; stroke < density.getStrokes(); stroke++) {
+            Color color = Color.hsb(random.nextDouble() * 360, 0.7, 0.4 + random.nextDouble() * 0.5);
+            double lineWidth = 1 + random.nextDouble() * 8;
+
+            double x = random.nextDouble() * width;
+            double y = random.nextDouble() * height;
+            Path2D path = new Path2D.Double();
+            path.moveTo(x, y);
+            for (int point = 0; point < 24; point++) {
+                x = clamp(x + random.nextGaussian() * 12, width);
+                y = clamp(y + random.nextGaussian() * 12, height);
+                path.lineTo(x, y);
+            }
+
+            BasicStroke pen = new BasicStroke((float) lineWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+            java.awt.Color awtColor = TiledRaster.toAwtColor(color);
+            java.awt.geom.Rectangle2D bounds = pen.createStrokedShape(path).getBounds2D();
+            Rectangle2D region = new Rectangle2D(bounds.getX(), bounds.getY(), bounds.getWidth(), bounds.getHeight());
+            raster.paint(region, g -> {
+                g.setStroke(pen);
+                g.setColor(awtColor);
+                g.draw(path);
+            });
+        }
+        canvas.present();
+        return canvas;
+    }
+
+    private static double clamp(double value, double max) {
+        return Math.max(0, Math.min(value, max - 1));
+    }
+}
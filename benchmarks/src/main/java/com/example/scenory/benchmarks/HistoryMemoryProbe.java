@@ -0,0 +1,123 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.commands.CommandManager;
+import com.example.scenory.view.components.DrawingCanvas;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Measures memory retained per undo history entry.
+ * A history is filled with N commands, garbage is collected, and the growth in
+ * heap plus direct buffers is divided by N. Results are also expressed as a
+ * multiple of one full-canvas ARGB snapshot, which makes them comparable across
+ * canvas sizes.
+ */
+public final class HistoryMemoryProbe {
+
+    /**
+     * Retained memory for one workload/size combination
+     */
+    public static final class Result {
+        public final HistoryWorkloads.Workload workload;
+        public final int width;
+        public final int height;
+        public final int entries;
+        public final long bytesPerEntry;
+
+        Result(HistoryWorkloads.Workload workload, int width, int height, int entries, long bytesPerEntry) {
+            this.workload = workload;
+            this.width = width;
+            this.height = height;
+            this.entries = entries;
+            this.bytesPerEntry = bytesPerEntry;
+        }
+
+        /**
+         * Bytes per entry divided by the size of one full-canvas snapshot
+         */
+        public double snapshotsPerEntry() {
+            return bytesPerEntry / (width * (double) height * 4);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-6s %5dx%-5d %4d entries: %,12d bytes/entry (%.2f snapshots)",
+                    workload, width, height, entries, bytesPerEntry, snapshotsPerEntry());
+        }
+    }
+
+    private HistoryMemoryProbe() {
+    }
+
+    public static Result measure(HistoryWorkloads.Workload workload, int width, int height, int entries)
+            throws Exception {
+        FxBenchmarkSupport.startToolkit();
+        Random random = new Random(11);
+
+        Object[] holder = new Object[2];
+        FxBenchmarkSupport.onFxThread(() -> {
+            DrawingCanvas canvas = new DrawingCanvas(width, height);
+            CommandManager manager = new CommandManager();
+            manager.setMaxHistorySize(entries);
+            canvas.snapshot();
+            holder[0] = canvas;
+            holder[1] = manager;
+            return null;
+        });
+
+        long before = usedMemoryAfterGc();
+
+        FxBenchmarkSupport.onFxThread(() -> {
+            DrawingCanvas canvas = (DrawingCanvas) holder[0];
+            CommandManager manager = (CommandManager) holder[1];
+            for (int i = 0; i < entries; i++) {
+                manager.executeCommand(HistoryWorkloads.next(workload, canvas, random));
+            }
+            // Flush queued drawing so only the history itself is retained
+            canvas.snapshot();
+            return null;
+        });
+
+        long after = usedMemoryAfterGc();
+        Result result = new Result(workload, width, height, entries, Math.max(0, after - before) / entries);
+
+        // Keep the history reachable until after the measurement
+        boolean trimmed = ((CommandManager) holder[1]).getUndoStackSize() != entries;
+        FxBenchmarkSupport.onFxThread(() -> {
+            ((DrawingCanvas) holder[0]).dispose();
+            return null;
+        });
+        if (trimmed) {
+            throw new IllegalStateException("History was trimmed during measurement");
+        }
+        return result;
+    }
+
+    /**
+     * Heap plus direct buffer usage after the collector has settled
+     */
+    static long usedMemoryAfterGc() throws InterruptedException {
+        long previous = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(50);
+            long used = usedMemory();
+            if (Math.abs(previous - used) < 64 * 1024) {
+                return used;
+            }
+            previous = used;
+        }
+        return previous;
+    }
+
+    private static long usedMemory() {
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        long direct = 0;
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            direct += pool.getMemoryUsed();
+        }
+        return heap + direct;
+    }
+}
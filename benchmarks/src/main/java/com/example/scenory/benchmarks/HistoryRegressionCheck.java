@@ -0,0 +1,100 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.commands.CommandManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Quick undo-history regression gate, run headless in the benchmarks build.
+ * Checks retained memory per history entry against budgets expressed in
+ * full-canvas snapshots, and checks that pushing onto a full history does not
+ * get dramatically slower as the history grows (trimUndoStack scaling).
+ * Exits non-zero when a budget is exceeded.
+ */
+public class HistoryRegressionCheck {
+
+    private static final int MEMORY_ENTRIES = 40;
+    private static final int[][] MEMORY_SIZES = {{800, 600}, {1920, 1080}};
+    private static final int SMALL_HISTORY = 50;
+    private static final int LARGE_HISTORY = 1000;
+    private static final int BOOKKEEPING_OPS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        Properties budget = loadBudget(args.length > 0 ? Paths.get(args[0]) : null);
+        List<String> failures = new ArrayList<>();
+
+        System.out.println("📏 Undo history regression check");
+
+        // Retained memory per entry
+        for (HistoryWorkloads.Workload workload : HistoryWorkloads.Workload.values()) {
+            double limit = Double.parseDouble(budget.getProperty("maxSnapshotsPerEntry." + workload, "3.0"));
+            for (int[] size : MEMORY_SIZES) {
+                HistoryMemoryProbe.Result result = HistoryMemoryProbe.measure(workload, size[0], size[1], MEMORY_ENTRIES);
+                boolean ok = result.snapshotsPerEntry() <= limit;
+                System.out.println((ok ? "✅ " : "❌ ") + result + " (budget " + limit + ")");
+                if (!ok) {
+                    failures.add(workload + " " + size[0] + "x" + size[1] + " retains " +
+                            String.format("%.2f", result.snapshotsPerEntry()) + " snapshots per entry");
+                }
+            }
+        }
+
+        // Trim scaling: cost per push at a large full history vs a small one
+        double small = nanosPerPush(SMALL_HISTORY);
+        double large = nanosPerPush(LARGE_HISTORY);
+        double ratio = large / small;
+        double maxRatio = Double.parseDouble(budget.getProperty("maxTrimScaling", "10.0"));
+        boolean ok = ratio <= maxRatio;
+        System.out.printf("%s Push+trim: %.0f ns at %d entries, %.0f ns at %d entries (x%.2f, budget x%.1f)%n",
+                ok ? "✅" : "❌", small, SMALL_HISTORY, large, LARGE_HISTORY, ratio, maxRatio);
+        if (!ok) {
+            failures.add(String.format("push+trim scales x%.2f from %d to %d entries", ratio, SMALL_HISTORY, LARGE_HISTORY));
+        }
+
+        if (!failures.isEmpty()) {
+            System.err.println("❌ Undo history regressions:");
+            failures.forEach(failure -> System.err.println("   - " + failure));
+            System.exit(1);
+        }
+        System.out.println("✅ Undo history within budget");
+        System.exit(0);
+    }
+
+    /**
+     * Average cost of executing a no-op command onto a full history (best of 5 rounds)
+     */
+    private static double nanosPerPush(int historySize) {
+        CommandManager manager = new CommandManager();
+        manager.setMaxHistorySize(historySize);
+        for (int i = 0; i < historySize; i++) {
+            manager.executeCommand(new HistoryWorkloads.NoOpCommand());
+        }
+
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < BOOKKEEPING_OPS; i++) {
+                manager.executeCommand(new HistoryWorkloads.NoOpCommand());
+            }
+            best = Math.min(best, (System.nanoTime() - start) / (double) BOOKKEEPING_OPS);
+        }
+        return best;
+    }
+
+    private static Properties loadBudget(Path file) throws IOException {
+        Properties budget = new Properties();
+        if (file != null && Files.exists(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                budget.load(input);
+            }
+        }
+        return budget;
+    }
+}
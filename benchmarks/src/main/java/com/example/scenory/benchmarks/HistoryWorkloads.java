@@ -0,0 +1,99 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.commands.ClearCanvasCommand;
+import com.example.scenory.commands.DrawingCommand;
+import com.example.scenory.commands.ShapeCommand;
+import com.example.scenory.commands.StrokeCommand;
+import com.example.scenory.enums.DrawingTool;
+import com.example.scenory.view.components.DrawingCanvas;
+import com.example.scenory.view.components.TiledRaster;
+import javafx.scene.paint.Color;
+
+import java.awt.BasicStroke;
+import java.awt.geom.Path2D;
+import java.util.Random;
+
+/**
+ * Synthetic command streams for the undo/redo benchmarks.
+ * Commands are built the way the canvas builds them from mouse input: the
+ * stroke starts journaling, the drawing happens in the raster, then the stroke is finished.
+ * All methods must be called on the FX thread.
+ */
+public final class HistoryWorkloads {
+
+    public enum Workload {
+        STROKE, SHAPE, CLEAR,
+        MIXED   // 70% strokes, 25% shapes, 5% clears
+    }
+
+    /**
+     * Command with no canvas work - isolates the history bookkeeping itself
+     */
+    public static final class NoOpCommand implements DrawingCommand {
+        @Override public void execute() { }
+        @Override public void undo() { }
+        @Override public String getDescription() { return "No-op"; }
+    }
+
+    private HistoryWorkloads() {
+    }
+
+    /**
+     * Build the next command of a workload
+     */
+    public static DrawingCommand next(Workload workload, DrawingCanvas canvas, Random random) {
+        Workload kind = workload;
+        if (workload == Workload.MIXED) {
+            double roll = random.nextDouble();
+            kind = roll < 0.70 ? Workload.STROKE : roll < 0.95 ? Workload.SHAPE : Workload.CLEAR;
+        }
+        return switch (kind) {
+            case STROKE -> stroke(canvas, random);
+            case SHAPE -> shape(canvas, random);
+            default -> new ClearCanvasCommand(canvas);
+        };
+    }
+
+    /**
+     * A pen stroke of 30 points, drawn live and then finished
+     */
+    public static StrokeCommand stroke(DrawingCanvas canvas, Random random) {
+        Color color = Color.hsb(random.nextDouble() * 360, 0.8, 0.5);
+        double width = 1 + random.nextDouble() * 6;
+        StrokeCommand command = new StrokeCommand(canvas, DrawingTool.PEN, color, width);
+
+        double x = random.nextDouble() * canvas.getWidth();
+        double y = random.nextDouble() * canvas.getHeight();
+        Path2D path = new Path2D.Double();
+        path.moveTo(x, y);
+        command.addPoint(x, y);
+        for (int i = 0; i < 30; i++) {
+            x = Math.max(0, Math.min(canvas.getWidth(), x + random.nextGaussian() * 10));
+            y = Math.max(0, Math.min(canvas.getHeight(), y + random.nextGaussian() * 10));
+            path.lineTo(x, y);
+            command.addPoint(x, y);
+        }
+
+        // Paint into the raster the way the pen tool does, so the stroke journals its tiles
+        BasicStroke stroke = new BasicStroke((float) width, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+        java.awt.Color awtColor = TiledRaster.toAwtColor(color);
+        canvas.getRaster().paint(command.getDirtyRegion(), g -> {
+            g.setStroke(stroke);
+            g.setColor(awtColor);
+            g.draw(path);
+        });
+        canvas.present();
+
+        command.finishStroke();
+        return command;
+    }
+
+    public static ShapeCommand shape(DrawingCanvas canvas, Random random) {
+        ShapeCommand.ShapeType[] types = ShapeCommand.ShapeType.values();
+        double x = random.nextDouble() * canvas.getWidth();
+        double y = random.nextDouble() * canvas.getHeight();
+        return new ShapeCommand(canvas, types[random.nextInt(types.length)],
+                x, y, x + random.nextDouble() * 200, y + random.nextDouble() * 200,
+                Color.hsb(random.nextDouble() * 360, 0.8, 0.5), 2, random.nextBoolean());
+    }
+}
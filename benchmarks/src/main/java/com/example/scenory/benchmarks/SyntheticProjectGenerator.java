@@ -0,0 +1,653 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.database.PanelDAO;
+import com.example.scenory.database.ProjectDAO;
+import com.example.scenory.database.SceneDAO;
+import com.example.scenory.export.PanelImages;
+import com.example.scenory.model.DrawingElement;
+import com.example.scenory.model.Panel;
+import com.example.scenory.model.Project;
+import com.example.scenory.model.Scene;
+import com.example.scenory.utils.ThumbnailGenerator;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic generator for production-sized Project/Scene/Panel graphs.
+ * Every panel gets its own random stream derived from the seed and its position,
+ * so panels are generated in parallel and the output is identical for a given
+ * seed whatever the thread count. Canvas PNGs are rendered procedurally from the
+ * panel's vector DrawingElements plus free-hand strokes, as drawing-only ARGB on
+ * transparency like the app saves them; thumbnails are flattened onto the panel
+ * background.
+ *
+ * Large fixtures are streamed: the database and project file sinks generate a
+ * batch of scenes, write it and drop it, so 100k-panel projects never have all
+ * canvases in memory at once.
+ *
+ * The database is the sink the app reads. By default the project is saved to an
+ * embedded stand-in ({@link #DEFAULT_DB_URL}, schema from the setup guide); --url
+ * picks another stand-in and --db the database the app is configured for.
+ * --out writes a JSON project file instead: an export-only artifact for external
+ * tools, which nothing in the app or the benchmarks loads.
+ *
+ * <pre>
+ * SyntheticProjectGenerator [--scenes N] [--panels-per-scene N] [--size WxH] [--strokes N]
+ *                           [--elements N] [--text CHARS] [--seed N] [--threads N] [--no-pyramid]
+ *                           [--db | --url JDBC_URL] [--guide "DB_setup Guide.md"] [--out FILE]
+ * </pre>
+ *
+ * From Maven:
+ * {@code mvn -f benchmarks/pom.xml compile exec:exec@synthetic-project -Dsynthetic.args="--scenes 5000 --panels-per-scene 20"}
+ */
+public class SyntheticProjectGenerator {
+
+    public static final String DEFAULT_DB_URL =
+            "jdbc:h2:file:./target/synthetic/scenory;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE";
+
+    // Export-only JSON project file (--out)
+    public static final String FILE_FORMAT = "scenory-project";
+    public static final int FILE_VERSION = 1;
+
+    // Panels generated per batch by the streaming sinks
+    private static final int BATCH_PANELS = 512;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private static final String[] WORDS = {
+            "the", "camera", "slowly", "pushes", "in", "on", "her", "face", "as", "rain", "hits", "window",
+            "he", "turns", "away", "city", "lights", "flicker", "behind", "them", "door", "opens", "silence",
+            "footsteps", "echo", "down", "corridor", "a", "shadow", "crosses", "frame", "she", "smiles"
+    };
+    private static final String[] SHOT_TYPES = {"Wide", "Medium", "Close-up", "Extreme close-up", "Over the shoulder"};
+    private static final String[] CAMERA_ANGLES = {"Eye level", "High angle", "Low angle", "Dutch", "Bird's eye"};
+    private static final String[] MOVEMENTS = {"Static", "Pan", "Tilt", "Dolly", "Handheld"};
+    private static final String[] TRANSITIONS = {"CUT", "CUT", "CUT", "DISSOLVE", "FADE"};
+    private static final String[] TIMES_OF_DAY = {"DAY", "NIGHT", "DAWN", "DUSK"};
+
+    // Shape of the generated project
+    private long seed = 1;
+    private int sceneCount = 10;
+    private int panelsPerScene = 20;
+    private int canvasWidth = 800;
+    private int canvasHeight = 600;
+    private int strokesPerPanel = 40;
+    private int elementsPerPanel = 12;
+    private int richTextChars = 600;
+    private boolean thumbnailPyramid = true;
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        SyntheticProjectGenerator generator = new SyntheticProjectGenerator();
+        Path out = null;
+        boolean database = false;
+        String url = null;
+        Path guide = Paths.get("..", "DB_setup Guide.md");
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--scenes" -> generator.setSceneCount(Integer.parseInt(args[++i]));
+                case "--panels-per-scene" -> generator.setPanelsPerScene(Integer.parseInt(args[++i]));
+                case "--size" -> {
+                    int[] size = FxBenchmarkSupport.parseSize(args[++i]);
+                    generator.setCanvasSize(size[0], size[1]);
+                }
+                case "--strokes" -> generator.setStrokesPerPanel(Integer.parseInt(args[++i]));
+                case "--elements" -> generator.setElementsPerPanel(Integer.parseInt(args[++i]));
+                case "--text" -> generator.setRichTextChars(Integer.parseInt(args[++i]));
+                case "--seed" -> generator.setSeed(Long.parseLong(args[++i]));
+                case "--threads" -> generator.setThreadCount(Integer.parseInt(args[++i]));
+                case "--no-pyramid" -> generator.setThumbnailPyramid(false);
+                case "--out" -> out = Paths.get(args[++i]);
+                case "--db" -> database = true;
+                case "--url" -> url = args[++i];
+                case "--guide" -> guide = Paths.get(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        // The database is the default sink; --out alone only writes the export file
+        boolean configuredDatabase = database && url == null;
+        if (out == null || database || url != null) {
+            if (!configuredDatabase) {
+                EmbeddedDatabase.start(url != null ? url : DEFAULT_DB_URL, guide);
+            }
+            generator.saveToDatabase();
+        }
+        if (out != null) {
+            generator.writeProjectFile(out);
+        }
+        System.exit(0);
+    }
+
+    // =====================================
+    // GENERATION
+    // =====================================
+
+    /**
+     * Build the whole project graph in memory (use the streaming sinks for very large projects)
+     */
+    public Project generate() {
+        Project project = createProject();
+        project.setScenes(generateScenes(0, sceneCount));
+        return project;
+    }
+
+    /**
+     * The project without its scenes
+     */
+    public Project createProject() {
+        SplittableRandom random = randomFor(-1, 0);
+        Project project = new Project();
+        project.setId(deterministicId(0, 0));
+        project.setName("Synthetic " + getTotalPanels() + " panels (seed " + seed + ")");
+        project.setDescription(sentence(random, 20));
+        project.setCanvasWidth(canvasWidth);
+        project.setCanvasHeight(canvasHeight);
+        project.setProjectType("CUSTOM");
+        project.setCreatedDate(BASE_DATE);
+        project.setModifiedDate(BASE_DATE);
+        return project;
+    }
+
+    /**
+     * Generate scenes [from, to) with their panels; panels are built in parallel
+     */
+    public List<Scene> generateScenes(int fromScene, int toScene) {
+        int firstPanel = fromScene * panelsPerScene;
+        int lastPanel = toScene * panelsPerScene;
+
+        Panel[] panels;
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threadCount));
+        try {
+            panels = pool.submit(() -> IntStream.range(firstPanel, lastPanel).parallel()
+                    .mapToObj(this::generatePanel)
+                    .toArray(Panel[]::new)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Panel generation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        List<Scene> scenes = new ArrayList<>();
+        for (int s = fromScene; s < toScene; s++) {
+            Scene scene = createScene(s);
+            List<Panel> scenePanels = new ArrayList<>(panelsPerScene);
+            for (int p = 0; p < panelsPerScene; p++) {
+                scenePanels.add(panels[(s - fromScene) * panelsPerScene + p]);
+            }
+            scene.setPanels(scenePanels);
+            scenes.add(scene);
+        }
+        return scenes;
+    }
+
+    private Scene createScene(int sceneIndex) {
+        SplittableRandom random = randomFor(sceneIndex, -1);
+        Scene scene = new Scene();
+        scene.setId(deterministicId(1, sceneIndex));
+        scene.setName("Scene " + (sceneIndex + 1));
+        scene.setDescription(sentence(random, 12));
+        scene.setSequenceOrder(sceneIndex);
+        scene.setLocation(sentence(random, 2));
+        scene.setTimeOfDay(TIMES_OF_DAY[random.nextInt(TIMES_OF_DAY.length)]);
+        scene.setNotes(sentence(random, 8));
+        scene.setEstimatedDurationSeconds(panelsPerScene * 3);
+        scene.setCreatedDate(BASE_DATE);
+        scene.setModifiedDate(BASE_DATE);
+        return scene;
+    }
+
+    /**
+     * Generate one panel from its global index (thread-safe, depends only on seed and index)
+     */
+    private Panel generatePanel(int globalIndex) {
+        int sceneIndex = globalIndex / panelsPerScene;
+        int panelIndex = globalIndex % panelsPerScene;
+        SplittableRandom random = randomFor(sceneIndex, panelIndex);
+
+        Panel panel = new Panel();
+        panel.setId(deterministicId(2, globalIndex));
+        panel.setName("Panel " + (sceneIndex + 1) + "." + (panelIndex + 1));
+        panel.setSequenceOrder(panelIndex);
+        panel.setShotType(SHOT_TYPES[random.nextInt(SHOT_TYPES.length)]);
+        panel.setCameraAngle(CAMERA_ANGLES[random.nextInt(CAMERA_ANGLES.length)]);
+        panel.setCameraMovement(MOVEMENTS[random.nextInt(MOVEMENTS.length)]);
+        panel.setTransitionType(TRANSITIONS[random.nextInt(TRANSITIONS.length)]);
+        panel.setDurationSeconds(1 + random.nextInt(6));
+        panel.setKeyFrame(panelIndex == 0);
+        panel.setDialogue(sentence(random, 4 + random.nextInt(12)));
+        panel.setAction(sentence(random, 6 + random.nextInt(10)));
+        panel.setNotes(sentence(random, 5));
+        panel.setAudioNotes(sentence(random, 3));
+        panel.setCanvasBackgroundColor("#FFFFFF");
+
+        String plain = text(random, richTextChars);
+        panel.setDescriptionPlainText(plain);
+        panel.setDescriptionRichText(toHtml(plain));
+
+        List<DrawingElement> elements = generateElements(random, globalIndex);
+        panel.setElements(elements);
+
+        // Canvas data holds the drawing only; thumbnails show it on the panel background, as in the app
+        BufferedImage canvas = renderCanvas(random, elements);
+        panel.setCanvasImageData(encodePng(canvas));
+        BufferedImage composite = PanelImages.toOpaque(canvas, PanelImages.backgroundColor(panel));
+        panel.setThumbnailData(ThumbnailGenerator.createThumbnailFromBufferedImage(composite,
+                ThumbnailGenerator.THUMBNAIL_WIDTH, ThumbnailGenerator.THUMBNAIL_HEIGHT));
+        if (thumbnailPyramid) {
+            panel.setThumbnailLevels(ThumbnailGenerator.generateThumbnailPyramid(composite));
+        }
+        panel.setHasDrawingData(true);
+
+        // Setters above stamp "now" - pin the dates last so output is reproducible
+        panel.setCreatedDate(BASE_DATE.plusSeconds(globalIndex));
+        panel.setModifiedDate(BASE_DATE.plusSeconds(globalIndex));
+        return panel;
+    }
+
+    /**
+     * Vector elements: free-hand paths, rectangles/ellipses and text labels
+     */
+    private List<DrawingElement> generateElements(SplittableRandom random, int globalIndex) {
+        List<DrawingElement> elements = new ArrayList<>(elementsPerPanel);
+        for (int i = 0; i < elementsPerPanel; i++) {
+            DrawingElement element = new DrawingElement();
+            element.setId(deterministicId(3, (long) globalIndex * 65_536 + i));
+            element.setColor(String.format("#%06X", random.nextInt(0x1000000)));
+            element.setStrokeWidth(1 + random.nextInt(8));
+
+            double x = random.nextDouble() * canvasWidth * 0.8;
+            double y = random.nextDouble() * canvasHeight * 0.8;
+            double w = 10 + random.nextDouble() * canvasWidth * 0.3;
+            double h = 10 + random.nextDouble() * canvasHeight * 0.3;
+
+            int kind = random.nextInt(4);
+            if (kind == 0) {
+                // Path data: space separated "x,y" points
+                StringBuilder points = new StringBuilder();
+                double px = x, py = y;
+                double minX = px, minY = py, maxX = px, maxY = py;
+                for (int p = 0; p < 16; p++) {
+                    px = clamp(px + (random.nextDouble() - 0.5) * 40, canvasWidth);
+                    py = clamp(py + (random.nextDouble() - 0.5) * 40, canvasHeight);
+                    minX = Math.min(minX, px);
+                    minY = Math.min(minY, py);
+                    maxX = Math.max(maxX, px);
+                    maxY = Math.max(maxY, py);
+                    if (p > 0) points.append(' ');
+                    points.append(String.format(Locale.ROOT, "%.1f,%.1f", px, py));
+                }
+                element.setType("path");
+                element.setData(points.toString());
+                x = minX;
+                y = minY;
+                w = maxX - minX;
+                h = maxY - minY;
+            } else if (kind == 3) {
+                element.setType("text");
+                element.setData(sentence(random, 3));
+                h = 24;
+            } else {
+                element.setType("shape");
+                element.setData(kind == 1 ? "rectangle" : "ellipse");
+            }
+
+            element.setX(x);
+            element.setY(y);
+            element.setWidth(w);
+            element.setHeight(h);
+            elements.add(element);
+        }
+        return elements;
+    }
+
+    /**
+     * Rasterise the elements plus free-hand pencil strokes on a transparent canvas
+     */
+    private BufferedImage renderCanvas(SplittableRandom random, List<DrawingElement> elements) {
+        BufferedImage image = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        for (DrawingElement element : elements) {
+            g2d.setColor(Color.decode(element.getColor()));
+            g2d.setStroke(new BasicStroke((float) element.getStrokeWidth(), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            switch (element.getType()) {
+                case "path" -> {
+                    Path2D path = new Path2D.Double();
+                    String[] points = element.getData().split(" ");
+                    for (int i = 0; i < points.length; i++) {
+                        String[] xy = points[i].split(",");
+                        double px = Double.parseDouble(xy[0]);
+                        double py = Double.parseDouble(xy[1]);
+                        if (i == 0) path.moveTo(px, py); else path.lineTo(px, py);
+                    }
+                    g2d.draw(path);
+                }
+                case "text" -> {
+                    g2d.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 18));
+                    g2d.drawString(element.getData(), (float) element.getX(), (float) (element.getY() + element.getHeight()));
+                }
+                default -> g2d.draw("rectangle".equals(element.getData())
+                        ? new Rectangle2D.Double(element.getX(), element.getY(), element.getWidth(), element.getHeight())
+                        : new Ellipse2D.Double(element.getX(), element.getY(), element.getWidth(), element.getHeight()));
+            }
+        }
+
+        // Pencil strokes: grey random walks
+        for (int stroke = 0; stroke < strokesPerPanel; stroke++) {
+            int grey = 20 + random.nextInt(120);
+            g2d.setColor(new Color(grey, grey, grey));
+            g2d.setStroke(new BasicStroke(1 + (float) random.nextDouble() * 3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            Path2D path = new Path2D.Double();
+            double x = random.nextDouble() * canvasWidth;
+            double y = random.nextDouble() * canvasHeight;
+            path.moveTo(x, y);
+            for (int point = 0; point < 24; point++) {
+                x = clamp(x + (random.nextDouble() - 0.5) * 24, canvasWidth);
+                y = clamp(y + (random.nextDouble() - 0.5) * 24, canvasHeight);
+                path.lineTo(x, y);
+            }
+            g2d.draw(path);
+        }
+
+        g2d.dispose();
+        return image;
+    }
+
+    // =====================================
+    // SINKS
+    // =====================================
+
+    /**
+     * Stream the project to a JSON project file, a batch of scenes at a time.
+     * Image data is written as base64. The file is export-only: nothing in the app
+     * reads it back. Returns the number of panels written.
+     */
+    public long writeProjectFile(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        long start = System.nanoTime();
+        long written = 0;
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16);
+             JsonGenerator json = new JsonFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            Project project = createProject();
+            json.writeStartObject();
+            json.writeStringField("format", FILE_FORMAT);
+            json.writeNumberField("version", FILE_VERSION);
+            json.writeNumberField("seed", seed);
+            json.writeStringField("id", project.getId());
+            json.writeStringField("name", project.getName());
+            json.writeStringField("description", project.getDescription());
+            json.writeStringField("projectType", project.getProjectType());
+            json.writeNumberField("canvasWidth", project.getCanvasWidth());
+            json.writeNumberField("canvasHeight", project.getCanvasHeight());
+            json.writeStringField("createdDate", project.getCreatedDate().toString());
+
+            json.writeArrayFieldStart("scenes");
+            int batch = scenesPerBatch();
+            for (int from = 0; from < sceneCount; from += batch) {
+                for (Scene scene : generateScenes(from, Math.min(sceneCount, from + batch))) {
+                    writeScene(json, scene);
+                    written += scene.getPanels().size();
+                }
+                logProgress("written", written, start);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+
+        System.out.println("✅ Synthetic project written to " + file.toAbsolutePath() +
+                " (" + written + " panels, " + Files.size(file) / (1024 * 1024) + " MB)");
+        return written;
+    }
+
+    /**
+     * Save the project through the DAOs, a batch of scenes at a time. Returns the project's database id.
+     */
+    public int saveToDatabase() {
+        long start = System.nanoTime();
+        long saved = 0;
+
+        Project project = createProject();
+        ProjectDAO.save(project);
+        int projectId = Integer.parseInt(project.getId());
+
+        int batch = scenesPerBatch();
+        for (int from = 0; from < sceneCount; from += batch) {
+            for (Scene scene : generateScenes(from, Math.min(sceneCount, from + batch))) {
+                SceneDAO.save(scene, projectId);
+                int sceneId = Integer.parseInt(scene.getId());
+                for (Panel panel : scene.getPanels()) {
+                    PanelDAO.save(panel, sceneId);
+                }
+                saved += scene.getPanels().size();
+            }
+            logProgress("saved", saved, start);
+        }
+
+        System.out.println("✅ Synthetic project " + projectId + " saved (" + saved + " panels)");
+        return projectId;
+    }
+
+    private void writeScene(JsonGenerator json, Scene scene) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("id", scene.getId());
+        json.writeStringField("name", scene.getName());
+        json.writeStringField("description", scene.getDescription());
+        json.writeNumberField("sequenceOrder", scene.getSequenceOrder());
+        json.writeStringField("location", scene.getLocation());
+        json.writeStringField("timeOfDay", scene.getTimeOfDay());
+        json.writeStringField("notes", scene.getNotes());
+
+        json.writeArrayFieldStart("panels");
+        for (Panel panel : scene.getPanels()) {
+            json.writeStartObject();
+            json.writeStringField("id", panel.getId());
+            json.writeStringField("name", panel.getName());
+            json.writeNumberField("sequenceOrder", panel.getSequenceOrder());
+            json.writeStringField("shotType", panel.getShotType());
+            json.writeStringField("cameraAngle", panel.getCameraAngle());
+            json.writeStringField("cameraMovement", panel.getCameraMovement());
+            json.writeStringField("transitionType", panel.getTransitionType());
+            json.writeNumberField("durationSeconds", panel.getDurationSeconds());
+            json.writeBooleanField("keyFrame", panel.isKeyFrame());
+            json.writeStringField("dialogue", panel.getDialogue());
+            json.writeStringField("action", panel.getAction());
+            json.writeStringField("notes", panel.getNotes());
+            json.writeStringField("audioNotes", panel.getAudioNotes());
+            json.writeStringField("descriptionRichText", panel.getDescriptionRichText());
+            json.writeStringField("descriptionPlainText", panel.getDescriptionPlainText());
+            json.writeStringField("createdDate", panel.getCreatedDate().toString());
+
+            json.writeArrayFieldStart("elements");
+            for (DrawingElement element : panel.getElements()) {
+                json.writeStartObject();
+                json.writeStringField("id", element.getId());
+                json.writeStringField("type", element.getType());
+                json.writeStringField("data", element.getData());
+                json.writeNumberField("x", element.getX());
+                json.writeNumberField("y", element.getY());
+                json.writeNumberField("width", element.getWidth());
+                json.writeNumberField("height", element.getHeight());
+                json.writeStringField("color", element.getColor());
+                json.writeNumberField("strokeWidth", element.getStrokeWidth());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+
+            json.writeFieldName("canvasImageData");
+            json.writeBinary(panel.getCanvasImageData());
+            json.writeFieldName("thumbnailData");
+            json.writeBinary(panel.getThumbnailData());
+            if (panel.getThumbnailLevels() != null && !panel.getThumbnailLevels().isEmpty()) {
+                json.writeObjectFieldStart("thumbnailLevels");
+                for (Map.Entry<Integer, byte[]> level : panel.getThumbnailLevels().entrySet()) {
+                    json.writeFieldName(String.valueOf(level.getKey()));
+                    json.writeBinary(level.getValue());
+                }
+                json.writeEndObject();
+            }
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private void logProgress(String verb, long panels, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.printf("⏳ %d/%d panels %s (%.0f panels/s)%n", panels, getTotalPanels(), verb,
+                panels / Math.max(seconds, 1e-9));
+    }
+
+    // =====================================
+    // HELPERS
+    // =====================================
+
+    private int scenesPerBatch() {
+        return Math.max(1, BATCH_PANELS / Math.max(1, panelsPerScene));
+    }
+
+    /**
+     * Random stream for one (scene, panel) position - independent of generation order
+     */
+    private SplittableRandom randomFor(int sceneIndex, int panelIndex) {
+        long position = ((long) sceneIndex << 32) ^ (panelIndex & 0xFFFFFFFFL);
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + position);
+    }
+
+    /**
+     * Stable UUID-formatted id (DAOs treat ids containing '-' as not yet saved)
+     */
+    private String deterministicId(int kind, long index) {
+        return new UUID(seed, ((long) kind << 56) | index).toString();
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) text.append(' ');
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        if (!text.isEmpty()) {
+            text.setCharAt(0, Character.toUpperCase(text.charAt(0)));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Plain text of about the given length, in sentences and paragraphs
+     */
+    private static String text(SplittableRandom random, int chars) {
+        StringBuilder text = new StringBuilder(chars + 64);
+        int paragraph = 0;
+        while (text.length() < chars) {
+            String next = sentence(random, 6 + random.nextInt(10)) + ". ";
+            text.append(next);
+            paragraph += next.length();
+            if (paragraph > 400) {
+                text.setLength(text.length() - 1);
+                text.append('\n');
+                paragraph = 0;
+            }
+        }
+        return text.toString().strip();
+    }
+
+    private static String toHtml(String plain) {
+        StringBuilder html = new StringBuilder(plain.length() + 64);
+        html.append("<html><body>");
+        for (String paragraph : plain.split("\n")) {
+            html.append("<p>").append(paragraph).append("</p>");
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    private static byte[] encodePng(BufferedImage image) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "PNG", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double clamp(double value, double max) {
+        return Math.max(0, Math.min(value, max - 1));
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public int getSceneCount() { return sceneCount; }
+    public void setSceneCount(int sceneCount) { this.sceneCount = Math.max(1, sceneCount); }
+
+    public int getPanelsPerScene() { return panelsPerScene; }
+    public void setPanelsPerScene(int panelsPerScene) { this.panelsPerScene = Math.max(1, panelsPerScene); }
+
+    public int getTotalPanels() { return sceneCount * panelsPerScene; }
+
+    public int getCanvasWidth() { return canvasWidth; }
+    public int getCanvasHeight() { return canvasHeight; }
+    public void setCanvasSize(int width, int height) {
+        this.canvasWidth = Math.max(1, width);
+        this.canvasHeight = Math.max(1, height);
+    }
+
+    public int getStrokesPerPanel() { return strokesPerPanel; }
+    public void setStrokesPerPanel(int strokesPerPanel) { this.strokesPerPanel = Math.max(0, strokesPerPanel); }
+
+    public int getElementsPerPanel() { return elementsPerPanel; }
+    public void setElementsPerPanel(int elementsPerPanel) { this.elementsPerPanel = Math.max(0, elementsPerPanel); }
+
+    public int getRichTextChars() { return richTextChars; }
+    public void setRichTextChars(int richTextChars) { this.richTextChars = Math.max(0, richTextChars); }
+
+    public boolean isThumbnailPyramid() { return thumbnailPyramid; }
+    public void setThumbnailPyramid(boolean thumbnailPyramid) { this.thumbnailPyramid = thumbnailPyramid; }
+
+    public int getThreadCount() { return threadCount; }
+    public void setThreadCount(int threadCount) { this.threadCount = Math.max(1, threadCount); }
+}
@@ -0,0 +1,80 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.utils.ThumbnailGenerator;
+import com.example.scenory.view.components.DrawingCanvas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thumbnail paths: the AWT resize alone, the full canvas-to-PNG thumbnail
+ * and the multi-resolution pyramid built from one capture. The canvas is a
+ * DrawingCanvas, so captures read its layer tiles rather than taking a snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", FxBenchmarkSupport.GLASS_MONOCLE, FxBenchmarkSupport.MONOCLE_HEADLESS,
+        FxBenchmarkSupport.PRISM_SOFTWARE})
+public class ThumbnailBenchmark {
+
+    @Param({"800x600", "1920x1080", "2560x1440", "3840x2160"})
+    public String size;
+
+    @Param({"SPARSE", "DENSE"})
+    public FxBenchmarkSupport.Density density;
+
+    private DrawingCanvas canvas;
+    private BufferedImage captured;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FxBenchmarkSupport.startToolkit();
+        int[] dimensions = FxBenchmarkSupport.parseSize(size);
+        FxBenchmarkSupport.onFxThread(() -> {
+            canvas = FxBenchmarkSupport.createCanvas(dimensions[0], dimensions[1], density);
+            captured = ThumbnailGenerator.captureCanvas(canvas);
+            return null;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FxBenchmarkSupport.onFxThread(() -> {
+            canvas.dispose();
+            return null;
+        });
+    }
+
+    @Benchmark
+    public BufferedImage resizeImage() {
+        return ThumbnailGenerator.resizeImage(captured, ThumbnailGenerator.THUMBNAIL_WIDTH,
+                ThumbnailGenerator.THUMBNAIL_HEIGHT);
+    }
+
+    @Benchmark
+    public byte[] generateThumbnail() throws Exception {
+        return FxBenchmarkSupport.onFxThread(() -> ThumbnailGenerator.generateThumbnail(canvas));
+    }
+
+    @Benchmark
+    public Map<Integer, byte[]> generateThumbnailPyramid() {
+        return ThumbnailGenerator.generateThumbnailPyramid(captured);
+    }
+}
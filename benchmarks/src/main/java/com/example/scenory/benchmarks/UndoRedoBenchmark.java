@@ -0,0 +1,111 @@
+package com.example.scenory.benchmarks;
+
+import com.example.scenory.commands.CommandManager;
+import com.example.scenory.view.components.DrawingCanvas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommandManager latency with a full history: execute (including journaling
+ * the touched tiles and the trim), an undo+redo round trip, and the
+ * bookkeeping cost of pushing onto and trimming a history of a given size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", FxBenchmarkSupport.GLASS_MONOCLE, FxBenchmarkSupport.MONOCLE_HEADLESS,
+        FxBenchmarkSupport.PRISM_SOFTWARE})
+public class UndoRedoBenchmark {
+
+    @Param({"50", "200", "1000"})
+    public int historySize;
+
+    @Param({"STROKE", "SHAPE", "MIXED"})
+    public HistoryWorkloads.Workload workload;
+
+    @Param({"800x600", "1920x1080"})
+    public String size;
+
+    private DrawingCanvas canvas;
+    private CommandManager commandManager;
+    private CommandManager bookkeepingManager;
+    private Random random;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        FxBenchmarkSupport.startToolkit();
+        int[] dimensions = FxBenchmarkSupport.parseSize(size);
+        random = new Random(7);
+
+        FxBenchmarkSupport.onFxThread(() -> {
+            canvas = new DrawingCanvas(dimensions[0], dimensions[1]);
+            commandManager = new CommandManager();
+            commandManager.setMaxHistorySize(historySize);
+            for (int i = 0; i < historySize; i++) {
+                commandManager.executeCommand(HistoryWorkloads.next(workload, canvas, random));
+            }
+            // Flush queued canvas operations so they are not carried into the measurement
+            canvas.snapshot();
+
+            bookkeepingManager = new CommandManager();
+            bookkeepingManager.setMaxHistorySize(historySize);
+            for (int i = 0; i < historySize; i++) {
+                bookkeepingManager.executeCommand(new HistoryWorkloads.NoOpCommand());
+            }
+            return null;
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        // Each iteration builds a new canvas; stop the old one's render thread
+        FxBenchmarkSupport.onFxThread(() -> {
+            canvas.dispose();
+            return null;
+        });
+    }
+
+    /**
+     * Build and execute a command on a full history (tile journal + draw + trim)
+     */
+    @Benchmark
+    public int execute() throws Exception {
+        return FxBenchmarkSupport.onFxThread(() -> {
+            commandManager.executeCommand(HistoryWorkloads.next(workload, canvas, random));
+            return commandManager.getUndoStackSize();
+        });
+    }
+
+    /**
+     * Undo then redo the most recent command
+     */
+    @Benchmark
+    public boolean undoRedo() throws Exception {
+        return FxBenchmarkSupport.onFxThread(() -> commandManager.undo() && commandManager.redo());
+    }
+
+    /**
+     * Push onto a full history with no canvas work: the cost of trimUndoStack itself
+     */
+    @Benchmark
+    public int executeAndTrimBookkeeping() {
+        bookkeepingManager.executeCommand(new HistoryWorkloads.NoOpCommand());
+        return bookkeepingManager.getUndoStackSize();
+    }
+}
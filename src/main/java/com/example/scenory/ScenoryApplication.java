@@ -1,5 +1,8 @@
 package com.example.scenory;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.utils.FxStallWatchdog;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -11,8 +14,14 @@ import java.io.IOException;
 import java.net.URL;
 
 public class ScenoryApplication extends Application {
+
+    private static final Logger LOG = Log.getLogger(ScenoryApplication.class);
+
     @Override
     public void start(Stage stage) throws IOException {
+        // Watch the FX thread for stalls from the first screen on
+        FxStallWatchdog.getInstance().start();
+
         FXMLLoader fxmlLoader = new FXMLLoader(
                 ScenoryApplication.class.getResource("welcome-view.fxml")
         );
@@ -26,17 +35,17 @@ public class ScenoryApplication extends Application {
             Font.loadFont(getClass().getResourceAsStream("/com/example/scenory/fonts/Outfit/static/Outfit-ExtraBold.ttf"), 14);
             Font.loadFont(getClass().getResourceAsStream("/com/example/scenory/fonts/SpaceGrotesk/static/SpaceGrotesk-Regular.ttf"), 14);
             Font.loadFont(getClass().getResourceAsStream("/com/example/scenory/fonts/JetBrainsMono/static/JetBrainsMono-Regular.ttf"), 14);
-            System.out.println("✅ Custom fonts loaded successfully");
+            LOG.info("✅ Custom fonts loaded successfully");
         } catch (Exception e) {
-            System.out.println("⚠️ Could not load custom fonts: " + e.getMessage());
+            LOG.warn("⚠️ Could not load custom fonts: " + e.getMessage());
         }
 
         try {
             String cssFile = ScenoryApplication.class.getResource("styles.css").toExternalForm();
             scene.getStylesheets().add(cssFile);
-            System.out.println("✅ CSS loaded successfully");
+            LOG.info("✅ CSS loaded successfully");
         } catch (Exception e) {
-            System.out.println("⚠️ CSS file not found. Running with default styling.");
+            LOG.warn("⚠️ CSS file not found. Running with default styling.");
         }
 
         stage.setTitle("Scenory - Professional Storyboard Creator");
@@ -45,9 +54,9 @@ public class ScenoryApplication extends Application {
         URL iconUrl = ScenoryApplication.class.getResource("/com/example/scenory/icon.png");
         if (iconUrl != null) {
             stage.getIcons().add(new Image(iconUrl.toExternalForm()));
-            System.out.println("🖼️ App icon loaded successfully");
+            LOG.info("🖼️ App icon loaded successfully");
         } else {
-            System.out.println("⚠️ Icon not found at: /com/example/scenory/icon.png");
+            LOG.warn("⚠️ Icon not found at: /com/example/scenory/icon.png");
         }
 
         stage.setScene(scene);
@@ -56,7 +65,7 @@ public class ScenoryApplication extends Application {
         stage.centerOnScreen();
         stage.show();
 
-        System.out.println("🚀 Scenory application started - Welcome screen displayed");
+        LOG.info("🚀 Scenory application started - Welcome screen displayed");
     }
 
     public static void main(String[] args) {
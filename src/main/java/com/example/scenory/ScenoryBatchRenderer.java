@@ -0,0 +1,268 @@
+package com.example.scenory;
+
+import com.example.scenory.database.DatabaseManager;
+import com.example.scenory.database.ProjectDAO;
+import com.example.scenory.export.AnimaticExporter;
+import com.example.scenory.export.ExportProgressListener;
+import com.example.scenory.export.ExportResult;
+import com.example.scenory.export.ExportSequence;
+import com.example.scenory.export.ImageExporter;
+import com.example.scenory.export.PdfStoryboardExporter;
+import com.example.scenory.model.Project;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless batch renderer - produces storyboard deliverables without the GUI.
+ * Projects are loaded through the DAOs and rendered by the same export engines
+ * the application uses (pure AWT, no Stage or FX toolkit). Several projects are
+ * rendered at once; the machine's cores are split between them.
+ *
+ * <pre>
+ * ScenoryBatchRenderer [options] (--all | projectId...)
+ *   --out DIR           Output root (default: renders)
+ *   --images png|jpg    Export panel images
+ *   --pdf               Export a storyboard PDF
+ *   --animatic avi|seq  Export an animatic (MJPEG AVI or image sequence)
+ *   --scale PERCENT     Image/animatic scale (default: 100)
+ *   --fps N             Animatic frame rate (default: 24)
+ *   --jobs N            Projects rendered concurrently (default: sized to the machine)
+ * </pre>
+ *
+ * From Maven: {@code mvn javafx:run@batch -Djavafx.args="--pdf --all"}
+ */
+public class ScenoryBatchRenderer {
+
+    private static final long PROGRESS_INTERVAL_MS = 2000;
+
+    // Options
+    private final List<String> projectIds = new ArrayList<>();
+    private boolean allProjects;
+    private Path outputRoot = Paths.get("renders");
+    private ImageExporter.Format imageFormat;
+    private boolean pdf;
+    private AnimaticExporter.Container animatic;
+    private double scale = 1.0;
+    private double fps = 24.0;
+    private int jobs;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        ScenoryBatchRenderer renderer = new ScenoryBatchRenderer();
+        try {
+            renderer.parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+        System.exit(renderer.run() ? 0 : 1);
+    }
+
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--all" -> allProjects = true;
+                case "--out" -> outputRoot = Paths.get(value(args, ++i, arg));
+                case "--images" -> imageFormat = value(args, ++i, arg).toLowerCase().startsWith("jp") ?
+                        ImageExporter.Format.JPEG : ImageExporter.Format.PNG;
+                case "--pdf" -> pdf = true;
+                case "--animatic" -> animatic = "seq".equalsIgnoreCase(value(args, ++i, arg)) ?
+                        AnimaticExporter.Container.IMAGE_SEQUENCE : AnimaticExporter.Container.AVI_MJPEG;
+                case "--scale" -> scale = number(value(args, ++i, arg), arg) / 100.0;
+                case "--fps" -> fps = number(value(args, ++i, arg), arg);
+                case "--jobs" -> jobs = (int) number(value(args, ++i, arg), arg);
+                case "--help", "-h" -> {
+                    printUsage();
+                    System.exit(0);
+                }
+                default -> {
+                    if (arg.startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                    projectIds.add(arg);
+                }
+            }
+        }
+
+        if (!allProjects && projectIds.isEmpty()) {
+            throw new IllegalArgumentException("No projects given");
+        }
+        if (imageFormat == null && !pdf && animatic == null) {
+            // Nothing requested - default to the storyboard PDF
+            pdf = true;
+        }
+    }
+
+    /**
+     * Render every requested project. Returns true if all deliverables were produced.
+     */
+    private boolean run() {
+        // Create the connection pool once, before any worker touches it
+        DatabaseManager.getInstance();
+
+        if (allProjects) {
+            ProjectDAO.loadAll().forEach(project -> projectIds.add(project.getId()));
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        int projectJobs = jobs > 0 ? jobs : Math.max(1, Math.min(projectIds.size(), cores / 4));
+        int threadsPerProject = Math.max(1, cores / projectJobs);
+
+        System.out.println("🖨️ Batch rendering " + projectIds.size() + " projects to " + outputRoot.toAbsolutePath() +
+                " (" + projectJobs + " concurrent, " + threadsPerProject + " threads each)");
+
+        long start = System.nanoTime();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(projectJobs, runnable -> {
+            Thread thread = new Thread(runnable, "batch-project");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (String projectId : projectIds) {
+            futures.add(pool.submit(() -> {
+                if (!renderProject(projectId, threadsPerProject)) {
+                    failures.incrementAndGet();
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                System.err.println("❌ Batch job failed: " + e.getMessage());
+            }
+        }
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("%s Batch finished: %d/%d projects rendered in %.1fs%n",
+                failures.get() == 0 ? "✅" : "⚠️", projectIds.size() - failures.get(), projectIds.size(), seconds);
+        return failures.get() == 0;
+    }
+
+    /**
+     * Load one project and run each requested exporter
+     */
+    private boolean renderProject(String projectId, int threads) {
+        Project project;
+        try {
+            project = ProjectDAO.loadByStringId(projectId);
+        } catch (NumberFormatException e) {
+            project = null;
+        }
+        if (project == null) {
+            System.err.println("❌ Project not found: " + projectId);
+            return false;
+        }
+
+        String label = project.getName() + " #" + projectId;
+        Path projectDir = outputRoot.resolve(ExportSequence.sanitize(project.getName()) + "_" + projectId);
+        boolean ok = true;
+
+        try {
+            if (imageFormat != null) {
+                ImageExporter exporter = new ImageExporter();
+                exporter.setFormat(imageFormat);
+                exporter.setScale(scale);
+                exporter.setThreadCount(threads);
+                exporter.setProgressListener(progress(label, "images"));
+                ok &= report(label, "images", exporter.exportAll(project, projectDir.resolve("images")));
+            }
+
+            if (pdf) {
+                PdfStoryboardExporter exporter = new PdfStoryboardExporter();
+                exporter.setThreadCount(threads);
+                exporter.setProgressListener(progress(label, "pdf"));
+                Files.createDirectories(projectDir);
+                ok &= report(label, "pdf", exporter.export(project, projectDir.resolve("storyboard.pdf")));
+            }
+
+            if (animatic != null) {
+                AnimaticExporter exporter = new AnimaticExporter();
+                exporter.setContainer(animatic);
+                exporter.setFps(fps);
+                exporter.setScale(scale);
+                exporter.setThreadCount(threads);
+                exporter.setProgressListener(progress(label, "animatic"));
+                Path target = animatic == AnimaticExporter.Container.AVI_MJPEG
+                        ? projectDir.resolve("animatic.avi") : projectDir.resolve("animatic");
+                Files.createDirectories(projectDir);
+                ok &= report(label, "animatic", exporter.export(project, target));
+            }
+        } catch (Exception e) {
+            System.err.println("❌ [" + label + "] Render failed: " + e.getMessage());
+            return false;
+        }
+        return ok;
+    }
+
+    private static boolean report(String label, String stage, ExportResult result) {
+        boolean ok = result.getFailed() == 0 && !result.isCancelled();
+        System.out.println((ok ? "✅ [" : "⚠️ [") + label + "] " + stage + ": " + result);
+        return ok;
+    }
+
+    /**
+     * Progress listener that prints at most one line per interval (workers report concurrently)
+     */
+    private static ExportProgressListener progress(String label, String stage) {
+        AtomicLong lastPrinted = new AtomicLong();
+        return (completed, total, entry) -> {
+            long now = System.currentTimeMillis();
+            long last = lastPrinted.get();
+            if ((now - last >= PROGRESS_INTERVAL_MS || completed == total) && lastPrinted.compareAndSet(last, now)) {
+                System.out.println("⏳ [" + label + "] " + stage + " " + completed + "/" + total);
+            }
+        };
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static double number(String value, String option) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + value);
+        }
+    }
+
+    private static void printUsage() {
+        System.out.println("""
+            Usage: ScenoryBatchRenderer [options] (--all | projectId...)
+              --out DIR           Output root (default: renders)
+              --images png|jpg    Export panel images
+              --pdf               Export a storyboard PDF (default if nothing else is chosen)
+              --animatic avi|seq  Export an animatic (MJPEG AVI or image sequence)
+              --scale PERCENT     Image/animatic scale (default: 100)
+              --fps N             Animatic frame rate (default: 24)
+              --jobs N            Projects rendered concurrently (default: sized to the machine)
+            """);
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.scenory.commands;
 
 import com.example.scenory.view.components.DrawingCanvas;
-import javafx.scene.image.WritableImage;
+import com.example.scenory.view.components.TiledRaster;
 
 /**
  * Command that captures the entire canvas state
@@ -9,20 +9,20 @@ import javafx.scene.image.WritableImage;
  */
 public class CanvasStateCommand implements DrawingCommand {
     private final DrawingCanvas canvas;
-    private final WritableImage beforeState;
-    private final WritableImage afterState;
+    private final TiledRaster.Snapshot beforeState;
+    private final TiledRaster.Snapshot afterState;
     private final String description;
 
     public CanvasStateCommand(DrawingCanvas canvas, String description) {
         this.canvas = canvas;
         this.description = description;
-        this.beforeState = canvas.snapshot(null, null);
+        this.beforeState = canvas.captureState("state before", null);
         this.afterState = null; // Will be set when command is executed
     }
 
     // Constructor for when we already have both states
-    public CanvasStateCommand(DrawingCanvas canvas, WritableImage beforeState,
-                              WritableImage afterState, String description) {
+    public CanvasStateCommand(DrawingCanvas canvas, TiledRaster.Snapshot beforeState,
+                              TiledRaster.Snapshot afterState, String description) {
         this.canvas = canvas;
         this.beforeState = beforeState;
         this.afterState = afterState;
@@ -43,17 +43,16 @@ public class CanvasStateCommand implements DrawingCommand {
         }
     }
 
-    private void restoreCanvasState(WritableImage state) {
+    private void restoreCanvasState(TiledRaster.Snapshot state) {
         if (state != null && canvas != null) {
-            canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-            canvas.getGraphicsContext2D().drawImage(state, 0, 0);
+            canvas.restoreState(state);
         }
     }
 
     public void captureAfterState() {
         if (afterState == null) {
             // Capture the state after the operation
-            WritableImage newAfterState = canvas.snapshot(null, null);
+            TiledRaster.Snapshot newAfterState = canvas.captureState("state after", null);
             // Create new command with both states
             // (We can't modify final fields, so this is handled externally)
         }
@@ -63,4 +62,9 @@ public class CanvasStateCommand implements DrawingCommand {
     public String getDescription() {
         return description;
     }
+
+    @Override
+    public long getMemoryFootprint() {
+        return DrawingCommand.snapshotBytes(beforeState) + DrawingCommand.snapshotBytes(afterState);
+    }
 }
\ No newline at end of file
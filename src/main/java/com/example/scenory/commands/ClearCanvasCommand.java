@@ -1,18 +1,18 @@
 package com.example.scenory.commands;
 
 import com.example.scenory.view.components.DrawingCanvas;
-import javafx.scene.image.WritableImage;
+import com.example.scenory.view.components.TiledRaster;
 
 /**
  * Command for clearing the entire canvas
  */
 public class ClearCanvasCommand implements DrawingCommand {
     private final DrawingCanvas canvas;
-    private final WritableImage beforeState;
+    private final TiledRaster.Snapshot beforeState;
 
     public ClearCanvasCommand(DrawingCanvas canvas) {
         this.canvas = canvas;
-        this.beforeState = canvas.snapshot(null, null);
+        this.beforeState = canvas.captureState("clear before", null);
     }
 
     @Override
@@ -23,8 +23,7 @@ public class ClearCanvasCommand implements DrawingCommand {
     @Override
     public void undo() {
         if (beforeState != null) {
-            canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-            canvas.getGraphicsContext2D().drawImage(beforeState, 0, 0);
+            canvas.restoreState(beforeState);
         }
     }
 
@@ -32,4 +31,9 @@ public class ClearCanvasCommand implements DrawingCommand {
     public String getDescription() {
         return "Clear Canvas";
     }
+
+    @Override
+    public long getMemoryFootprint() {
+        return DrawingCommand.snapshotBytes(beforeState);
+    }
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.example.scenory.commands;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Metrics;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.StringProperty;
 import javafx.beans.property.SimpleStringProperty;
 
+import java.lang.ref.WeakReference;
 import java.util.Stack;
 
 /**
@@ -13,6 +17,22 @@ import java.util.Stack;
  */
 public class CommandManager {
 
+    private static final Logger LOG = Log.getLogger(CommandManager.class);
+
+    // The undo.* gauges report the manager the canvas is using; held weakly so a replaced one can go
+    private static volatile WeakReference<CommandManager> active = new WeakReference<>(null);
+
+    static {
+        Metrics.gauge("undo.memory.bytes", () -> {
+            CommandManager manager = active.get();
+            return manager != null ? manager.historyBytes : 0;
+        });
+        Metrics.gauge("undo.depth", () -> {
+            CommandManager manager = active.get();
+            return manager != null ? manager.undoStack.size() : 0;
+        });
+    }
+
     // Command stacks
     private final Stack<DrawingCommand> undoStack = new Stack<>();
     private final Stack<DrawingCommand> redoStack = new Stack<>();
@@ -30,6 +50,23 @@ public class CommandManager {
     // State tracking
     private DrawingCommand currentStroke = null; // For merging strokes
 
+    // Pixel data held by both stacks, refreshed whenever they change (read by metrics gauges)
+    private volatile long historyBytes;
+
+    // Listener notified whenever a command changes the canvas
+    public interface CommandAppliedListener {
+        void onCommandApplied(DrawingCommand command);
+    }
+
+    private CommandAppliedListener commandAppliedListener;
+
+    /**
+     * Report this manager's history through the undo.* gauges
+     */
+    public void makeActive() {
+        active = new WeakReference<>(this);
+    }
+
     /**
      * Execute a command and add it to the undo stack
      */
@@ -39,6 +76,7 @@ public class CommandManager {
                 currentStroke.canMergeWith(command)) {
             currentStroke.mergeWith(command);
             updateProperties();
+            fireCommandApplied(command);
             return;
         }
 
@@ -63,8 +101,9 @@ public class CommandManager {
 
         // Update UI properties
         updateProperties();
+        fireCommandApplied(command);
 
-        System.out.println("✅ Executed: " + command.getDescription() +
+        LOG.debug(() -> "✅ Executed: " + command.getDescription() +
                 " (Undo stack: " + undoStack.size() + ")");
     }
 
@@ -84,8 +123,9 @@ public class CommandManager {
         currentStroke = null;
 
         updateProperties();
+        fireCommandApplied(command);
 
-        System.out.println("↶ Undid: " + command.getDescription() +
+        LOG.debug(() -> "↶ Undid: " + command.getDescription() +
                 " (Undo: " + undoStack.size() + ", Redo: " + redoStack.size() + ")");
 
         return true;
@@ -107,8 +147,9 @@ public class CommandManager {
         currentStroke = null;
 
         updateProperties();
+        fireCommandApplied(command);
 
-        System.out.println("↷ Redid: " + command.getDescription() +
+        LOG.debug(() -> "↷ Redid: " + command.getDescription() +
                 " (Undo: " + undoStack.size() + ", Redo: " + redoStack.size() + ")");
 
         return true;
@@ -123,7 +164,7 @@ public class CommandManager {
         currentStroke = null;
         updateProperties();
 
-        System.out.println("🧹 Command history cleared");
+        LOG.debug("🧹 Command history cleared");
     }
 
     /**
@@ -160,12 +201,33 @@ public class CommandManager {
      * Update UI binding properties
      */
     private void updateProperties() {
+        historyBytes = computeHistoryBytes();
         canUndo.set(!undoStack.isEmpty());
         canRedo.set(!redoStack.isEmpty());
         undoDescription.set(getUndoDescription());
         redoDescription.set(getRedoDescription());
     }
 
+    private long computeHistoryBytes() {
+        long bytes = 0;
+        for (DrawingCommand command : undoStack) {
+            bytes += command.getMemoryFootprint();
+        }
+        for (DrawingCommand command : redoStack) {
+            bytes += command.getMemoryFootprint();
+        }
+        return bytes;
+    }
+
+    /**
+     * Notify listener that a command changed the canvas
+     */
+    private void fireCommandApplied(DrawingCommand command) {
+        if (commandAppliedListener != null) {
+            commandAppliedListener.onCommandApplied(command);
+        }
+    }
+
     /**
      * Trim undo stack to prevent memory issues
      */
@@ -216,6 +278,10 @@ public class CommandManager {
         return mergeConsecutiveStrokes;
     }
 
+    public void setCommandAppliedListener(CommandAppliedListener listener) {
+        this.commandAppliedListener = listener;
+    }
+
     // =====================================
     // STATUS METHODS
     // =====================================
@@ -232,17 +298,21 @@ public class CommandManager {
         return undoStack.size();
     }
 
+    public long getHistoryBytes() {
+        return historyBytes;
+    }
+
     public int getRedoStackSize() {
         return redoStack.size();
     }
 
     public void printStatus() {
-        System.out.println("📊 Command Manager Status:");
-        System.out.println("  Undo Stack: " + undoStack.size() + " commands");
-        System.out.println("  Redo Stack: " + redoStack.size() + " commands");
-        System.out.println("  Can Undo: " + canUndo());
-        System.out.println("  Can Redo: " + canRedo());
-        System.out.println("  Max History: " + maxHistorySize);
-        System.out.println("  Merge Strokes: " + mergeConsecutiveStrokes);
+        LOG.info("📊 Command Manager Status:");
+        LOG.info("  Undo Stack: " + undoStack.size() + " commands");
+        LOG.info("  Redo Stack: " + redoStack.size() + " commands");
+        LOG.info("  Can Undo: " + canUndo());
+        LOG.info("  Can Redo: " + canRedo());
+        LOG.info("  Max History: " + maxHistorySize);
+        LOG.info("  Merge Strokes: " + mergeConsecutiveStrokes);
     }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.example.scenory.commands;
 
+import com.example.scenory.view.components.TiledRaster;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
 /**
  * Command Pattern Interface for Undo/Redo System
  * All drawing operations implement this interface
@@ -34,4 +38,32 @@ public interface DrawingCommand {
     default void mergeWith(DrawingCommand other) {
         // Default implementation does nothing
     }
+
+    /**
+     * Canvas region changed by this command (null means the whole canvas)
+     */
+    default Rectangle2D getDirtyRegion() {
+        return null;
+    }
+
+    /**
+     * Approximate bytes of pixel data this command keeps for undo/redo
+     */
+    default long getMemoryFootprint() {
+        return 0;
+    }
+
+    /**
+     * Bytes held by a captured image (4 bytes per pixel)
+     */
+    static long imageBytes(Image image) {
+        return image == null ? 0 : (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+
+    /**
+     * Bytes held by saved raster tiles
+     */
+    static long snapshotBytes(TiledRaster.Snapshot snapshot) {
+        return snapshot == null ? 0 : snapshot.getMemoryFootprint();
+    }
 }
@@ -0,0 +1,138 @@
+package com.example.scenory.commands;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
+import com.example.scenory.utils.FloodFill;
+import com.example.scenory.view.components.DrawingCanvas;
+import com.example.scenory.view.components.TiledRaster;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.paint.Color;
+
+/**
+ * Command for the fill tool: flood-fills the active layer from a point.
+ * apply() runs the fill once and journals the tiles it changed; redo and undo
+ * then just swap those tiles. Only a window around the seed is read, grown
+ * until the fill stays clear of its edges, so small fills never copy the layer.
+ */
+public class FillCommand implements DrawingCommand {
+
+    private static final Logger LOG = Log.getLogger(FillCommand.class);
+    private static final Timer FILL_TIMER = Metrics.timer("fill");
+
+    private final DrawingCanvas canvas;
+    private final int x, y;
+    private final Color color;
+    private final int tolerance;
+    private final int gapSize;
+    private TiledRaster.Snapshot beforeState;
+    private TiledRaster.Snapshot afterState;
+    private Rectangle2D dirtyRegion = Rectangle2D.EMPTY;
+    private boolean applied;   // the raster currently shows the filled pixels
+
+    public FillCommand(DrawingCanvas canvas, double x, double y, Color color, int tolerance, int gapSize) {
+        this.canvas = canvas;
+        this.x = (int) Math.floor(x);
+        this.y = (int) Math.floor(y);
+        this.color = color;
+        this.tolerance = tolerance;
+        this.gapSize = gapSize;
+    }
+
+    /**
+     * Run the fill if it has not run yet; returns false if it changed no pixels (nothing to undo)
+     */
+    public boolean apply() {
+        if (afterState == null) {
+            fill();
+        }
+        return afterState != null;
+    }
+
+    @Override
+    public void execute() {
+        if (applied) return;
+        if (afterState != null) {
+            canvas.restoreState(afterState);
+            applied = true;
+            return;
+        }
+        fill();
+    }
+
+    @Override
+    public void undo() {
+        if (beforeState != null) {
+            canvas.restoreState(beforeState);
+            applied = false;
+        }
+    }
+
+    private void fill() {
+        long start = System.nanoTime();
+        TiledRaster raster = canvas.getRaster();
+        int width = raster.getWidth();
+        int height = raster.getHeight();
+
+        // Pixels within this distance of a window edge may depend on pixels outside it (gap closing)
+        int margin = 2 * gapSize + 2;
+        int radius = TiledRaster.TILE_SIZE;
+        int wx0, wy0, ww, wh;
+        FloodFill.Result result;
+        while (true) {
+            wx0 = Math.max(0, x - radius);
+            wy0 = Math.max(0, y - radius);
+            ww = Math.min(width, x + radius) - wx0;
+            wh = Math.min(height, y + radius) - wy0;
+            int[] pixels = new int[ww * wh];
+            raster.getPixels(wx0, wy0, ww, wh, pixels);
+
+            result = FloodFill.fill(pixels, ww, wh, x - wx0, y - wy0, tolerance, gapSize);
+            if (result == null || result.getFilledCount() == 0) {
+                return;
+            }
+            boolean clearOfEdges = (wx0 == 0 || result.getMinX() >= margin)
+                    && (wy0 == 0 || result.getMinY() >= margin)
+                    && (wx0 + ww == width || result.getMaxX() <= ww - margin)
+                    && (wy0 + wh == height || result.getMaxY() <= wh - margin);
+            if (clearOfEdges) break;
+            radius *= 2;
+        }
+
+        raster.beginJournal();
+        raster.fillMask(result.getMask(), wx0, wy0, result.getWidth(), wx0 + result.getMinX(),
+                wy0 + result.getMinY(), wx0 + result.getMaxX(), wy0 + result.getMaxY(), color);
+        TiledRaster.Snapshot changed = raster.endJournal();
+        if (changed.getTileCount() == 0) {
+            // Every filled pixel already had the fill colour
+            return;
+        }
+        beforeState = changed;
+        afterState = raster.captureSameTiles(beforeState);
+        applied = true;
+        dirtyRegion = new Rectangle2D(wx0 + result.getMinX(), wy0 + result.getMinY(),
+                result.getMaxX() - result.getMinX(), result.getMaxY() - result.getMinY());
+        canvas.present();
+
+        long elapsed = System.nanoTime() - start;
+        FILL_TIMER.record(elapsed);
+        int filledCount = result.getFilledCount();
+        LOG.debug(() -> "🪣 Filled " + filledCount + " pixels in " + (elapsed / 1_000_000) + " ms");
+    }
+
+    @Override
+    public Rectangle2D getDirtyRegion() {
+        return dirtyRegion;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Fill";
+    }
+
+    @Override
+    public long getMemoryFootprint() {
+        return DrawingCommand.snapshotBytes(beforeState) + DrawingCommand.snapshotBytes(afterState);
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.scenory.commands;
 
 import com.example.scenory.view.components.DrawingCanvas;
+import com.example.scenory.view.components.TiledRaster;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.paint.Color;
-import javafx.scene.image.WritableImage;
+
+import java.awt.BasicStroke;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
 
 /**
  * Command for drawing shapes (rectangles, circles, lines)
  */
 public class ShapeCommand implements DrawingCommand {
     private final DrawingCanvas canvas;
-    private final WritableImage beforeState;
+    private TiledRaster.Snapshot beforeState; // tiles under the shape, journaled while drawing
     private final ShapeType shapeType;
     private final double startX, startY, endX, endY;
     private final Color color;
@@ -32,15 +37,17 @@ public class ShapeCommand implements DrawingCommand {
         this.color = color;
         this.strokeWidth = strokeWidth;
         this.filled = filled;
-        this.beforeState = canvas.snapshot(null, null);
     }
 
     @Override
     public void execute() {
-        var gc = canvas.getGraphicsContext2D();
-        gc.setStroke(color);
-        gc.setFill(color);
-        gc.setLineWidth(strokeWidth);
+        // Redo paints into the layer the shape was first drawn on (while it still exists)
+        TiledRaster raster = canvas.getRaster();
+        if (beforeState != null && canvas.getLayers().indexOf(beforeState.getOwner()) >= 0) {
+            raster = beforeState.getOwner();
+        }
+        java.awt.Color awtColor = TiledRaster.toAwtColor(color);
+        java.awt.Shape shape;
 
         switch (shapeType) {
             case RECTANGLE:
@@ -48,12 +55,7 @@ public class ShapeCommand implements DrawingCommand {
                 double height = Math.abs(endY - startY);
                 double x = Math.min(startX, endX);
                 double y = Math.min(startY, endY);
-
-                if (filled) {
-                    gc.fillRect(x, y, width, height);
-                } else {
-                    gc.strokeRect(x, y, width, height);
-                }
+                shape = new java.awt.geom.Rectangle2D.Double(x, y, width, height);
                 break;
 
             case CIRCLE:
@@ -61,32 +63,69 @@ public class ShapeCommand implements DrawingCommand {
                 double centerY = (startY + endY) / 2;
                 double radius = Math.sqrt(Math.pow(endX - startX, 2) + Math.pow(endY - startY, 2)) / 2;
                 double diameter = radius * 2;
-                double circleX = centerX - radius;
-                double circleY = centerY - radius;
-
-                if (filled) {
-                    gc.fillOval(circleX, circleY, diameter, diameter);
-                } else {
-                    gc.strokeOval(circleX, circleY, diameter, diameter);
-                }
+                shape = new Ellipse2D.Double(centerX - radius, centerY - radius, diameter, diameter);
                 break;
 
-            case LINE:
-                gc.strokeLine(startX, startY, endX, endY);
+            default:
+                shape = new Line2D.Double(startX, startY, endX, endY);
                 break;
         }
+
+        // Journal the tiles the shape covers so undo restores only those
+        raster.beginJournal();
+        raster.paint(getDirtyRegion(), g -> {
+            g.setColor(awtColor);
+            g.setStroke(new BasicStroke((float) strokeWidth, BasicStroke.CAP_ROUND,
+                    shapeType == ShapeType.LINE ? BasicStroke.JOIN_ROUND : BasicStroke.JOIN_MITER));
+            if (filled && shapeType != ShapeType.LINE) {
+                g.fill(shape);
+            } else {
+                g.draw(shape);
+            }
+        });
+        beforeState = raster.endJournal();
+        canvas.present();
     }
 
     @Override
     public void undo() {
         if (beforeState != null) {
-            canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-            canvas.getGraphicsContext2D().drawImage(beforeState, 0, 0);
+            canvas.restoreState(beforeState);
         }
     }
 
+    @Override
+    public Rectangle2D getDirtyRegion() {
+        double minX, minY, maxX, maxY;
+
+        if (shapeType == ShapeType.CIRCLE) {
+            double centerX = (startX + endX) / 2;
+            double centerY = (startY + endY) / 2;
+            double radius = Math.sqrt(Math.pow(endX - startX, 2) + Math.pow(endY - startY, 2)) / 2;
+            minX = centerX - radius;
+            minY = centerY - radius;
+            maxX = centerX + radius;
+            maxY = centerY + radius;
+        } else {
+            minX = Math.min(startX, endX);
+            minY = Math.min(startY, endY);
+            maxX = Math.max(startX, endX);
+            maxY = Math.max(startY, endY);
+        }
+
+        // Pad by half the line width plus a pixel for antialiasing
+        double pad = strokeWidth / 2 + 1;
+        return new Rectangle2D(minX - pad, minY - pad,
+                (maxX - minX) + pad * 2, (maxY - minY) + pad * 2);
+    }
+
     @Override
     public String getDescription() {
         return "Draw " + shapeType.toString().toLowerCase();
     }
+
+    @Override
+    public long getMemoryFootprint() {
+        return DrawingCommand.snapshotBytes(beforeState);
+    }
 }
\ No newline at end of file
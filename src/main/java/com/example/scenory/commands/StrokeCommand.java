@@ -1,51 +1,135 @@
 package com.example.scenory.commands;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.utils.StrokeLatencyMonitor;
+import com.example.scenory.utils.StrokeSimplifier;
+import com.example.scenory.view.components.BrushEngine;
 import com.example.scenory.view.components.DrawingCanvas;
+import com.example.scenory.view.components.TiledRaster;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.paint.Color;
-import javafx.scene.image.WritableImage;
 import com.example.scenory.enums.DrawingTool;
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.geom.Path2D;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Command for drawing strokes (can be merged for continuous drawing)
+ * The raster journals the tiles the stroke touches, so undo/redo keeps
+ * only those tiles instead of two full-canvas snapshots.
+ *
+ * When the stroke is finished its points are simplified to within a pixel
+ * and the stroke is repainted once as a smooth curve through what is left,
+ * replacing the segments drawn live.
  */
 public class StrokeCommand implements DrawingCommand {
+
+    private static final Logger LOG = Log.getLogger(StrokeCommand.class);
+
+    // Largest distance (px) a dropped point may be from the simplified stroke
+    private static final double SIMPLIFY_TOLERANCE = 0.75;
+    // Rough heap cost of one stored point (object header, two doubles, list slot)
+    private static final long POINT_BYTES = 40;
+
     private final DrawingCanvas canvas;
-    private final WritableImage beforeState;
-    private WritableImage afterState;
+    private TiledRaster.Snapshot beforeState;
+    private TiledRaster.Snapshot afterState;
     private final List<StrokePoint> strokePoints;
     private final DrawingTool tool;
     private final Color color;
     private final double strokeWidth;
     private boolean executed = false;
 
+    // Bounds of all points, tracked as they arrive
+    private double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+    private double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+
     public StrokeCommand(DrawingCanvas canvas, DrawingTool tool, Color color, double strokeWidth) {
         this.canvas = canvas;
         this.tool = tool;
         this.color = color;
         this.strokeWidth = strokeWidth;
         this.strokePoints = new ArrayList<>();
-        this.beforeState = canvas.snapshot(null, null);
+        canvas.getRaster().beginJournal();
     }
 
     public void addPoint(double x, double y) {
         strokePoints.add(new StrokePoint(x, y));
+        includeInBounds(x, y);
+    }
+
+    private void includeInBounds(double x, double y) {
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        maxX = Math.max(maxX, x);
+        maxY = Math.max(maxY, y);
     }
 
     public void finishStroke() {
         if (!executed) {
-            this.afterState = canvas.snapshot(null, null);
+            TiledRaster raster = canvas.getRaster();
+            long start = System.nanoTime();
+            TiledRaster.Snapshot liveTiles = raster.endJournal();
+
+            boolean repainted = false;
+            if (simplifyPoints()) {
+                // Put the tiles back as they were before the stroke and paint the smooth
+                // version under a fresh journal, so undo covers every tile the curve reaches
+                raster.restore(liveTiles);
+                raster.beginJournal();
+                paintStroke(raster);
+                liveTiles = raster.endJournal();
+                repainted = true;
+            }
+
+            this.beforeState = liveTiles;
+            this.afterState = raster.captureSameTiles(beforeState);
+            StrokeLatencyMonitor.getInstance().recordSnapshot("stroke tiles", System.nanoTime() - start);
             executed = true;
+
+            if (repainted) {
+                canvas.present();
+            }
         }
     }
 
+    /**
+     * Drop points the stroke does not need; returns false for strokes too short to change
+     */
+    private boolean simplifyPoints() {
+        int count = strokePoints.size();
+        if (count < 3) return false;
+
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = strokePoints.get(i).x;
+            ys[i] = strokePoints.get(i).y;
+        }
+
+        int[] kept = StrokeSimplifier.simplify(xs, ys, count, SIMPLIFY_TOLERANCE);
+        strokePoints.clear();
+        for (int index : kept) {
+            strokePoints.add(new StrokePoint(xs[index], ys[index]));
+        }
+
+        // The curve may bow slightly past the points; keep the dirty region around it
+        java.awt.geom.Rectangle2D curveBounds = buildPath().getBounds2D();
+        includeInBounds(curveBounds.getMinX(), curveBounds.getMinY());
+        includeInBounds(curveBounds.getMaxX(), curveBounds.getMaxY());
+
+        LOG.debug(() -> "✏️ Stroke simplified from " + count + " to " + kept.length + " points");
+        return true;
+    }
+
     @Override
     public void execute() {
         if (afterState != null) {
             // Restore the after-state
-            canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-            canvas.getGraphicsContext2D().drawImage(afterState, 0, 0);
+            canvas.restoreState(afterState);
         } else {
             // Re-draw the stroke
             redrawStroke();
@@ -55,28 +139,50 @@ public class StrokeCommand implements DrawingCommand {
     @Override
     public void undo() {
         if (beforeState != null) {
-            canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-            canvas.getGraphicsContext2D().drawImage(beforeState, 0, 0);
+            canvas.restoreState(beforeState);
         }
     }
 
     private void redrawStroke() {
         if (strokePoints.isEmpty()) return;
 
-        var gc = canvas.getGraphicsContext2D();
-        gc.setStroke(color);
-        gc.setLineWidth(strokeWidth);
-
-        gc.beginPath();
-        StrokePoint firstPoint = strokePoints.get(0);
-        gc.moveTo(firstPoint.x, firstPoint.y);
+        paintStroke(canvas.getRaster());
+        canvas.present();
+    }
 
-        for (int i = 1; i < strokePoints.size(); i++) {
-            StrokePoint point = strokePoints.get(i);
-            gc.lineTo(point.x, point.y);
+    /**
+     * Paint the stroke as one path (no overlapping segment ends, so translucent colours stay even);
+     * the brush tools stamp their dabs along it instead
+     */
+    private void paintStroke(TiledRaster raster) {
+        Path2D path = buildPath();
+        BrushEngine.Tip tip = BrushEngine.tipFor(tool);
+        if (tip != null) {
+            BrushEngine.getInstance().stampPath(raster, new BrushEngine.BrushStroke(tip, strokeWidth, color), path);
+            return;
         }
 
-        gc.stroke();
+        BasicStroke stroke = new BasicStroke((float) strokeWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+        boolean erase = tool == DrawingTool.ERASER;
+        java.awt.Color awtColor = erase ? java.awt.Color.BLACK : TiledRaster.toAwtColor(color);
+        raster.paint(getDirtyRegion(), g -> {
+            // The eraser clears alpha (destination-out) like the live eraser
+            if (erase) g.setComposite(AlphaComposite.DstOut);
+            g.setStroke(stroke);
+            g.setColor(awtColor);
+            g.draw(path);
+        });
+    }
+
+    private Path2D buildPath() {
+        int count = strokePoints.size();
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = strokePoints.get(i).x;
+            ys[i] = strokePoints.get(i).y;
+        }
+        return StrokeSimplifier.smoothPath(xs, ys, count);
     }
 
     @Override
@@ -95,14 +201,34 @@ public class StrokeCommand implements DrawingCommand {
         if (other instanceof StrokeCommand) {
             StrokeCommand otherStroke = (StrokeCommand) other;
             this.strokePoints.addAll(otherStroke.strokePoints);
+            for (StrokePoint point : otherStroke.strokePoints) {
+                includeInBounds(point.x, point.y);
+            }
         }
     }
 
+    @Override
+    public Rectangle2D getDirtyRegion() {
+        if (strokePoints.isEmpty()) {
+            return Rectangle2D.EMPTY;
+        }
+        // Pad by half the line width plus a pixel for antialiasing
+        double pad = strokeWidth / 2 + 1;
+        return new Rectangle2D(minX - pad, minY - pad,
+                (maxX - minX) + pad * 2, (maxY - minY) + pad * 2);
+    }
+
     @Override
     public String getDescription() {
         return tool.getDisplayName() + " Stroke";
     }
 
+    @Override
+    public long getMemoryFootprint() {
+        return DrawingCommand.snapshotBytes(beforeState) + DrawingCommand.snapshotBytes(afterState)
+                + strokePoints.size() * POINT_BYTES;
+    }
+
     // Helper class for stroke points
     private static class StrokePoint {
         final double x, y;
@@ -1,16 +1,28 @@
 package com.example.scenory.controller;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import com.example.scenory.model.*;
 import com.example.scenory.enums.DrawingTool;
 import com.example.scenory.utils.DragAndDropHandler;
+import com.example.scenory.utils.FxStallWatchdog;
 import com.example.scenory.utils.ThumbnailGenerator;
 import com.example.scenory.utils.CanvasPersistence;
+import com.example.scenory.utils.LiveThumbnail;
+import com.example.scenory.utils.StrokeLatencyMonitor;
 import com.example.scenory.view.components.DrawingCanvas;
 import com.example.scenory.view.panels.*;
 import com.example.scenory.view.dialogs.RichTextModalController;
+import com.example.scenory.view.dialogs.AnimaticPlayer;
 import com.example.scenory.database.PanelLayoutDAO;
 import com.example.scenory.commands.*;
+import com.example.scenory.export.AnimaticExporter;
+import com.example.scenory.export.ExportResult;
+import com.example.scenory.export.ImageExporter;
+import com.example.scenory.export.PanelImages;
+import com.example.scenory.export.PdfStoryboardExporter;
 import com.example.scenory.input.KeyboardShortcutManager;
+import com.example.scenory.metrics.Metrics;
 
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -19,23 +31,38 @@ import javafx.scene.Parent;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
+import javafx.geometry.Pos;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.paint.Color;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.animation.Animation;
 import javafx.animation.Timeline;
 import javafx.animation.KeyFrame;
 import javafx.util.Duration;
+import javafx.stage.DirectoryChooser;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
+import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class MainController implements Initializable {
 
+    private static final Logger LOG = Log.getLogger(MainController.class);
+
     // =====================================
     // FXML UI Components
     // =====================================
@@ -89,18 +116,39 @@ public class MainController implements Initializable {
     private boolean autoGenerateThumbnails = true;
     private Timeline thumbnailUpdateTimer;
 
+    // Live thumbnail of the active panel, refreshed from dirty regions at a bounded rate
+    private static final int LIVE_THUMBNAIL_WIDTH = 256;
+    private static final double THUMBNAIL_UPDATE_INTERVAL_MS = 250;
+    private final LiveThumbnail liveThumbnail = new LiveThumbnail(LIVE_THUMBNAIL_WIDTH);
+    private Rectangle2D pendingThumbnailRegion;
+    private boolean thumbnailDirty = false;
+
+    // Thumbnails and pyramid levels are built off the FX thread (after saves, and for
+    // panels loaded without levels); each waiting panel maps to the grid image view
+    // that shows them when ready (null until the grid shows the panel)
+    private final ExecutorService thumbnailLevelBuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "thumbnail-levels");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Panel, ImageView> pendingThumbnailLevels = new IdentityHashMap<>();
+
+    // Background export state (one export at a time)
+    private Runnable activeExportCancel;
+
     // Persistence Control
     private boolean isUpdatingSelection = false;
     private boolean autoSaveEnabled = true;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        System.out.println("🚀 Initializing Enhanced MainController with Rich Text Editor...");
+        LOG.info("🚀 Initializing Enhanced MainController with Rich Text Editor...");
 
         initializeProject();
         initializeCommandSystem();
         initializeEnhancedPanelSystem();
         initializeCanvas();
+        setupLiveThumbnails();
         setupSceneManagement();
         createFirstPanel();
         setupEventHandlers();
@@ -108,7 +156,7 @@ public class MainController implements Initializable {
         setupLayoutPersistence();
         setupKeyboardShortcuts();
 
-        System.out.println("✅ Enhanced MainController with Rich Text Editor initialized successfully");
+        LOG.info("✅ Enhanced MainController with Rich Text Editor initialized successfully");
     }
 
     // =====================================
@@ -126,26 +174,26 @@ public class MainController implements Initializable {
         currentProject.getScenes().add(defaultScene);
         currentScene = defaultScene;
 
-        System.out.println("📁 Project initialized with default scene");
+        LOG.info("📁 Project initialized with default scene");
     }
 
     private void initializeCommandSystem() {
-        System.out.println("🔧 Setting up command system...");
+        LOG.info("🔧 Setting up command system...");
 
         // Create command manager
         commandManager = new CommandManager();
         commandManager.setMaxHistorySize(100);
         commandManager.setMergeConsecutiveStrokes(true);
 
-        System.out.println("✅ Command system initialized");
+        LOG.info("✅ Command system initialized");
     }
 
     private void initializeEnhancedPanelSystem() {
-        System.out.println("🔧 Setting up enhanced dual panel system...");
+        LOG.info("🔧 Setting up enhanced dual panel system...");
 
         // Create tool selection panel content
         toolSelectionPanel = new ToolSelectionPanel();
-        System.out.println("🛠️ ToolSelectionPanel created");
+        LOG.info("🛠️ ToolSelectionPanel created");
 
         // Create file structure content (using existing tree view)
         VBox fileStructureContent = createFileStructureContent();
@@ -154,7 +202,7 @@ public class MainController implements Initializable {
         leftPanelGroup = new EnhancedDualPanelGroup();
         leftPanelGroup.setToolsContent(toolSelectionPanel);
         leftPanelGroup.setStructureContent(fileStructureContent);
-        System.out.println("📋 EnhancedDualPanelGroup created with Tools and Structure");
+        LOG.info("📋 EnhancedDualPanelGroup created with Tools and Structure");
 
         // Create enhanced scene constructor panel with navigation at top
         VBox sceneConstructorContent = createSceneConstructorContentWithReference();
@@ -163,7 +211,7 @@ public class MainController implements Initializable {
         // Set up navigation callbacks
         rightSceneConstructor.setOnPreviousPanel(this::previousPanel);
         rightSceneConstructor.setOnNextPanel(this::nextPanel);
-        System.out.println("🎬 Enhanced CollapsibleSceneConstructor created");
+        LOG.info("🎬 Enhanced CollapsibleSceneConstructor created");
 
         // Create resizable panel system
         resizableSystem = new ResizablePanelSystem(mainBorderPane);
@@ -171,7 +219,7 @@ public class MainController implements Initializable {
         // Replace the main layout panels
         replaceMainLayoutWithEnhancedPanelSystem();
 
-        System.out.println("✅ Enhanced dual panel system initialized");
+        LOG.info("✅ Enhanced dual panel system initialized");
     }
 
     private VBox createFileStructureContent() {
@@ -247,7 +295,7 @@ public class MainController implements Initializable {
 
     private void replaceMainLayoutWithEnhancedPanelSystem() {
         if (mainBorderPane == null) {
-            System.err.println("❌ mainBorderPane is null - check FXML binding");
+            LOG.error("❌ mainBorderPane is null - check FXML binding");
             return;
         }
 
@@ -261,7 +309,7 @@ public class MainController implements Initializable {
         // Restore saved panel sizes
         resizableSystem.restorePanelSizes();
 
-        System.out.println("🔄 Main layout replaced with enhanced panel system");
+        LOG.info("🔄 Main layout replaced with enhanced panel system");
     }
 
     private void initializeCanvas() {
@@ -278,18 +326,61 @@ public class MainController implements Initializable {
             zoomLevel = newZoomLevel;
         });
 
-        // Add canvas to the container and center it
+        // Add canvas to the container; it fills it as the viewport and centers the document itself
         if (canvasContainer != null) {
             canvasContainer.getChildren().clear();
-            canvasContainer.getChildren().add(drawingCanvas);
-            centerCanvas();
+            canvasContainer.getChildren().addAll(drawingCanvas, drawingCanvas.getShapePreviewOverlay());
+            fitCanvasToContainer();
         }
 
         // Setup undo/redo menu binding
         setupUndoRedoMenuBinding();
 
         updateCanvasSizeLabel();
-        System.out.println("🖼️ Enhanced canvas initialized with command system: 800x600");
+        LOG.info("🖼️ Enhanced canvas initialized with command system: 800x600");
+    }
+
+    private void setupLiveThumbnails() {
+        // Collect dirty regions from every applied command (execute, undo, redo)
+        commandManager.setCommandAppliedListener(command -> {
+            Rectangle2D region = command.getDirtyRegion();
+            pendingThumbnailRegion = thumbnailDirty ? LiveThumbnail.union(pendingThumbnailRegion, region) : region;
+            thumbnailDirty = true;
+        });
+
+        // Apply accumulated regions at a bounded rate
+        thumbnailUpdateTimer = new Timeline(new KeyFrame(Duration.millis(THUMBNAIL_UPDATE_INTERVAL_MS),
+                e -> flushLiveThumbnail()));
+        thumbnailUpdateTimer.setCycleCount(Animation.INDEFINITE);
+        thumbnailUpdateTimer.play();
+
+        LOG.info("🖼️ Live thumbnail updates enabled (" + (int) THUMBNAIL_UPDATE_INTERVAL_MS + "ms)");
+    }
+
+    private void flushLiveThumbnail() {
+        if (!thumbnailDirty || !autoGenerateThumbnails || drawingCanvas == null) return;
+
+        if (liveThumbnail.isReady()) {
+            liveThumbnail.updateRegion(drawingCanvas, pendingThumbnailRegion);
+        }
+        pendingThumbnailRegion = null;
+        thumbnailDirty = false;
+    }
+
+    private void markThumbnailDirty() {
+        pendingThumbnailRegion = null;
+        thumbnailDirty = true;
+    }
+
+    private void resetLiveThumbnail(Panel panel) {
+        pendingThumbnailRegion = null;
+        thumbnailDirty = false;
+
+        if (panel == null || drawingCanvas == null) {
+            liveThumbnail.clear();
+            return;
+        }
+        liveThumbnail.reset(drawingCanvas, panel.getThumbnailLevels().get(LIVE_THUMBNAIL_WIDTH));
     }
 
     private void setupUndoRedoMenuBinding() {
@@ -306,12 +397,12 @@ public class MainController implements Initializable {
             redoMenuItem.textProperty().bind(commandManager.redoDescriptionProperty());
         }
 
-        System.out.println("🔗 Undo/Redo menu items bound to command manager");
+        LOG.info("🔗 Undo/Redo menu items bound to command manager");
     }
 
     private void setupKeyboardShortcuts() {
         if (statusLabel == null || statusLabel.getScene() == null) {
-            System.err.println("❌ Cannot setup keyboard shortcuts - scene not available yet");
+            LOG.error("❌ Cannot setup keyboard shortcuts - scene not available yet");
             // Try again after a short delay
             Timeline delayedSetup = new Timeline(new KeyFrame(Duration.millis(100), e -> {
                 if (statusLabel.getScene() != null) {
@@ -378,31 +469,15 @@ public class MainController implements Initializable {
             }
         });
 
-        System.out.println("⌨️ Keyboard shortcuts initialized with Rich Text Editor (Ctrl+E)");
+        LOG.info("⌨️ Keyboard shortcuts initialized with Rich Text Editor (Ctrl+E)");
     }
 
-    private void centerCanvas() {
+    private void fitCanvasToContainer() {
         if (canvasContainer != null && drawingCanvas != null) {
-            // Calculate center position
-            double containerWidth = canvasContainer.getWidth() > 0 ? canvasContainer.getWidth() : 800;
-            double containerHeight = canvasContainer.getHeight() > 0 ? canvasContainer.getHeight() : 600;
-
-            double centerX = Math.max(0, (containerWidth - drawingCanvas.getWidth()) / 2);
-            double centerY = Math.max(0, (containerHeight - drawingCanvas.getHeight()) / 2);
-
-            AnchorPane.setTopAnchor(drawingCanvas, centerY);
-            AnchorPane.setLeftAnchor(drawingCanvas, centerX);
-
-            // Listen for container size changes to re-center
-            canvasContainer.widthProperty().addListener((obs, oldVal, newVal) -> {
-                double newCenterX = Math.max(0, (newVal.doubleValue() - drawingCanvas.getWidth()) / 2);
-                AnchorPane.setLeftAnchor(drawingCanvas, newCenterX);
-            });
-
-            canvasContainer.heightProperty().addListener((obs, oldVal, newVal) -> {
-                double newCenterY = Math.max(0, (newVal.doubleValue() - drawingCanvas.getHeight()) / 2);
-                AnchorPane.setTopAnchor(drawingCanvas, newCenterY);
-            });
+            // The container must be free to shrink below the canvas it sizes
+            canvasContainer.setMinSize(0, 0);
+            drawingCanvas.widthProperty().bind(canvasContainer.widthProperty());
+            drawingCanvas.heightProperty().bind(canvasContainer.heightProperty());
         }
     }
 
@@ -418,7 +493,7 @@ public class MainController implements Initializable {
      */
     private void openRichTextEditor(Panel panel) {
         try {
-            System.out.println("📝 Opening simplified rich text editor for: " + panel.getName());
+            LOG.info("📝 Opening simplified rich text editor for: " + panel.getName());
 
             // FIXED: Load the Rich Text Modal FXML with correct path
             FXMLLoader loader = new FXMLLoader();
@@ -442,7 +517,7 @@ public class MainController implements Initializable {
                 String cssFile = getClass().getResource("/com/example/scenory/styles.css").toExternalForm();
                 modalScene.getStylesheets().add(cssFile);
             } catch (Exception e) {
-                System.out.println("⚠️ Could not load CSS for rich text modal");
+                LOG.warn("⚠️ Could not load CSS for rich text modal");
             }
 
             modalStage.setScene(modalScene);
@@ -460,14 +535,12 @@ public class MainController implements Initializable {
             modalStage.showAndWait();
 
         } catch (IOException e) {
-            System.err.println("❌ Failed to open rich text editor: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Failed to open rich text editor: " + e.getMessage(), e);
 
             // FALLBACK: Show simple text input dialog
             showSimpleTextInputFallback(panel);
         } catch (Exception e) {
-            System.err.println("❌ Unexpected error opening rich text editor: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Unexpected error opening rich text editor: " + e.getMessage(), e);
             showError("Rich Text Editor Error", "Failed to open the rich text editor: " + e.getMessage());
         }
     }
@@ -535,7 +608,7 @@ public class MainController implements Initializable {
      * Callback when rich text is saved
      */
     private void onRichTextSaved(String richTextContent) {
-        System.out.println("💾 Rich text content saved: " + richTextContent.length() + " characters");
+        LOG.info("💾 Rich text content saved: " + richTextContent.length() + " characters");
 
         // Update UI to reflect changes
         updateThumbnailGrid(); // This will show the rich text indicator (📝)
@@ -567,7 +640,7 @@ public class MainController implements Initializable {
     private void undo() {
         if (drawingCanvas != null && drawingCanvas.undo()) {
             statusLabel.setText("↶ " + commandManager.getUndoDescription());
-            System.out.println("↶ Undo executed");
+            LOG.debug("↶ Undo executed");
         } else {
             statusLabel.setText("Nothing to undo");
         }
@@ -577,7 +650,7 @@ public class MainController implements Initializable {
     private void redo() {
         if (drawingCanvas != null && drawingCanvas.redo()) {
             statusLabel.setText("↷ " + commandManager.getRedoDescription());
-            System.out.println("↷ Redo executed");
+            LOG.debug("↷ Redo executed");
         } else {
             statusLabel.setText("Nothing to redo");
         }
@@ -615,7 +688,7 @@ public class MainController implements Initializable {
             }
         });
 
-        System.out.println("🔗 Enhanced tool integration with command system setup complete");
+        LOG.info("🔗 Enhanced tool integration with command system setup complete");
     }
 
     // =====================================
@@ -628,7 +701,7 @@ public class MainController implements Initializable {
             currentLayout = PanelLayoutDAO.loadLayout("default", "default");
             applyLayout(currentLayout);
         } catch (Exception e) {
-            System.err.println("❌ Error loading panel layout: " + e.getMessage());
+            LOG.error("❌ Error loading panel layout: " + e.getMessage());
             currentLayout = createDefaultPanelLayout();
             applyLayout(currentLayout);
         }
@@ -639,14 +712,14 @@ public class MainController implements Initializable {
                 try {
                     saveCurrentLayout();
                 } catch (Exception e) {
-                    System.err.println("❌ Error saving panel layout: " + e.getMessage());
+                    LOG.error("❌ Error saving panel layout: " + e.getMessage());
                 }
             });
             leftPanelGroup.structureExpandedProperty().addListener((obs, oldVal, newVal) -> {
                 try {
                     saveCurrentLayout();
                 } catch (Exception e) {
-                    System.err.println("❌ Error saving panel layout: " + e.getMessage());
+                    LOG.error("❌ Error saving panel layout: " + e.getMessage());
                 }
             });
         }
@@ -656,12 +729,12 @@ public class MainController implements Initializable {
                 try {
                     saveCurrentLayout();
                 } catch (Exception e) {
-                    System.err.println("❌ Error saving panel layout: " + e.getMessage());
+                    LOG.error("❌ Error saving panel layout: " + e.getMessage());
                 }
             });
         }
 
-        System.out.println("💾 Layout persistence setup complete");
+        LOG.info("💾 Layout persistence setup complete");
     }
 
     private PanelLayoutDAO.PanelLayout createDefaultPanelLayout() {
@@ -698,10 +771,10 @@ public class MainController implements Initializable {
                 }
             }
 
-            System.out.println("📐 Layout applied successfully");
+            LOG.info("📐 Layout applied successfully");
 
         } catch (Exception e) {
-            System.err.println("❌ Error applying layout: " + e.getMessage());
+            LOG.error("❌ Error applying layout: " + e.getMessage());
         }
     }
 
@@ -727,7 +800,7 @@ public class MainController implements Initializable {
             PanelLayoutDAO.saveLayout("default", "default", currentLayout);
 
         } catch (Exception e) {
-            System.err.println("❌ Error saving layout: " + e.getMessage());
+            LOG.error("❌ Error saving layout: " + e.getMessage());
             // Continue without saving - app should still work
         }
     }
@@ -780,7 +853,7 @@ public class MainController implements Initializable {
     public String getCurrentPanelState() {
         if (leftPanelGroup != null) {
             String state = leftPanelGroup.getCurrentState();
-            System.out.println("📋 Current panel state: " + state);
+            LOG.info("📋 Current panel state: " + state);
             return state;
         }
         return "No panels";
@@ -854,7 +927,7 @@ public class MainController implements Initializable {
     // =====================================
 
     public void loadProject(Project project) {
-        System.out.println("📂 Loading project: " + project.getName());
+        LOG.info("📂 Loading project: " + project.getName());
 
         try {
             // Save any current work first
@@ -908,11 +981,10 @@ public class MainController implements Initializable {
             updateWindowTitle();
 
             statusLabel.setText("✅ Loaded project: " + project.getName());
-            System.out.println("✅ Project loaded successfully with fresh command history: " + project.getName());
+            LOG.info("✅ Project loaded successfully with fresh command history: " + project.getName());
 
         } catch (Exception e) {
-            System.err.println("❌ Error loading project: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Error loading project: " + e.getMessage(), e);
             statusLabel.setText("❌ Error loading project");
         }
     }
@@ -956,7 +1028,7 @@ public class MainController implements Initializable {
         }
 
         updateThumbnailGrid();
-        System.out.println("🌳 Scene management setup complete");
+        LOG.info("🌳 Scene management setup complete");
     }
 
     private void createFirstPanel() {
@@ -964,7 +1036,7 @@ public class MainController implements Initializable {
     }
 
     private void setupEventHandlers() {
-        System.out.println("🖱️ Enhanced event handlers setup complete");
+        LOG.info("🖱️ Enhanced event handlers setup complete");
     }
 
     // =====================================
@@ -985,6 +1057,7 @@ public class MainController implements Initializable {
         } else {
             currentPanel = null;
             CanvasPersistence.clearCanvas(drawingCanvas);
+            resetLiveThumbnail(null);
         }
 
         statusLabel.setText("Switched to scene: " + scene.getName());
@@ -1018,6 +1091,7 @@ public class MainController implements Initializable {
 
         // Restore the new panel's drawing
         restorePanelDrawing(panel);
+        resetLiveThumbnail(panel);
 
         // Update UI
         updateSceneInfo();
@@ -1025,7 +1099,7 @@ public class MainController implements Initializable {
         updateSelections();
 
         statusLabel.setText("Switched to: " + panel.getName());
-        System.out.println("📝 Switched to panel: " + panel.getName() + " (Command history cleared)");
+        LOG.debug(() -> "📝 Switched to panel: " + panel.getName() + " (Command history cleared)");
     }
 
     private void saveCurrentPanelDrawing() {
@@ -1039,18 +1113,18 @@ public class MainController implements Initializable {
             if (canvasData != null && canvasData.length > 0) {
                 currentPanel.setCanvasImageData(canvasData);
 
-                // Also update thumbnail
+                // Also update thumbnail and pyramid levels from a single capture; only the capture
+                // happens here, the scaling and encoding run on the builder thread
                 if (autoGenerateThumbnails) {
-                    byte[] thumbnailData = ThumbnailGenerator.generateThumbnail(drawingCanvas);
-                    currentPanel.setThumbnailData(thumbnailData);
+                    BufferedImage captured = ThumbnailGenerator.captureCanvas(drawingCanvas);
+                    rebuildThumbnails(currentPanel, canvasData, captured);
                 }
 
-                System.out.println("💾 SAVED: " + currentPanel.getName() + " (" + canvasData.length + " bytes)");
+                LOG.debug(() -> "💾 SAVED: " + currentPanel.getName() + " (" + canvasData.length + " bytes)");
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error saving panel: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Error saving panel: " + e.getMessage(), e);
             statusLabel.setText("Error saving drawing");
         }
     }
@@ -1059,25 +1133,29 @@ public class MainController implements Initializable {
         if (panel == null || drawingCanvas == null) return;
 
         try {
+            // The saved drawing is transparent; its background colour is stored on the panel
+            drawingCanvas.setCanvasBackgroundColor(panel.getCanvasBackgroundColor() != null
+                    ? Color.web(panel.getCanvasBackgroundColor()) : Color.WHITE);
+
             if (CanvasPersistence.isValidImageData(panel.getCanvasImageData())) {
                 boolean restored = CanvasPersistence.restoreCanvasFromBytes(
                         drawingCanvas, panel.getCanvasImageData()
                 );
 
                 if (restored) {
-                    System.out.println("📂 Restored: " + panel.getName());
+                    LOG.debug(() -> "📂 Restored: " + panel.getName());
                 } else {
                     drawingCanvas.clearCanvas();
-                    System.out.println("⚠️ Failed to restore: " + panel.getName());
+                    LOG.warn("⚠️ Failed to restore: " + panel.getName());
                 }
             } else {
                 drawingCanvas.clearCanvas();
-                System.out.println("📄 New panel: " + panel.getName());
+                LOG.debug(() -> "📄 New panel: " + panel.getName());
             }
 
         } catch (Exception e) {
             drawingCanvas.clearCanvas();
-            System.err.println("❌ Error restoring panel: " + e.getMessage());
+            LOG.error("❌ Error restoring panel: " + e.getMessage());
         }
     }
 
@@ -1217,26 +1295,90 @@ public class MainController implements Initializable {
     }
 
     private ImageView createThumbnailImage(Panel panel) {
-        if (ThumbnailGenerator.isValidThumbnail(panel.getThumbnailData())) {
-            try {
-                Image thumbnail = ThumbnailGenerator.bytesToImage(panel.getThumbnailData());
-                if (thumbnail != null) {
-                    ImageView imageView = new ImageView(thumbnail);
-                    imageView.setFitWidth(220);
-                    imageView.setFitHeight(120);
-                    imageView.setPreserveRatio(true);
-                    return imageView;
-                }
-            } catch (Exception e) {
-                System.err.println("Error loading thumbnail: " + e.getMessage());
+        // The active panel shows the live image, which updates in place while drawing
+        if (panel == currentPanel && liveThumbnail.isReady()) {
+            ImageView imageView = new ImageView(liveThumbnail.getImage());
+            imageView.setFitWidth(220);
+            imageView.setFitHeight(120);
+            imageView.setPreserveRatio(true);
+            return imageView;
+        }
+
+        ImageView imageView = new ImageView();
+        imageView.setFitWidth(220);
+        imageView.setFitHeight(120);
+        imageView.setPreserveRatio(true);
+
+        // Stored levels (or the legacy thumbnail) show now; panels without levels get them in the background
+        showThumbnail(imageView, panel.getThumbnailForWidth(220));
+        if (pendingThumbnailLevels.containsKey(panel)) {
+            // A queued build shows its result in this view
+            pendingThumbnailLevels.put(panel, imageView);
+        } else if (!panel.hasThumbnailLevels() && panel.hasCanvasData()) {
+            buildThumbnailLevels(panel, imageView);
+        }
+        return imageView;
+    }
+
+    private void showThumbnail(ImageView imageView, byte[] thumbnailData) {
+        if (!ThumbnailGenerator.isValidThumbnail(thumbnailData)) return;
+        try {
+            Image thumbnail = ThumbnailGenerator.bytesToImage(thumbnailData);
+            if (thumbnail != null) {
+                imageView.setImage(thumbnail);
             }
+        } catch (Exception e) {
+            LOG.error("Error loading thumbnail: " + e.getMessage());
         }
+    }
 
-        // Default placeholder
-        ImageView placeholder = new ImageView();
-        placeholder.setFitWidth(220);
-        placeholder.setFitHeight(120);
-        return placeholder;
+    /**
+     * Decode a panel's canvas and build its pyramid on the builder thread, then show it in
+     * the panel's current grid view. Levels are saved with the panel, so this runs once per panel.
+     */
+    private void buildThumbnailLevels(Panel panel, ImageView imageView) {
+        pendingThumbnailLevels.put(panel, imageView);
+
+        byte[] canvasData = panel.getCanvasImageData();
+        java.awt.Color background = PanelImages.backgroundColor(panel);
+        thumbnailLevelBuilder.execute(() -> {
+            Map<Integer, byte[]> levels = ThumbnailGenerator.generateThumbnailPyramid(canvasData, background);
+            javafx.application.Platform.runLater(() -> {
+                // Skip if the panel was redrawn meanwhile; its save queued fresh levels
+                if (panel.getCanvasImageData() != canvasData) return;
+                ImageView view = pendingThumbnailLevels.remove(panel);
+                if (levels.isEmpty()) return;
+                panel.setThumbnailLevels(levels);
+                if (view != null) {
+                    showThumbnail(view, panel.getThumbnailForWidth(220));
+                }
+            });
+        });
+    }
+
+    /**
+     * Build the legacy thumbnail and the pyramid from a saved panel's capture on the builder thread
+     */
+    private void rebuildThumbnails(Panel panel, byte[] canvasData, BufferedImage captured) {
+        pendingThumbnailLevels.putIfAbsent(panel, null);
+
+        thumbnailLevelBuilder.execute(() -> {
+            byte[] thumbnailData = ThumbnailGenerator.createThumbnailFromBufferedImage(captured,
+                    ThumbnailGenerator.THUMBNAIL_WIDTH, ThumbnailGenerator.THUMBNAIL_HEIGHT);
+            Map<Integer, byte[]> levels = ThumbnailGenerator.generateThumbnailPyramid(captured);
+            javafx.application.Platform.runLater(() -> {
+                // Skip if the panel was saved again meanwhile; that save queued its own build
+                if (panel.getCanvasImageData() != canvasData) return;
+                ImageView view = pendingThumbnailLevels.remove(panel);
+                panel.setThumbnailData(thumbnailData);
+                if (!levels.isEmpty()) {
+                    panel.setThumbnailLevels(levels);
+                }
+                if (view != null) {
+                    showThumbnail(view, panel.getThumbnailForWidth(220));
+                }
+            });
+        });
     }
 
     /**
@@ -1338,7 +1480,7 @@ public class MainController implements Initializable {
     private void updateCanvasSizeLabel() {
         if (canvasSizeLabel != null) {
             canvasSizeLabel.setText(String.format("📐 Canvas: %.0fx%.0f",
-                    drawingCanvas.getWidth(), drawingCanvas.getHeight()));
+                    drawingCanvas.getDocumentWidth(), drawingCanvas.getDocumentHeight()));
         }
     }
 
@@ -1558,8 +1700,7 @@ public class MainController implements Initializable {
             statusLabel.setText("Panel duplicated: " + duplicatedPanel.getName());
 
         } catch (Exception e) {
-            System.err.println("❌ Error duplicating panel: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Error duplicating panel: " + e.getMessage(), e);
             statusLabel.setText("Error duplicating panel");
         }
     }
@@ -1616,9 +1757,11 @@ public class MainController implements Initializable {
         if (result.isPresent() && result.get() == ButtonType.OK) {
             panel.setCanvasImageData(null);
             panel.setThumbnailData(null);
+            panel.setThumbnailLevels(null);
 
             if (panel == currentPanel && drawingCanvas != null) {
                 CanvasPersistence.clearCanvas(drawingCanvas);
+                markThumbnailDirty();
 
                 // Clear command history since content is cleared
                 if (commandManager != null) {
@@ -1697,6 +1840,7 @@ public class MainController implements Initializable {
             // Update canvas if this is current panel
             if (panel == currentPanel && drawingCanvas != null) {
                 drawingCanvas.setCanvasBackgroundColor(selectedColor);
+                markThumbnailDirty();
             }
 
             updateThumbnailGrid();
@@ -1780,11 +1924,10 @@ public class MainController implements Initializable {
             stage.getScene().setRoot(welcomeView);
             stage.setTitle("Scenory - Professional Storyboard Creator");
 
-            System.out.println("🏠 Returned to welcome screen");
+            LOG.info("🏠 Returned to welcome screen");
 
         } catch (IOException e) {
-            System.err.println("❌ Failed to return to welcome screen: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Failed to return to welcome screen: " + e.getMessage(), e);
             showError("Navigation Error", "Failed to return to welcome screen.");
         }
     }
@@ -1793,8 +1936,193 @@ public class MainController implements Initializable {
     @FXML private void openProject() { statusLabel.setText("Open project - TODO"); }
     @FXML private void saveProject() { statusLabel.setText("Project saved"); }
     @FXML private void saveProjectAs() { statusLabel.setText("Save as - TODO"); }
-    @FXML private void exportPDF() { statusLabel.setText("Exporting to PDF..."); }
-    @FXML private void exportImages() { statusLabel.setText("Exporting images..."); }
+    @FXML
+    private void exportPDF() {
+        if (offerToCancelActiveExport()) return;
+
+        ChoiceBox<String> layoutChoice = new ChoiceBox<>();
+        layoutChoice.getItems().addAll("2 x 2", "3 x 2", "3 x 3", "4 x 3");
+        layoutChoice.setValue("3 x 2");
+
+        ChoiceBox<PdfStoryboardExporter.ImageCompression> compressionChoice = new ChoiceBox<>();
+        compressionChoice.getItems().addAll(PdfStoryboardExporter.ImageCompression.values());
+        compressionChoice.setValue(PdfStoryboardExporter.ImageCompression.FLATE);
+
+        Alert dialog = new Alert(Alert.AlertType.CONFIRMATION);
+        dialog.setTitle("Export PDF");
+        dialog.setHeaderText("Export storyboard PDF of " + currentProject.getName());
+        dialog.getDialogPane().setContent(new VBox(8,
+                new Label("Panels per page (columns x rows):"), layoutChoice,
+                new Label("Image compression:"), compressionChoice));
+
+        Optional<ButtonType> result = dialog.showAndWait();
+        if (result.isEmpty() || result.get() != ButtonType.OK) return;
+
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Save Storyboard PDF");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("PDF Documents", "*.pdf"));
+        chooser.setInitialFileName(currentProject.getName() + ".pdf");
+        File file = chooser.showSaveDialog(statusLabel.getScene().getWindow());
+        if (file == null) return;
+
+        String[] grid = layoutChoice.getValue().split(" x ");
+
+        PdfStoryboardExporter exporter = new PdfStoryboardExporter();
+        exporter.setGrid(Integer.parseInt(grid[0]), Integer.parseInt(grid[1]));
+        exporter.setCompression(compressionChoice.getValue());
+        exporter.setProgressListener((completed, total, entry) ->
+                javafx.application.Platform.runLater(() ->
+                        statusLabel.setText("📄 Exporting PDF " + completed + "/" + total)));
+
+        Project project = currentProject;
+        runExportInBackground("PDF export", exporter::cancel, () -> exporter.export(project, file.toPath()));
+    }
+
+    @FXML
+    private void exportImages() {
+        if (offerToCancelActiveExport()) return;
+
+        ChoiceBox<ImageExporter.Format> formatChoice = new ChoiceBox<>();
+        formatChoice.getItems().addAll(ImageExporter.Format.values());
+        formatChoice.setValue(ImageExporter.Format.PNG);
+
+        Spinner<Integer> scaleSpinner = new Spinner<>(10, 400, 100, 10);
+        scaleSpinner.setEditable(true);
+
+        Alert dialog = new Alert(Alert.AlertType.CONFIRMATION);
+        dialog.setTitle("Export Images");
+        dialog.setHeaderText("Export all panels of " + currentProject.getName());
+        dialog.getDialogPane().setContent(new VBox(8,
+                new Label("Format:"), formatChoice,
+                new Label("Scale (%):"), scaleSpinner));
+
+        Optional<ButtonType> result = dialog.showAndWait();
+        if (result.isEmpty() || result.get() != ButtonType.OK) return;
+
+        DirectoryChooser chooser = new DirectoryChooser();
+        chooser.setTitle("Choose Export Folder");
+        File directory = chooser.showDialog(statusLabel.getScene().getWindow());
+        if (directory == null) return;
+
+        ImageExporter exporter = new ImageExporter();
+        exporter.setFormat(formatChoice.getValue());
+        exporter.setScale(scaleSpinner.getValue() / 100.0);
+        exporter.setProgressListener((completed, total, entry) ->
+                javafx.application.Platform.runLater(() ->
+                        statusLabel.setText("📤 Exporting images " + completed + "/" + total)));
+
+        Project project = currentProject;
+        runExportInBackground("Image export", exporter::cancel, () -> exporter.exportAll(project, directory.toPath()));
+    }
+
+    @FXML
+    private void playAnimatic() {
+        if (currentProject == null) return;
+        // Play what is on the canvas, not the last saved state
+        saveCurrentPanelDrawing();
+        AnimaticPlayer.show(currentProject, statusLabel.getScene().getWindow());
+    }
+
+    @FXML
+    private void exportAnimatic() {
+        if (offerToCancelActiveExport()) return;
+
+        ChoiceBox<AnimaticExporter.Container> containerChoice = new ChoiceBox<>();
+        containerChoice.getItems().addAll(AnimaticExporter.Container.values());
+        containerChoice.setValue(AnimaticExporter.Container.AVI_MJPEG);
+
+        Spinner<Integer> fpsSpinner = new Spinner<>(1, 60, 24, 1);
+        fpsSpinner.setEditable(true);
+
+        Spinner<Integer> scaleSpinner = new Spinner<>(10, 200, 100, 10);
+        scaleSpinner.setEditable(true);
+
+        String header = "Export animatic of " + currentProject.getName();
+        if (!currentProject.isReadyForExport()) {
+            header += "\n⚠️ Some scenes have panels without drawings";
+        }
+
+        Alert dialog = new Alert(Alert.AlertType.CONFIRMATION);
+        dialog.setTitle("Export Animatic");
+        dialog.setHeaderText(header);
+        dialog.getDialogPane().setContent(new VBox(8,
+                new Label("Output:"), containerChoice,
+                new Label("Frame rate (fps):"), fpsSpinner,
+                new Label("Scale (%):"), scaleSpinner));
+
+        Optional<ButtonType> result = dialog.showAndWait();
+        if (result.isEmpty() || result.get() != ButtonType.OK) return;
+
+        File target;
+        if (containerChoice.getValue() == AnimaticExporter.Container.AVI_MJPEG) {
+            FileChooser chooser = new FileChooser();
+            chooser.setTitle("Save Animatic");
+            chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("AVI Video", "*.avi"));
+            chooser.setInitialFileName(currentProject.getName() + ".avi");
+            target = chooser.showSaveDialog(statusLabel.getScene().getWindow());
+        } else {
+            DirectoryChooser chooser = new DirectoryChooser();
+            chooser.setTitle("Choose Animatic Folder");
+            target = chooser.showDialog(statusLabel.getScene().getWindow());
+        }
+        if (target == null) return;
+
+        AnimaticExporter exporter = new AnimaticExporter();
+        exporter.setContainer(containerChoice.getValue());
+        exporter.setFps(fpsSpinner.getValue());
+        exporter.setScale(scaleSpinner.getValue() / 100.0);
+        exporter.setProgressListener((completed, total, entry) ->
+                javafx.application.Platform.runLater(() ->
+                        statusLabel.setText("🎬 Exporting animatic " + completed + "/" + total)));
+
+        Project project = currentProject;
+        runExportInBackground("Animatic export", exporter::cancel, () -> exporter.export(project, target.toPath()));
+    }
+
+    /**
+     * If an export is already running, ask whether to cancel it. Returns true if one was running.
+     */
+    private boolean offerToCancelActiveExport() {
+        if (activeExportCancel == null) return false;
+
+        Alert confirm = new Alert(Alert.AlertType.CONFIRMATION, "An export is running. Cancel it?");
+        confirm.setTitle("Export");
+        confirm.setHeaderText(null);
+        Optional<ButtonType> answer = confirm.showAndWait();
+        if (answer.isPresent() && answer.get() == ButtonType.OK && activeExportCancel != null) {
+            activeExportCancel.run();
+            statusLabel.setText("Cancelling export...");
+        }
+        return true;
+    }
+
+    /**
+     * Run an export off the FX thread and report the result in the status bar
+     */
+    private void runExportInBackground(String name, Runnable cancel, Callable<ExportResult> export) {
+        // Make sure the panel being edited is exported as drawn
+        saveCurrentPanelDrawing();
+        activeExportCancel = cancel;
+
+        Thread exportThread = new Thread(() -> {
+            String message;
+            try {
+                message = "✅ " + name + ": " + export.call();
+            } catch (Exception e) {
+                LOG.error("❌ " + name + " failed: " + e.getMessage());
+                message = "❌ " + name + " failed: " + e.getMessage();
+            }
+            String finalMessage = message;
+            javafx.application.Platform.runLater(() -> {
+                activeExportCancel = null;
+                statusLabel.setText(finalMessage);
+            });
+        }, "export");
+        exportThread.setDaemon(true);
+        exportThread.start();
+
+        statusLabel.setText("📤 " + name + " started...");
+    }
     @FXML private void exitApplication() { System.exit(0); }
     @FXML private void duplicateScene() { statusLabel.setText("Duplicate scene"); }
     @FXML private void editSceneProperties() { statusLabel.setText("Edit scene properties"); }
@@ -1819,18 +2147,94 @@ public class MainController implements Initializable {
 
     @FXML
     private void showDebugInfo() {
-        System.out.println("\n=== SCENORY DEBUG INFO ===");
+        LOG.info("\n=== SCENORY DEBUG INFO ===");
         printCommandStatus();
         if (shortcutManager != null) {
             shortcutManager.printShortcuts();
         }
-        System.out.println("Current Tool: " + currentTool);
-        System.out.println("Current Panel: " + (currentPanel != null ? currentPanel.getName() : "None"));
-        System.out.println("Current Scene: " + (currentScene != null ? currentScene.getName() : "None"));
-        System.out.println("Zoom Level: " + Math.round(zoomLevel * 100) + "%");
-        System.out.println("Panel State: " + getCurrentPanelState());
-        System.out.println("Rich Text Enabled: true");
-        System.out.println("========================\n");
+        LOG.info("Current Tool: " + currentTool);
+        LOG.info("Current Panel: " + (currentPanel != null ? currentPanel.getName() : "None"));
+        LOG.info("Current Scene: " + (currentScene != null ? currentScene.getName() : "None"));
+        LOG.info("Zoom Level: " + Math.round(zoomLevel * 100) + "%");
+        LOG.info("Panel State: " + getCurrentPanelState());
+        LOG.info("Rich Text Enabled: true");
+        LOG.info(StrokeLatencyMonitor.getInstance().formatReport());
+        LOG.info(Metrics.formatReport());
+        LOG.info(FxStallWatchdog.getInstance().formatReport());
+        LOG.info("========================\n");
+
+        showDebugDialog();
+    }
+
+    /**
+     * Debug dialog with the FX stall, stroke latency and metrics reports; they can be exported or reset,
+     * and the log level can be changed for the running session
+     */
+    private void showDebugDialog() {
+        StrokeLatencyMonitor monitor = StrokeLatencyMonitor.getInstance();
+        FxStallWatchdog watchdog = FxStallWatchdog.getInstance();
+
+        TextArea reportArea = new TextArea(formatDebugReport());
+        reportArea.setEditable(false);
+        reportArea.setStyle("-fx-font-family: monospace;");
+        reportArea.setPrefColumnCount(64);
+        reportArea.setPrefRowCount(24);
+
+        CheckBox recording = new CheckBox("Record stroke latency");
+        recording.setSelected(monitor.isEnabled());
+        recording.selectedProperty().addListener((obs, was, enabled) -> monitor.setEnabled(enabled));
+
+        CheckBox collecting = new CheckBox("Collect metrics (timers, counters, Flight Recorder events)");
+        collecting.setSelected(Metrics.isEnabled());
+        collecting.selectedProperty().addListener((obs, was, enabled) -> Metrics.setEnabled(enabled));
+
+        ChoiceBox<Log.Level> logLevel = new ChoiceBox<>(FXCollections.observableArrayList(Log.Level.values()));
+        logLevel.setValue(Log.getLevel());
+        logLevel.valueProperty().addListener((obs, was, level) -> Log.setLevel(level));
+        HBox logLevelRow = new HBox(8, new Label("Log level"), logLevel);
+        logLevelRow.setAlignment(Pos.CENTER_LEFT);
+
+        ButtonType exportButton = new ButtonType("Export...", ButtonBar.ButtonData.LEFT);
+        ButtonType resetButton = new ButtonType("Reset", ButtonBar.ButtonData.LEFT);
+
+        Alert dialog = new Alert(Alert.AlertType.INFORMATION);
+        dialog.setTitle("Debug Info");
+        dialog.setHeaderText("Tool: " + currentTool + "   Zoom: " + Math.round(zoomLevel * 100) + "%   " +
+                "Panel: " + (currentPanel != null ? currentPanel.getName() : "None"));
+        dialog.getDialogPane().setContent(new VBox(8, recording, collecting, logLevelRow, reportArea));
+        dialog.getButtonTypes().setAll(exportButton, resetButton, ButtonType.CLOSE);
+
+        // Export and Reset keep the dialog open
+        dialog.getDialogPane().lookupButton(resetButton).addEventFilter(javafx.event.ActionEvent.ACTION, event -> {
+            monitor.reset();
+            Metrics.reset();
+            watchdog.reset();
+            reportArea.setText(formatDebugReport());
+            event.consume();
+        });
+        dialog.getDialogPane().lookupButton(exportButton).addEventFilter(javafx.event.ActionEvent.ACTION, event -> {
+            event.consume();
+            FileChooser chooser = new FileChooser();
+            chooser.setTitle("Export Latency Report");
+            chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
+            chooser.setInitialFileName("stroke-latency.csv");
+            File file = chooser.showSaveDialog(dialog.getDialogPane().getScene().getWindow());
+            if (file == null) return;
+            try {
+                monitor.exportReport(file.toPath());
+                statusLabel.setText("📤 Latency report exported to " + file.getName());
+            } catch (IOException e) {
+                showError("Export Failed", "Could not write latency report: " + e.getMessage());
+            }
+        });
+
+        dialog.showAndWait();
+    }
+
+    private String formatDebugReport() {
+        return FxStallWatchdog.getInstance().formatReport() + "\n" +
+                StrokeLatencyMonitor.getInstance().formatReport() + "\n" +
+                Metrics.formatReport();
     }
 
     public void printCommandStatus() {
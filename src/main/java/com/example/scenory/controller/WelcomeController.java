@@ -1,5 +1,7 @@
 package com.example.scenory.controller;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import com.example.scenory.model.Project;
 import com.example.scenory.model.Scene;
 import javafx.fxml.FXML;
@@ -24,6 +26,8 @@ import java.util.ResourceBundle;
 
 public class WelcomeController implements Initializable {
 
+    private static final Logger LOG = Log.getLogger(WelcomeController.class);
+
     @FXML private VBox recentProjectsContainer;
 
     // Recent projects storage (in a real app, this would be persisted)
@@ -31,7 +35,7 @@ public class WelcomeController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        System.out.println("🏠 Welcome screen initialized");
+        LOG.info("🏠 Welcome screen initialized");
         loadRecentProjects();
         updateRecentProjectsDisplay();
     }
@@ -42,7 +46,7 @@ public class WelcomeController implements Initializable {
 
     @FXML
     private void createYouTubeProject() {
-        System.out.println("📺 Creating YouTube Animation project...");
+        LOG.info("📺 Creating YouTube Animation project...");
 
         Project project = createNewProject("YouTube Animation", "youtube");
         // Set YouTube-specific settings
@@ -56,7 +60,7 @@ public class WelcomeController implements Initializable {
 
     @FXML
     private void createFilmProject() {
-        System.out.println("🎭 Creating Film Storyboard project...");
+        LOG.info("🎭 Creating Film Storyboard project...");
 
         Project project = createNewProject("Film Storyboard", "film");
         // Set Film-specific settings
@@ -70,7 +74,7 @@ public class WelcomeController implements Initializable {
 
     @FXML
     private void createCustomProject() {
-        System.out.println("⚙️ Creating Custom project...");
+        LOG.info("⚙️ Creating Custom project...");
 
         // Show custom project dialog
         Optional<ProjectSettings> settings = showCustomProjectDialog();
@@ -85,7 +89,7 @@ public class WelcomeController implements Initializable {
 
     @FXML
     private void openExistingProject() {
-        System.out.println("📂 Opening existing project...");
+        LOG.info("📂 Opening existing project...");
 
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Open Scenory Project");
@@ -98,7 +102,7 @@ public class WelcomeController implements Initializable {
 
         if (selectedFile != null) {
             // TODO: Load project from file
-            System.out.println("Loading project: " + selectedFile.getName());
+            LOG.info("Loading project: " + selectedFile.getName());
 
             // For now, create a dummy project
             Project project = createNewProject(selectedFile.getName().replace(".scenory", ""), "loaded");
@@ -116,7 +120,7 @@ public class WelcomeController implements Initializable {
         // For now, create some dummy recent projects for demonstration
         if (recentProjects.isEmpty()) {
             // This would normally load from saved preferences
-            System.out.println("📋 No recent projects found");
+            LOG.info("📋 No recent projects found");
         }
     }
 
@@ -169,7 +173,7 @@ public class WelcomeController implements Initializable {
     }
 
     private void openRecentProject(RecentProject recent) {
-        System.out.println("🔄 Opening recent project: " + recent.name);
+        LOG.info("🔄 Opening recent project: " + recent.name);
 
         // TODO: Load actual project data
         Project project = createNewProject(recent.name, "recent");
@@ -196,7 +200,7 @@ public class WelcomeController implements Initializable {
 
     @FXML
     private void browseAllProjects() {
-        System.out.println("📁 Browse all projects...");
+        LOG.info("📁 Browse all projects...");
         // TODO: Implement project browser
         showInfo("Project Browser", "Project browser coming soon!");
     }
@@ -216,13 +220,13 @@ public class WelcomeController implements Initializable {
         defaultScene.setSequenceOrder(0);
         project.getScenes().add(defaultScene);
 
-        System.out.println("✅ Created project: " + name);
+        LOG.info("✅ Created project: " + name);
         return project;
     }
 
     private void launchMainApplication(Project project) {
         try {
-            System.out.println("🚀 Launching main application with project: " + project.getName());
+            LOG.info("🚀 Launching main application with project: " + project.getName());
 
             // Load the main application FXML
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/scenory/main-view.fxml"));
@@ -238,8 +242,7 @@ public class WelcomeController implements Initializable {
             stage.setTitle("Scenory - " + project.getName());
 
         } catch (IOException e) {
-            System.err.println("❌ Failed to launch main application: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Failed to launch main application: " + e.getMessage(), e);
             showError("Launch Error", "Failed to open the main application.");
         }
     }
@@ -268,19 +271,19 @@ public class WelcomeController implements Initializable {
 
     @FXML
     private void openSettings() {
-        System.out.println("⚙️ Opening settings...");
+        LOG.info("⚙️ Opening settings...");
         showInfo("Settings", "Settings panel coming soon!");
     }
 
     @FXML
     private void openTutorials() {
-        System.out.println("📖 Opening tutorials...");
+        LOG.info("📖 Opening tutorials...");
         showInfo("Tutorials", "Interactive tutorials coming soon!");
     }
 
     @FXML
     private void openTips() {
-        System.out.println("💡 Opening tips...");
+        LOG.info("💡 Opening tips...");
         showInfo("Tips & Tricks", "Pro tips and workflow guides coming soon!");
     }
 
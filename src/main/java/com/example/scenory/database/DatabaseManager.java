@@ -1,7 +1,12 @@
 package com.example.scenory.database;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -10,6 +15,11 @@ import java.sql.SQLException;
 import java.util.Properties;
 
 public class DatabaseManager {
+
+    private static final Logger LOG = Log.getLogger(DatabaseManager.class);
+
+    private static final Timer ACQUIRE_TIMER = Metrics.timer("db.connection.acquire");
+
     private static DatabaseManager instance;
     private HikariDataSource dataSource;
 
@@ -30,31 +40,38 @@ public class DatabaseManager {
 
             HikariConfig config = new HikariConfig();
 
-            // FIXED: Add SSL and public key retrieval parameters
-            String jdbcUrl = String.format("jdbc:mysql://%s:%s/%s?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC",
-                    props.getProperty("db.host"),
-                    props.getProperty("db.port"),
-                    props.getProperty("db.name"));
+            // A full JDBC URL (e.g. an embedded stand-in for benchmarks) overrides host/port/name
+            String jdbcUrl = System.getProperty("scenory.db.url", props.getProperty("db.url", ""));
+            boolean mysql = jdbcUrl.isBlank() || jdbcUrl.startsWith("jdbc:mysql:");
+            if (jdbcUrl.isBlank()) {
+                // FIXED: Add SSL and public key retrieval parameters
+                jdbcUrl = String.format("jdbc:mysql://%s:%s/%s?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC",
+                        props.getProperty("db.host"),
+                        props.getProperty("db.port"),
+                        props.getProperty("db.name"));
+            }
 
             config.setJdbcUrl(jdbcUrl);
-            config.setUsername(props.getProperty("db.username"));
-            config.setPassword(props.getProperty("db.password"));
+            config.setUsername(System.getProperty("scenory.db.username", props.getProperty("db.username")));
+            config.setPassword(System.getProperty("scenory.db.password", props.getProperty("db.password")));
             config.setMaximumPoolSize(Integer.parseInt(props.getProperty("db.pool.maximum", "10")));
             config.setMinimumIdle(Integer.parseInt(props.getProperty("db.pool.minimum", "2")));
             config.setConnectionTimeout(Long.parseLong(props.getProperty("db.pool.timeout", "30000")));
 
-            // Additional MySQL-specific settings
-            config.addDataSourceProperty("cachePrepStmts", "true");
-            config.addDataSourceProperty("prepStmtCacheSize", "250");
-            config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            // Additional MySQL-specific settings (other drivers reject unknown properties)
+            if (mysql) {
+                config.addDataSourceProperty("cachePrepStmts", "true");
+                config.addDataSourceProperty("prepStmtCacheSize", "250");
+                config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            }
 
             this.dataSource = new HikariDataSource(config);
+            registerPoolGauges();
 
-            System.out.println("✅ Database connection pool initialized successfully");
+            LOG.info("✅ Database connection pool initialized successfully");
 
         } catch (Exception e) {
-            System.err.println("❌ Failed to initialize database: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Failed to initialize database: " + e.getMessage(), e);
             // Don't throw exception - allow app to continue without database
         }
     }
@@ -66,11 +83,11 @@ public class DatabaseManager {
         try (InputStream input = getClass().getClassLoader().getResourceAsStream("database-local.properties")) {
             if (input != null) {
                 props.load(input);
-                System.out.println("📁 Loaded local database configuration");
+                LOG.info("📁 Loaded local database configuration");
                 return props;
             }
         } catch (IOException e) {
-            System.out.println("ℹ️ No local config found, trying default config...");
+            LOG.info("ℹ️ No local config found, trying default config...");
         }
 
         // Fallback to main config (with environment variables)
@@ -82,7 +99,7 @@ public class DatabaseManager {
 
             // Resolve environment variables
             props = resolveEnvironmentVariables(props);
-            System.out.println("📁 Loaded database configuration with environment variables");
+            LOG.info("📁 Loaded database configuration with environment variables");
 
         }
         return props;
@@ -119,13 +136,28 @@ public class DatabaseManager {
         if (dataSource == null) {
             throw new SQLException("Database not initialized");
         }
-        return dataSource.getConnection();
+        long start = ACQUIRE_TIMER.start();
+        Connection connection = dataSource.getConnection();
+        ACQUIRE_TIMER.stop(start);
+        return connection;
+    }
+
+    /**
+     * Expose pool usage as metrics gauges
+     */
+    private void registerPoolGauges() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) return;
+        Metrics.gauge("db.pool.active", pool::getActiveConnections);
+        Metrics.gauge("db.pool.idle", pool::getIdleConnections);
+        Metrics.gauge("db.pool.total", pool::getTotalConnections);
+        Metrics.gauge("db.pool.waiting", pool::getThreadsAwaitingConnection);
     }
 
     public void shutdown() {
         if (dataSource != null) {
             dataSource.close();
-            System.out.println("🔒 Database connection pool closed");
+            LOG.info("🔒 Database connection pool closed");
         }
     }
 
@@ -134,7 +166,7 @@ public class DatabaseManager {
         try (Connection conn = getConnection()) {
             return conn != null && !conn.isClosed();
         } catch (SQLException e) {
-            System.err.println("Database connection test failed: " + e.getMessage());
+            LOG.error("Database connection test failed: " + e.getMessage());
             return false;
         }
     }
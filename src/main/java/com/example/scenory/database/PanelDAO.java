@@ -1,23 +1,42 @@
 package com.example.scenory.database;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Counter;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
 import com.example.scenory.model.Panel;
 import javafx.util.Duration;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class PanelDAO {
 
+    private static final Logger LOG = Log.getLogger(PanelDAO.class);
+
+    private static final Timer SAVE_TIMER = Metrics.timer("dao.panel.save");
+    private static final Timer LOAD_TIMER = Metrics.timer("dao.panel.load");
+    private static final Counter DB_ERRORS = Metrics.counter("dao.errors");
+
     /**
      * Save a panel to the database (insert or update)
      */
     public static void save(Panel panel, int sceneId) {
+        long start = SAVE_TIMER.start();
         if (panel.getId() == null || isUUID(panel.getId())) {
             insert(panel, sceneId);
         } else {
             update(panel);
         }
+        if (panel.hasUnsavedThumbnailLevels() && !isUUID(panel.getId())) {
+            saveThumbnailLevels(panel);
+        }
+        SAVE_TIMER.stop(start);
     }
 
     /**
@@ -89,14 +108,14 @@ public class PanelDAO {
                 try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
                     if (generatedKeys.next()) {
                         panel.setId(String.valueOf(generatedKeys.getInt(1)));
-                        System.out.println("✅ Panel saved with DB ID: " + panel.getId());
+                        LOG.debug(() -> "✅ Panel saved with DB ID: " + panel.getId());
                     }
                 }
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error saving panel: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error saving panel: " + e.getMessage(), e);
         }
     }
 
@@ -153,12 +172,12 @@ public class PanelDAO {
             int affectedRows = stmt.executeUpdate();
             if (affectedRows > 0) {
                 panel.setModifiedDate(LocalDateTime.now());
-                System.out.println("✅ Panel updated: " + panel.getName());
+                LOG.debug(() -> "✅ Panel updated: " + panel.getName());
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating panel: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error updating panel: " + e.getMessage(), e);
         }
     }
 
@@ -166,6 +185,7 @@ public class PanelDAO {
      * Load panels by scene ID
      */
     public static List<Panel> loadBySceneId(int sceneId) {
+        long start = LOAD_TIMER.start();
         List<Panel> panels = new ArrayList<>();
         String sql = """
             SELECT id, title, description_rich_text, description_plain_text,
@@ -223,16 +243,96 @@ public class PanelDAO {
                 }
             }
 
-            System.out.println("📋 Loaded " + panels.size() + " panels for scene " + sceneId);
+            loadThumbnailLevels(conn, sceneId, panels);
+            LOG.debug(() -> "📋 Loaded " + panels.size() + " panels for scene " + sceneId);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error loading panels: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error loading panels: " + e.getMessage(), e);
         }
 
+        LOAD_TIMER.stop(start);
         return panels;
     }
 
+    // =====================================
+    // THUMBNAIL LEVELS
+    // =====================================
+
+    /**
+     * Replace a panel's stored pyramid levels with its current ones
+     */
+    private static void saveThumbnailLevels(Panel panel) {
+        int panelId = Integer.parseInt(panel.getId());
+
+        try (Connection conn = DatabaseManager.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement delete = conn.prepareStatement(
+                         "DELETE FROM panel_thumbnail_levels WHERE panel_id = ?");
+                 PreparedStatement insert = conn.prepareStatement(
+                         "INSERT INTO panel_thumbnail_levels (panel_id, level_width, image_data) VALUES (?, ?, ?)")) {
+
+                delete.setInt(1, panelId);
+                delete.executeUpdate();
+
+                for (Map.Entry<Integer, byte[]> level : panel.getThumbnailLevels().entrySet()) {
+                    insert.setInt(1, panelId);
+                    insert.setInt(2, level.getKey());
+                    insert.setBytes(3, level.getValue());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                conn.commit();
+                panel.markThumbnailLevelsSaved();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            DB_ERRORS.increment();
+            LOG.error("❌ Error saving thumbnail levels: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Attach the stored pyramid levels of a scene's panels (one query for the scene).
+     * Databases without the levels table still load; those panels rebuild their levels when shown.
+     */
+    private static void loadThumbnailLevels(Connection conn, int sceneId, List<Panel> panels) {
+        if (panels.isEmpty()) return;
+
+        String sql = """
+            SELECT t.panel_id, t.level_width, t.image_data
+            FROM panel_thumbnail_levels t JOIN panels p ON p.id = t.panel_id
+            WHERE p.scene_id = ?
+            """;
+
+        Map<String, Map<Integer, byte[]>> levels = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, sceneId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    levels.computeIfAbsent(String.valueOf(rs.getInt("panel_id")), id -> new TreeMap<>())
+                            .put(rs.getInt("level_width"), rs.getBytes("image_data"));
+                }
+            }
+        } catch (SQLException e) {
+            LOG.warn("⚠️ Thumbnail levels not loaded (is panel_thumbnail_levels missing?): " + e.getMessage());
+            return;
+        }
+
+        for (Panel panel : panels) {
+            Map<Integer, byte[]> panelLevels = levels.get(panel.getId());
+            if (panelLevels != null) {
+                panel.setThumbnailLevels(panelLevels);
+                panel.markThumbnailLevelsSaved();
+            }
+        }
+    }
+
     /**
      * Delete a panel
      */
@@ -246,13 +346,13 @@ public class PanelDAO {
             int affectedRows = stmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("🗑️ Panel deleted (ID: " + panelId + ")");
+                LOG.debug(() -> "🗑️ Panel deleted (ID: " + panelId + ")");
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error deleting panel: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error deleting panel: " + e.getMessage(), e);
         }
 
         return false;
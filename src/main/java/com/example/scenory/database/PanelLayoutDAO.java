@@ -1,5 +1,11 @@
 package com.example.scenory.database;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Counter;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -11,6 +17,11 @@ import java.sql.SQLException;
  */
 public class PanelLayoutDAO {
 
+    private static final Logger LOG = Log.getLogger(PanelLayoutDAO.class);
+
+    private static final Timer SAVE_TIMER = Metrics.timer("dao.layout.save");
+    private static final Counter DB_ERRORS = Metrics.counter("dao.errors");
+
     /**
      * Panel Layout data structure
      */
@@ -47,10 +58,11 @@ public class PanelLayoutDAO {
      */
     public static void saveLayout(String userId, String layoutName, PanelLayout layout) {
         if (!DatabaseManager.getInstance().isDatabaseAvailable()) {
-            System.out.println("💾 Database not available, using in-memory panel layout");
+            LOG.debug("💾 Database not available, using in-memory panel layout");
             return;
         }
 
+        long start = SAVE_TIMER.start();
         String sql = """
             INSERT INTO panel_layouts (user_id, layout_name, tool_panel_collapsed, file_structure_collapsed,
                                      scene_constructor_visible, scene_constructor_position, 
@@ -79,12 +91,13 @@ public class PanelLayoutDAO {
             stmt.setDouble(8, layout.getRightPanelWidth());
 
             stmt.executeUpdate();
-            System.out.println("💾 Panel layout saved successfully");
+            LOG.debug("💾 Panel layout saved successfully");
 
         } catch (SQLException e) {
-            System.err.println("❌ Error saving panel layout: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error saving panel layout: " + e.getMessage(), e);
         }
+        SAVE_TIMER.stop(start);
     }
 
     /**
@@ -92,7 +105,7 @@ public class PanelLayoutDAO {
      */
     public static PanelLayout loadLayout(String userId, String layoutName) {
         if (!DatabaseManager.getInstance().isDatabaseAvailable()) {
-            System.out.println("📐 Using default panel layout for user: " + userId);
+            LOG.debug(() -> "📐 Using default panel layout for user: " + userId);
             return createDefaultLayout();
         }
 
@@ -119,17 +132,17 @@ public class PanelLayoutDAO {
                     layout.setLeftPanelWidth(rs.getDouble("left_panel_width"));
                     layout.setRightPanelWidth(rs.getDouble("right_panel_width"));
 
-                    System.out.println("📐 Panel layout loaded from database");
+                    LOG.debug("📐 Panel layout loaded from database");
                     return layout;
                 } else {
-                    System.out.println("📐 No saved layout found, using defaults");
+                    LOG.debug("📐 No saved layout found, using defaults");
                     return createDefaultLayout();
                 }
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error loading panel layout: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error loading panel layout: " + e.getMessage(), e);
             return createDefaultLayout();
         }
     }
@@ -168,7 +181,8 @@ public class PanelLayoutDAO {
             return rowsAffected > 0;
 
         } catch (SQLException e) {
-            System.err.println("❌ Error deleting panel layout: " + e.getMessage());
+            DB_ERRORS.increment();
+            LOG.error("❌ Error deleting panel layout: " + e.getMessage());
             return false;
         }
     }
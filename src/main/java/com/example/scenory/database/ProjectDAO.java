@@ -1,5 +1,10 @@
 package com.example.scenory.database;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Counter;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
 import com.example.scenory.model.Project;
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -8,16 +13,24 @@ import java.util.List;
 
 public class ProjectDAO {
 
+    private static final Logger LOG = Log.getLogger(ProjectDAO.class);
+
+    private static final Timer SAVE_TIMER = Metrics.timer("dao.project.save");
+    private static final Timer LOAD_TIMER = Metrics.timer("dao.project.load");
+    private static final Counter DB_ERRORS = Metrics.counter("dao.errors");
+
     /**
      * Save a project to the database (insert or update)
      */
     public static void save(Project project) {
+        long start = SAVE_TIMER.start();
         // Check if project has a numeric database ID vs UUID
         if (project.getId() == null || isUUID(project.getId())) {
             insert(project);
         } else {
             update(project);
         }
+        SAVE_TIMER.stop(start);
     }
 
     /**
@@ -58,14 +71,14 @@ public class ProjectDAO {
                     if (generatedKeys.next()) {
                         // Set the database ID (integer) as string
                         project.setId(String.valueOf(generatedKeys.getInt(1)));
-                        System.out.println("✅ Project saved with DB ID: " + project.getId());
+                        LOG.debug(() -> "✅ Project saved with DB ID: " + project.getId());
                     }
                 }
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error saving project: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error saving project: " + e.getMessage(), e);
         }
     }
 
@@ -90,19 +103,28 @@ public class ProjectDAO {
             int affectedRows = stmt.executeUpdate();
             if (affectedRows > 0) {
                 project.setModifiedDate(LocalDateTime.now());
-                System.out.println("✅ Project updated: " + project.getName());
+                LOG.debug(() -> "✅ Project updated: " + project.getName());
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating project: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error updating project: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Load a project by database ID
+     * Load a project by database ID, with its scenes and panels
      */
     public static Project load(int projectId) {
+        long start = LOAD_TIMER.start();
+        try {
+            return loadProject(projectId);
+        } finally {
+            LOAD_TIMER.stop(start);
+        }
+    }
+
+    private static Project loadProject(int projectId) {
         String sql = """
             SELECT id, name, description, created_date, modified_date, 
                    file_path, canvas_width, canvas_height, project_type, aspect_ratio
@@ -123,18 +145,20 @@ public class ProjectDAO {
                     project.setCreatedDate(rs.getTimestamp("created_date").toLocalDateTime());
                     project.setModifiedDate(rs.getTimestamp("modified_date").toLocalDateTime());
                     project.setFilePath(rs.getString("file_path"));
+                    project.setCanvasWidth(rs.getInt("canvas_width"));
+                    project.setCanvasHeight(rs.getInt("canvas_height"));
 
                     // Load associated scenes (will implement after SceneDAO)
                      project.setScenes(SceneDAO.loadByProjectId(projectId));
 
-                    System.out.println("📂 Loaded project: " + project.getName());
+                    LOG.debug(() -> "📂 Loaded project: " + project.getName());
                     return project;
                 }
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error loading project: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error loading project: " + e.getMessage(), e);
         }
 
         return null;
@@ -146,7 +170,7 @@ public class ProjectDAO {
     public static Project loadByStringId(String projectId) {
         if (isUUID(projectId)) {
             // This is a UUID - project doesn't exist in database yet
-            System.out.println("⚠️ Project with UUID " + projectId + " not in database");
+            LOG.warn("⚠️ Project with UUID " + projectId + " not in database");
             return null;
         } else {
             // This is a database ID
@@ -182,11 +206,11 @@ public class ProjectDAO {
                 projects.add(project);
             }
 
-            System.out.println("📋 Loaded " + projects.size() + " projects");
+            LOG.debug(() -> "📋 Loaded " + projects.size() + " projects");
 
         } catch (SQLException e) {
-            System.err.println("❌ Error loading projects: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error loading projects: " + e.getMessage(), e);
         }
 
         return projects;
@@ -205,13 +229,13 @@ public class ProjectDAO {
             int affectedRows = stmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("🗑️ Project deleted (ID: " + projectId + ")");
+                LOG.debug(() -> "🗑️ Project deleted (ID: " + projectId + ")");
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error deleting project: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error deleting project: " + e.getMessage(), e);
         }
 
         return false;
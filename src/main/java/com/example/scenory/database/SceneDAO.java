@@ -1,5 +1,10 @@
 package com.example.scenory.database;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Counter;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
 import com.example.scenory.model.Scene;
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -8,15 +13,23 @@ import java.util.List;
 
 public class SceneDAO {
 
+    private static final Logger LOG = Log.getLogger(SceneDAO.class);
+
+    private static final Timer SAVE_TIMER = Metrics.timer("dao.scene.save");
+    private static final Timer LOAD_TIMER = Metrics.timer("dao.scene.load");
+    private static final Counter DB_ERRORS = Metrics.counter("dao.errors");
+
     /**
      * Save a scene to the database
      */
     public static void save(Scene scene, int projectId) {
+        long start = SAVE_TIMER.start();
         if (scene.getId() == null || isUUID(scene.getId())) {
             insert(scene, projectId);
         } else {
             update(scene);
         }
+        SAVE_TIMER.stop(start);
     }
 
     /**
@@ -60,14 +73,14 @@ public class SceneDAO {
                 try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
                     if (generatedKeys.next()) {
                         scene.setId(String.valueOf(generatedKeys.getInt(1)));
-                        System.out.println("✅ Scene saved with DB ID: " + scene.getId());
+                        LOG.debug(() -> "✅ Scene saved with DB ID: " + scene.getId());
                     }
                 }
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error saving scene: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error saving scene: " + e.getMessage(), e);
         }
     }
 
@@ -100,12 +113,12 @@ public class SceneDAO {
             int affectedRows = stmt.executeUpdate();
             if (affectedRows > 0) {
                 scene.setModifiedDate(LocalDateTime.now());
-                System.out.println("✅ Scene updated: " + scene.getName());
+                LOG.debug(() -> "✅ Scene updated: " + scene.getName());
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating scene: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error updating scene: " + e.getMessage(), e);
         }
     }
 
@@ -113,6 +126,7 @@ public class SceneDAO {
      * Load scenes by project ID
      */
     public static List<Scene> loadByProjectId(int projectId) {
+        long start = LOAD_TIMER.start();
         List<Scene> scenes = new ArrayList<>();
         String sql = """
             SELECT id, title, description, background_color, estimated_duration_seconds,
@@ -148,13 +162,14 @@ public class SceneDAO {
                 }
             }
 
-            System.out.println("📋 Loaded " + scenes.size() + " scenes for project " + projectId);
+            LOG.debug(() -> "📋 Loaded " + scenes.size() + " scenes for project " + projectId);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error loading scenes: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error loading scenes: " + e.getMessage(), e);
         }
 
+        LOAD_TIMER.stop(start);
         return scenes;
     }
 
@@ -171,13 +186,13 @@ public class SceneDAO {
             int affectedRows = stmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("🗑️ Scene deleted (ID: " + sceneId + ")");
+                LOG.debug(() -> "🗑️ Scene deleted (ID: " + sceneId + ")");
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error deleting scene: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error deleting scene: " + e.getMessage(), e);
         }
 
         return false;
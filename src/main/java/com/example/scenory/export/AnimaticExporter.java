@@ -0,0 +1,289 @@
+package com.example.scenory.export;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.model.Panel;
+import com.example.scenory.model.Project;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Animatic export: every panel is shown for its display duration at a fixed frame rate.
+ * Each panel is decoded, fitted to the frame and JPEG-encoded exactly once by a worker
+ * pool running ahead of the writer; the remaining frames of the panel are written as
+ * references to that frame. Output is either a Motion-JPEG AVI or a folder with one
+ * image per panel plus an ffconcat timing manifest.
+ */
+public class AnimaticExporter {
+
+    private static final Logger LOG = Log.getLogger(AnimaticExporter.class);
+
+    public enum Container {
+        AVI_MJPEG,      // Single .avi file
+        IMAGE_SEQUENCE  // One JPEG per panel + animatic.ffconcat
+    }
+
+    public static final String MANIFEST_NAME = "animatic.ffconcat";
+
+    // Configuration
+    private Container container = Container.AVI_MJPEG;
+    private double fps = 24.0;
+    private double scale = 1.0;
+    private float jpegQuality = 0.85f;
+    private int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private ExportProgressListener progressListener;
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+    public ExportResult export(Project project, Path target) throws IOException, InterruptedException {
+        return export(project, null, target);
+    }
+
+    /**
+     * Export a selection of panels (null = all). The target is the .avi file,
+     * or the output folder for an image sequence.
+     */
+    public ExportResult export(Project project, Collection<Panel> selection, Path target)
+            throws IOException, InterruptedException {
+        cancelled.set(false);
+        List<ExportSequence.Entry> entries = ExportSequence.of(project, selection);
+        int total = entries.size();
+
+        // Even dimensions keep common MJPEG decoders happy (4:2:0 chroma)
+        int frameWidth = Math.max(2, (int) Math.round(project.getCanvasWidth() * scale) & ~1);
+        int frameHeight = Math.max(2, (int) Math.round(project.getCanvasHeight() * scale) & ~1);
+        int[] frameCounts = frameSchedule(entries);
+
+        LOG.info("🎬 Exporting animatic: " + total + " panels, " + sum(frameCounts) + " frames at " +
+                fps + " fps (" + frameWidth + "x" + frameHeight + ", " + container + ")");
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "animatic-encoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        int lookahead = threadCount * 2;
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        int completed = 0;
+        int failed = 0;
+        long bytesWritten = 0;
+        boolean finished = false;
+        byte[] blankFrame = null;
+
+        AviMjpegWriter avi = null;
+        Writer manifest = null;
+        if (container == Container.AVI_MJPEG) {
+            avi = new AviMjpegWriter(target, frameWidth, frameHeight, fps);
+        } else {
+            Files.createDirectories(target);
+            manifest = Files.newBufferedWriter(target.resolve(MANIFEST_NAME), StandardCharsets.UTF_8);
+            manifest.write("ffconcat version 1.0\n");
+        }
+
+        try {
+            int submitIndex = 0;
+            String lastFileName = null;
+
+            for (int i = 0; i < total && !cancelled.get(); i++) {
+                // Keep the encoder pool a bounded distance ahead of the writer
+                while (submitIndex < Math.min(total, i + lookahead)) {
+                    ExportSequence.Entry next = entries.get(submitIndex++);
+                    pending.add(pool.submit(() -> encodeFrame(project, next.getPanel(), frameWidth, frameHeight)));
+                }
+
+                ExportSequence.Entry entry = entries.get(i);
+                byte[] frame;
+                try {
+                    frame = pending.poll().get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    LOG.error("❌ Error encoding frame for " + entry.getBaseName() + ": " + e.getCause());
+                    if (blankFrame == null) {
+                        blankFrame = encodeBlank(frameWidth, frameHeight);
+                    }
+                    frame = blankFrame;
+                }
+
+                if (avi != null) {
+                    // Encoded once, held by reference for the rest of the panel's duration
+                    avi.writeFrame(frame);
+                    for (int repeat = 1; repeat < frameCounts[i]; repeat++) {
+                        avi.repeatFrame();
+                    }
+                } else {
+                    String fileName = entry.getBaseName() + ".jpg";
+                    Files.write(target.resolve(fileName), frame);
+                    bytesWritten += frame.length;
+                    manifest.write("file '" + fileName + "'\n");
+                    manifest.write(String.format(Locale.ROOT, "duration %.6f\n", frameCounts[i] / fps));
+                    lastFileName = fileName;
+                }
+
+                completed++;
+                if (progressListener != null) {
+                    progressListener.onProgress(completed, total, entry);
+                }
+            }
+
+            if (avi != null) {
+                avi.finish();
+                bytesWritten = avi.getBytesWritten();
+            } else if (lastFileName != null) {
+                // The concat demuxer ignores the last entry's duration unless the file is repeated
+                manifest.write("file '" + lastFileName + "'\n");
+            }
+            finished = true;
+        } finally {
+            pool.shutdownNow();
+            if (avi != null) {
+                avi.close();
+                if (!finished || cancelled.get()) {
+                    Files.deleteIfExists(target);
+                }
+            }
+            if (manifest != null) {
+                manifest.close();
+            }
+        }
+
+        ExportResult result = new ExportResult(completed - failed, failed, total, bytesWritten,
+                System.nanoTime() - start, cancelled.get());
+        LOG.info("✅ Animatic export finished: " + result);
+        return result;
+    }
+
+    /**
+     * Frames per entry. Boundaries come from the running total of durations so
+     * rounding never drifts; every panel gets at least one frame.
+     */
+    int[] frameSchedule(List<ExportSequence.Entry> entries) {
+        int[] counts = new int[entries.size()];
+        double elapsedSeconds = 0;
+        long frameStart = 0;
+        for (int i = 0; i < counts.length; i++) {
+            elapsedSeconds += durationSeconds(entries.get(i).getPanel());
+            long frameEnd = Math.max(frameStart + 1, Math.round(elapsedSeconds * fps));
+            counts[i] = (int) (frameEnd - frameStart);
+            frameStart = frameEnd;
+        }
+        return counts;
+    }
+
+    /**
+     * Total animatic length in seconds for the entries (same default as Scene)
+     */
+    public static double totalDurationSeconds(List<ExportSequence.Entry> entries) {
+        return entries.stream().mapToDouble(entry -> durationSeconds(entry.getPanel())).sum();
+    }
+
+    private static double durationSeconds(Panel panel) {
+        return panel.getDisplayDuration() != null ? panel.getDisplayDuration().toSeconds() : 3.0;
+    }
+
+    /**
+     * Decode a panel, letterbox it into the frame and encode as JPEG
+     */
+    private byte[] encodeFrame(Project project, Panel panel, int frameWidth, int frameHeight) throws IOException {
+        BufferedImage image = PanelImages.decode(panel, project.getCanvasWidth(), project.getCanvasHeight());
+        Color background = PanelImages.backgroundColor(panel);
+
+        double fit = Math.min((double) frameWidth / image.getWidth(), (double) frameHeight / image.getHeight());
+        image = PanelImages.scale(image, fit);
+
+        BufferedImage frame = new BufferedImage(frameWidth, frameHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = frame.createGraphics();
+        g2d.setColor(Color.BLACK);
+        g2d.fillRect(0, 0, frameWidth, frameHeight);
+        int x = (frameWidth - image.getWidth()) / 2;
+        int y = (frameHeight - image.getHeight()) / 2;
+        g2d.setColor(background);
+        g2d.fillRect(x, y, image.getWidth(), image.getHeight());
+        g2d.drawImage(image, x, y, null);
+        g2d.dispose();
+
+        return toJpeg(frame);
+    }
+
+    private byte[] encodeBlank(int frameWidth, int frameHeight) throws IOException {
+        return toJpeg(new BufferedImage(frameWidth, frameHeight, BufferedImage.TYPE_INT_RGB));
+    }
+
+    private byte[] toJpeg(BufferedImage frame) throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream(frame.getWidth() * frame.getHeight() / 8);
+        try (OutputStream out = jpeg) {
+            PanelImages.writeJpeg(frame, jpegQuality, out);
+        }
+        return jpeg.toByteArray();
+    }
+
+    private static long sum(int[] values) {
+        long total = 0;
+        for (int value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * Request cancellation - the partial AVI is deleted
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public Container getContainer() { return container; }
+    public void setContainer(Container container) { this.container = container; }
+
+    public double getFps() { return fps; }
+    public void setFps(double fps) {
+        this.fps = Math.max(1.0, Math.min(fps, 120.0));
+    }
+
+    public double getScale() { return scale; }
+    public void setScale(double scale) {
+        this.scale = Math.max(0.05, Math.min(scale, 4.0));
+    }
+
+    public float getJpegQuality() { return jpegQuality; }
+    public void setJpegQuality(float jpegQuality) {
+        this.jpegQuality = Math.max(0.1f, Math.min(jpegQuality, 1.0f));
+    }
+
+    public int getThreadCount() { return threadCount; }
+    public void setThreadCount(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    public void setProgressListener(ExportProgressListener listener) {
+        this.progressListener = listener;
+    }
+}
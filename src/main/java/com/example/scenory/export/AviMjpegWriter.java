@@ -0,0 +1,217 @@
+package com.example.scenory.export;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Minimal streaming Motion-JPEG AVI (RIFF AVI 1.0) writer.
+ * Frames are appended as '00dc' chunks. A repeated frame is written as a
+ * zero-length chunk, which players treat as "show the previous frame again",
+ * so a still panel held for many frames costs 8 bytes per frame instead of a
+ * re-encoded JPEG. Header sizes and counts are patched in place on finish.
+ */
+public class AviMjpegWriter implements Closeable {
+
+    // Classic AVI readers use signed 32-bit offsets
+    private static final long MAX_FILE_SIZE = Integer.MAX_VALUE - 1024L * 1024;
+
+    // Byte positions of the header fields patched on finish
+    private static final int RIFF_SIZE_POS = 4;
+    private static final int AVIH_MAX_BYTES_PER_SEC_POS = 36;
+    private static final int AVIH_TOTAL_FRAMES_POS = 48;
+    private static final int AVIH_SUGGESTED_BUFFER_POS = 60;
+    private static final int STRH_LENGTH_POS = 140;
+    private static final int STRH_SUGGESTED_BUFFER_POS = 144;
+    private static final int MOVI_SIZE_POS = 216;
+    private static final int MOVI_FOURCC_POS = 220;
+    private static final int HEADER_SIZE = 224;
+
+    private static final int AVIF_HASINDEX = 0x10;
+    private static final int AVIIF_KEYFRAME = 0x10;
+
+    private final Path file;
+    private final OutputStream out;
+    private final double fps;
+    private long position;
+
+    // idx1 entries: chunk offset, size and flags per frame
+    private int[] indexOffsets = new int[1024];
+    private int[] indexSizes = new int[1024];
+    private int frameCount;
+    private int largestFrame;
+    private long frameBytes;
+    private boolean finished;
+
+    public AviMjpegWriter(Path file, int width, int height, double fps) throws IOException {
+        this.file = file;
+        this.fps = fps;
+        this.out = new BufferedOutputStream(Files.newOutputStream(file), 256 * 1024);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        fourcc(header, "RIFF").putInt(0).put(ascii("AVI "));
+
+        fourcc(header, "LIST").putInt(192).put(ascii("hdrl"));
+        fourcc(header, "avih").putInt(56);
+        header.putInt((int) Math.round(1_000_000 / fps)); // Microseconds per frame
+        header.putInt(0);                                 // Max bytes per second (patched)
+        header.putInt(0);                                 // Padding granularity
+        header.putInt(AVIF_HASINDEX);
+        header.putInt(0);                                 // Total frames (patched)
+        header.putInt(0);                                 // Initial frames
+        header.putInt(1);                                 // Streams
+        header.putInt(0);                                 // Suggested buffer size (patched)
+        header.putInt(width).putInt(height);
+        header.putInt(0).putInt(0).putInt(0).putInt(0);   // Reserved
+
+        fourcc(header, "LIST").putInt(116).put(ascii("strl"));
+        fourcc(header, "strh").putInt(56);
+        header.put(ascii("vids")).put(ascii("MJPG"));
+        header.putInt(0);                                 // Flags
+        header.putShort((short) 0).putShort((short) 0);   // Priority, language
+        header.putInt(0);                                 // Initial frames
+        header.putInt(1000).putInt((int) Math.round(fps * 1000)); // Scale / rate = fps
+        header.putInt(0);                                 // Start
+        header.putInt(0);                                 // Length in frames (patched)
+        header.putInt(0);                                 // Suggested buffer size (patched)
+        header.putInt(-1);                                // Quality (default)
+        header.putInt(0);                                 // Sample size (variable)
+        header.putShort((short) 0).putShort((short) 0).putShort((short) width).putShort((short) height);
+
+        fourcc(header, "strf").putInt(40);
+        header.putInt(40);                                // BITMAPINFOHEADER size
+        header.putInt(width).putInt(height);
+        header.putShort((short) 1).putShort((short) 24);  // Planes, bit count
+        header.put(ascii("MJPG"));
+        header.putInt(width * height * 3);
+        header.putInt(0).putInt(0).putInt(0).putInt(0);   // Resolution, colours
+
+        fourcc(header, "LIST").putInt(0).put(ascii("movi"));
+        write(header.array());
+    }
+
+    /**
+     * Append an encoded JPEG as a new key frame
+     */
+    public void writeFrame(byte[] jpeg) throws IOException {
+        if (position + jpeg.length + 8 > MAX_FILE_SIZE) {
+            throw new IOException("Animatic exceeds the AVI size limit; export an image sequence instead");
+        }
+        addIndexEntry(jpeg.length);
+        writeChunkHeader(jpeg.length);
+        write(jpeg);
+        if ((jpeg.length & 1) != 0) {
+            out.write(0);
+            position++;
+        }
+        largestFrame = Math.max(largestFrame, jpeg.length);
+        frameBytes += jpeg.length;
+    }
+
+    /**
+     * Hold the previous frame for one more frame period (zero-length chunk)
+     */
+    public void repeatFrame() throws IOException {
+        if (frameCount == 0) {
+            throw new IllegalStateException("No frame to repeat");
+        }
+        addIndexEntry(0);
+        writeChunkHeader(0);
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public long getBytesWritten() {
+        return position;
+    }
+
+    /**
+     * Write the index and patch the header counts
+     */
+    public void finish() throws IOException {
+        long moviEnd = position;
+
+        ByteBuffer entry = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer idxHeader = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        fourcc(idxHeader, "idx1").putInt(frameCount * 16);
+        write(idxHeader.array());
+        for (int i = 0; i < frameCount; i++) {
+            entry.clear();
+            fourcc(entry, "00dc");
+            entry.putInt(indexSizes[i] > 0 ? AVIIF_KEYFRAME : 0);
+            entry.putInt(indexOffsets[i]);
+            entry.putInt(indexSizes[i]);
+            write(entry.array());
+        }
+        out.close();
+        finished = true;
+
+        double seconds = frameCount / fps;
+        int maxBytesPerSec = seconds > 0 ? (int) Math.min(Integer.MAX_VALUE, frameBytes / seconds) : 0;
+        int suggestedBuffer = largestFrame + 8;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            patch(channel, RIFF_SIZE_POS, (int) (position - 8));
+            patch(channel, AVIH_MAX_BYTES_PER_SEC_POS, maxBytesPerSec);
+            patch(channel, AVIH_TOTAL_FRAMES_POS, frameCount);
+            patch(channel, AVIH_SUGGESTED_BUFFER_POS, suggestedBuffer);
+            patch(channel, STRH_LENGTH_POS, frameCount);
+            patch(channel, STRH_SUGGESTED_BUFFER_POS, suggestedBuffer);
+            patch(channel, MOVI_SIZE_POS, (int) (moviEnd - MOVI_SIZE_POS - 4));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            out.close();
+        }
+    }
+
+    private void addIndexEntry(int size) {
+        if (frameCount == indexOffsets.length) {
+            indexOffsets = Arrays.copyOf(indexOffsets, frameCount * 2);
+            indexSizes = Arrays.copyOf(indexSizes, frameCount * 2);
+        }
+        // Offsets are relative to the 'movi' fourcc
+        indexOffsets[frameCount] = (int) (position - MOVI_FOURCC_POS);
+        indexSizes[frameCount] = size;
+        frameCount++;
+    }
+
+    private void writeChunkHeader(int size) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        fourcc(chunk, "00dc").putInt(size);
+        write(chunk.array());
+    }
+
+    private void write(byte[] data) throws IOException {
+        out.write(data);
+        position += data.length;
+    }
+
+    private static void patch(FileChannel channel, long pos, int value) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value);
+        buffer.flip();
+        channel.write(buffer, pos);
+    }
+
+    private static ByteBuffer fourcc(ByteBuffer buffer, String code) {
+        return buffer.put(ascii(code));
+    }
+
+    private static byte[] ascii(String code) {
+        return code.getBytes(StandardCharsets.US_ASCII);
+    }
+}
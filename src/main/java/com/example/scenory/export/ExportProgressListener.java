@@ -0,0 +1,8 @@
+package com.example.scenory.export;
+
+/**
+ * Progress callback shared by all exporters (called from worker threads)
+ */
+public interface ExportProgressListener {
+    void onProgress(int completed, int total, ExportSequence.Entry entry);
+}
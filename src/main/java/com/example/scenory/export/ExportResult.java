@@ -0,0 +1,44 @@
+package com.example.scenory.export;
+
+/**
+ * Summary of a finished (or cancelled) export
+ */
+public class ExportResult {
+    private final int exported;
+    private final int failed;
+    private final int total;
+    private final long bytesWritten;
+    private final long elapsedNanos;
+    private final boolean cancelled;
+
+    public ExportResult(int exported, int failed, int total, long bytesWritten, long elapsedNanos, boolean cancelled) {
+        this.exported = exported;
+        this.failed = failed;
+        this.total = total;
+        this.bytesWritten = bytesWritten;
+        this.elapsedNanos = elapsedNanos;
+        this.cancelled = cancelled;
+    }
+
+    public int getExported() { return exported; }
+    public int getFailed() { return failed; }
+    public int getTotal() { return total; }
+    public long getBytesWritten() { return bytesWritten; }
+    public boolean isCancelled() { return cancelled; }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    public double getPanelsPerSecond() {
+        double seconds = getElapsedSeconds();
+        return seconds > 0 ? exported / seconds : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d panels exported%s, %d failed, %.1f MB in %.2fs (%.1f panels/s)",
+                exported, total, cancelled ? " (cancelled)" : "", failed,
+                bytesWritten / (1024.0 * 1024.0), getElapsedSeconds(), getPanelsPerSecond());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.scenory.export;
+
+import com.example.scenory.model.Panel;
+import com.example.scenory.model.Project;
+import com.example.scenory.model.Scene;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deterministic scene/panel ordering shared by all exporters.
+ * Scenes and panels are ordered by sequence order, ties broken by list position,
+ * so the same project always produces the same file names and page order.
+ */
+public class ExportSequence {
+
+    /**
+     * One panel in export order
+     */
+    public static class Entry {
+        private final int sceneNumber;
+        private final int panelNumber;
+        private final int globalIndex;
+        private final Scene scene;
+        private final Panel panel;
+
+        Entry(int sceneNumber, int panelNumber, int globalIndex, Scene scene, Panel panel) {
+            this.sceneNumber = sceneNumber;
+            this.panelNumber = panelNumber;
+            this.globalIndex = globalIndex;
+            this.scene = scene;
+            this.panel = panel;
+        }
+
+        public int getSceneNumber() { return sceneNumber; }
+        public int getPanelNumber() { return panelNumber; }
+        public int getGlobalIndex() { return globalIndex; }
+        public Scene getScene() { return scene; }
+        public Panel getPanel() { return panel; }
+
+        /**
+         * File name without extension, e.g. "S001_P0003_Opening_shot"
+         */
+        public String getBaseName() {
+            return String.format("S%03d_P%04d_%s", sceneNumber, panelNumber, sanitize(panel.getName()));
+        }
+    }
+
+    /**
+     * All panels of the project in export order
+     */
+    public static List<Entry> of(Project project) {
+        return of(project, null);
+    }
+
+    /**
+     * Panels of the project in export order, limited to a selection (null = all).
+     * Numbering always reflects the position in the full project.
+     */
+    public static List<Entry> of(Project project, Collection<Panel> selection) {
+        Set<Panel> selected = selection != null ? Set.copyOf(selection) : null;
+        List<Entry> entries = new ArrayList<>();
+
+        List<Scene> scenes = sortedBySequence(project.getScenes(), Scene::getSequenceOrder);
+        int globalIndex = 0;
+
+        for (int s = 0; s < scenes.size(); s++) {
+            Scene scene = scenes.get(s);
+            List<Panel> panels = sortedBySequence(scene.getPanels(), Panel::getSequenceOrder);
+
+            for (int p = 0; p < panels.size(); p++) {
+                Panel panel = panels.get(p);
+                if (selected == null || selected.contains(panel)) {
+                    entries.add(new Entry(s + 1, p + 1, globalIndex, scene, panel));
+                }
+                globalIndex++;
+            }
+        }
+
+        return entries;
+    }
+
+    private static <T> List<T> sortedBySequence(List<T> items, java.util.function.ToIntFunction<T> order) {
+        List<T> sorted = new ArrayList<>(items);
+        // List.sort is stable, so equal sequence orders keep their list position
+        sorted.sort(Comparator.comparingInt(order));
+        return sorted;
+    }
+
+    /**
+     * Make a panel name safe for file systems
+     */
+    public static String sanitize(String name) {
+        if (name == null || name.isBlank()) {
+            return "Panel";
+        }
+        String cleaned = name.trim().replaceAll("[^A-Za-z0-9._-]+", "_").replaceAll("_+", "_");
+        if (cleaned.length() > 64) {
+            cleaned = cleaned.substring(0, 64);
+        }
+        return cleaned.isEmpty() ? "Panel" : cleaned;
+    }
+}
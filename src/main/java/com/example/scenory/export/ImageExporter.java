@@ -0,0 +1,231 @@
+package com.example.scenory.export;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.model.Panel;
+import com.example.scenory.model.Project;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Batch exporter that writes panels to PNG/JPEG files in parallel.
+ * Export is a two-stage pipeline: decode workers decode and scale a panel and
+ * hand the image to encode workers, which encode and write it, so one panel is
+ * being encoded while the next is decoded. A semaphore caps how many panels are
+ * in flight across both stages, which bounds each stage's queue and memory
+ * regardless of project size.
+ */
+public class ImageExporter {
+
+    private static final Logger LOG = Log.getLogger(ImageExporter.class);
+
+    public enum Format {
+        PNG("png"), JPEG("jpg");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    // Configuration
+    private Format format = Format.PNG;
+    private double scale = 1.0;
+    private float jpegQuality = 0.9f;
+    private int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private int maxInFlight = -1; // Defaults to twice the thread count
+
+    private ExportProgressListener progressListener;
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+    /**
+     * Export every panel of the project
+     */
+    public ExportResult exportAll(Project project, Path outputDir) throws IOException, InterruptedException {
+        return export(project, null, outputDir);
+    }
+
+    /**
+     * Export a selection of panels (null = all) into the output directory
+     */
+    public ExportResult export(Project project, Collection<Panel> selection, Path outputDir)
+            throws IOException, InterruptedException {
+        Files.createDirectories(outputDir);
+        cancelled.set(false);
+
+        List<ExportSequence.Entry> entries = ExportSequence.of(project, selection);
+        int total = entries.size();
+        int inFlightLimit = maxInFlight > 0 ? maxInFlight : threadCount * 2;
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicLong bytesWritten = new AtomicLong();
+        Semaphore inFlight = new Semaphore(inFlightLimit);
+
+        // Encoding is the slower stage, so it gets the larger half of the workers
+        int decodeThreads = Math.max(1, threadCount / 2);
+        int encodeThreads = Math.max(1, threadCount - decodeThreads);
+
+        LOG.info("📤 Exporting " + total + " panels as " + format + " at " + Math.round(scale * 100) +
+                "% (" + decodeThreads + " decode + " + encodeThreads + " encode workers, " +
+                inFlightLimit + " in flight)");
+
+        long start = System.nanoTime();
+        ExecutorService decoders = Executors.newFixedThreadPool(decodeThreads, workerThreadFactory("decode"));
+        ExecutorService encoders = Executors.newFixedThreadPool(encodeThreads, workerThreadFactory("encode"));
+
+        try {
+            for (ExportSequence.Entry entry : entries) {
+                // Blocks while the in-flight limit is reached, so neither stage queue piles up in memory
+                inFlight.acquire();
+                if (cancelled.get()) {
+                    inFlight.release();
+                    break;
+                }
+
+                decoders.execute(() -> {
+                    BufferedImage image;
+                    try {
+                        if (cancelled.get()) {
+                            inFlight.release();
+                            return;
+                        }
+                        image = preparePanel(project, entry);
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        LOG.error("❌ Error decoding " + entry.getBaseName() + ": " + e.getMessage());
+                        inFlight.release();
+                        return;
+                    }
+
+                    encoders.execute(() -> {
+                        try {
+                            if (!cancelled.get()) {
+                                bytesWritten.addAndGet(writePanel(image, entry, outputDir));
+                                int done = completed.incrementAndGet();
+                                if (progressListener != null) {
+                                    progressListener.onProgress(done, total, entry);
+                                }
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                            LOG.error("❌ Error exporting " + entry.getBaseName() + ": " + e.getMessage());
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                });
+            }
+        } finally {
+            // Decoders hand work to the encoders, so they have to finish first
+            decoders.shutdown();
+            decoders.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            encoders.shutdown();
+            encoders.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+
+        ExportResult result = new ExportResult(completed.get(), failed.get(), total,
+                bytesWritten.get(), System.nanoTime() - start, cancelled.get());
+        LOG.info("✅ Image export finished: " + result);
+        return result;
+    }
+
+    /**
+     * Decode stage: decode and scale a single panel onto its background
+     */
+    private BufferedImage preparePanel(Project project, ExportSequence.Entry entry) throws IOException {
+        Panel panel = entry.getPanel();
+
+        BufferedImage image = PanelImages.decode(panel, project.getCanvasWidth(), project.getCanvasHeight());
+        image = PanelImages.scale(image, scale);
+        // Canvas data holds the drawing only; both formats get the panel background under it
+        return PanelImages.toOpaque(image, PanelImages.backgroundColor(panel));
+    }
+
+    /**
+     * Encode stage: encode a prepared image and write it. Returns bytes written.
+     */
+    private long writePanel(BufferedImage image, ExportSequence.Entry entry, Path outputDir) throws IOException {
+        Path target = outputDir.resolve(entry.getBaseName() + "." + format.getExtension());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), 64 * 1024)) {
+            if (format == Format.JPEG) {
+                PanelImages.writeJpeg(image, jpegQuality, out);
+            } else if (!ImageIO.write(image, "PNG", out)) {
+                throw new IOException("No PNG writer available");
+            }
+        }
+        return Files.size(target);
+    }
+
+    /**
+     * Request cancellation - panels already being encoded finish, the rest are skipped
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    private static ThreadFactory workerThreadFactory(String stage) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "image-export-" + stage + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public Format getFormat() { return format; }
+    public void setFormat(Format format) { this.format = format; }
+
+    public double getScale() { return scale; }
+    public void setScale(double scale) {
+        this.scale = Math.max(0.05, Math.min(scale, 8.0));
+    }
+
+    public float getJpegQuality() { return jpegQuality; }
+    public void setJpegQuality(float jpegQuality) {
+        this.jpegQuality = Math.max(0.1f, Math.min(jpegQuality, 1.0f));
+    }
+
+    public int getThreadCount() { return threadCount; }
+    public void setThreadCount(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    public int getMaxInFlight() { return maxInFlight; }
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public void setProgressListener(ExportProgressListener listener) {
+        this.progressListener = listener;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.scenory.export;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.model.Panel;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Stage-free image helpers for exporters: decode panel canvas data,
+ * scale it and encode it, all with plain AWT so they run on worker threads.
+ */
+public class PanelImages {
+
+    private static final Logger LOG = Log.getLogger(PanelImages.class);
+
+    static {
+        // Encode straight to the target stream instead of through temp files
+        ImageIO.setUseCache(false);
+    }
+
+    /**
+     * Decode a panel's canvas, or a blank canvas in its background colour if it has no drawing.
+     * Canvas data is the drawing on transparency; callers flatten it onto backgroundColor(panel).
+     */
+    public static BufferedImage decode(Panel panel, int fallbackWidth, int fallbackHeight) throws IOException {
+        if (panel.hasCanvasData()) {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(panel.getCanvasImageData()));
+            if (image != null) {
+                return image;
+            }
+            LOG.warn("⚠️ Unreadable canvas data for panel: " + panel.getName());
+        }
+
+        BufferedImage blank = new BufferedImage(fallbackWidth, fallbackHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = blank.createGraphics();
+        g2d.setColor(backgroundColor(panel));
+        g2d.fillRect(0, 0, fallbackWidth, fallbackHeight);
+        g2d.dispose();
+        return blank;
+    }
+
+    /**
+     * Scale an image by a factor. Large reductions are done in halving steps for quality.
+     */
+    public static BufferedImage scale(BufferedImage source, double factor) {
+        if (factor == 1.0) {
+            return source;
+        }
+
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * factor));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * factor));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            if (width > targetWidth * 2) {
+                width /= 2;
+            } else {
+                width = targetWidth;
+            }
+            if (height > targetHeight * 2) {
+                height /= 2;
+            } else {
+                height = targetHeight;
+            }
+
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = step.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(current, 0, 0, width, height, null);
+            g2d.dispose();
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * Flatten alpha onto the panel background (JPEG has no alpha channel)
+     */
+    public static BufferedImage toOpaque(BufferedImage source, Color background) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = rgb.createGraphics();
+        g2d.setColor(background);
+        g2d.fillRect(0, 0, source.getWidth(), source.getHeight());
+        g2d.drawImage(source, 0, 0, null);
+        g2d.dispose();
+        return rgb;
+    }
+
+    /**
+     * Encode as JPEG with an explicit quality (0-1)
+     */
+    public static void writeJpeg(BufferedImage image, float quality, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Panel background as an AWT colour (accepts "#RRGGBB" and JavaFX "0xRRGGBBAA" forms)
+     */
+    public static Color backgroundColor(Panel panel) {
+        String value = panel.getCanvasBackgroundColor();
+        if (value == null || value.isBlank()) {
+            return Color.WHITE;
+        }
+        try {
+            String hex = value.startsWith("#") ? value.substring(1)
+                    : value.startsWith("0x") ? value.substring(2) : value;
+            return new Color(Integer.parseInt(hex.substring(0, 6), 16));
+        } catch (RuntimeException e) {
+            return Color.WHITE;
+        }
+    }
+}
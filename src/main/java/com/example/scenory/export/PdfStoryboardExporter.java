@@ -0,0 +1,424 @@
+package com.example.scenory.export;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.model.Panel;
+import com.example.scenory.model.Project;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+/**
+ * Storyboard PDF export.
+ * Pages are laid out as a grid of panels with title, dialogue, action and camera
+ * notes and streamed to disk one at a time through {@link PdfWriter}. Panel images
+ * are decoded, downscaled and compressed by a worker pool a bounded number of
+ * panels ahead of the writer. Identical canvases are embedded once and shared by
+ * object id.
+ */
+public class PdfStoryboardExporter {
+
+    private static final Logger LOG = Log.getLogger(PdfStoryboardExporter.class);
+
+    public enum ImageCompression {
+        FLATE,  // Lossless
+        JPEG    // Smaller files, faster for photographic content
+    }
+
+    // Page geometry in points (US Letter landscape)
+    private static final float PAGE_WIDTH = 792f;
+    private static final float PAGE_HEIGHT = 612f;
+    private static final float MARGIN = 36f;
+    private static final float HEADER_HEIGHT = 24f;
+    private static final float GUTTER = 14f;
+    private static final float TITLE_SIZE = 9f;
+    private static final float TEXT_SIZE = 7.5f;
+    private static final float LINE_HEIGHT = 9.5f;
+    private static final int TEXT_LINES = 5;
+
+    // Configuration
+    private int columns = 3;
+    private int rows = 2;
+    private int imageDpi = 150;
+    private ImageCompression compression = ImageCompression.FLATE;
+    private float jpegQuality = 0.85f;
+    private int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private ExportProgressListener progressListener;
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+    /**
+     * Image ready to embed (already compressed)
+     */
+    private static class PreparedImage {
+        final int width;
+        final int height;
+        final byte[] data;
+
+        PreparedImage(int width, int height, byte[] data) {
+            this.width = width;
+            this.height = height;
+            this.data = data;
+        }
+    }
+
+    public ExportResult export(Project project, Path file) throws IOException, InterruptedException {
+        return export(project, null, file);
+    }
+
+    /**
+     * Export a selection of panels (null = all) as a storyboard PDF
+     */
+    public ExportResult export(Project project, Collection<Panel> selection, Path file)
+            throws IOException, InterruptedException {
+        cancelled.set(false);
+        List<ExportSequence.Entry> entries = ExportSequence.of(project, selection);
+        int total = entries.size();
+        int perPage = columns * rows;
+
+        float cellWidth = (PAGE_WIDTH - 2 * MARGIN - (columns - 1) * GUTTER) / columns;
+        float cellHeight = (PAGE_HEIGHT - 2 * MARGIN - HEADER_HEIGHT - (rows - 1) * GUTTER) / rows;
+        float textHeight = TITLE_SIZE + 2 + TEXT_LINES * LINE_HEIGHT;
+        float imageBoxHeight = cellHeight - textHeight - 4;
+        int targetPixelWidth = Math.round(cellWidth / 72f * imageDpi);
+
+        LOG.info("📄 Exporting " + total + " panels to PDF (" + columns + "x" + rows + " per page)");
+
+        long start = System.nanoTime();
+        int lookahead = Math.max(perPage, threadCount * 2);
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "pdf-image-encoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Only ids of embedded images and page objects are kept, not their data
+        Map<String, Integer> embeddedImages = new HashMap<>();
+        Map<String, Future<PreparedImage>> pendingImages = new HashMap<>();
+        List<Integer> pageIds = new ArrayList<>();
+        String[] imageKeys = new String[total];
+        AtomicInteger failed = new AtomicInteger();
+        int completed = 0;
+        long bytesWritten = 0;
+        boolean finished = false;
+
+        try (PdfWriter pdf = new PdfWriter(file)) {
+            int pagesId = pdf.reserveObjectId();
+            int fontId = pdf.writeObject("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+            int boldFontId = pdf.writeObject("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+
+            int submitIndex = 0;
+            for (int pageStart = 0; pageStart < total && !cancelled.get(); pageStart += perPage) {
+                int pageEnd = Math.min(total, pageStart + perPage);
+
+                // Keep the encoder pool a bounded distance ahead of the writer
+                while (submitIndex < Math.min(total, pageEnd + lookahead)) {
+                    imageKeys[submitIndex] = submitImage(project, entries.get(submitIndex), targetPixelWidth,
+                            embeddedImages, pendingImages, pool);
+                    submitIndex++;
+                }
+
+                StringBuilder content = new StringBuilder(4096);
+                StringBuilder xObjects = new StringBuilder();
+                int pageNumber = pageIds.size() + 1;
+
+                // Page header
+                content.append("BT /F2 11 Tf ").append(fmt(MARGIN)).append(' ')
+                        .append(fmt(PAGE_HEIGHT - MARGIN - 11)).append(" Td ")
+                        .append(PdfWriter.literal(safe(project.getName()))).append(" Tj ET\n");
+                String pageLabel = "Page " + pageNumber;
+                content.append("BT /F1 9 Tf ").append(fmt(PAGE_WIDTH - MARGIN - pageLabel.length() * 4.6f)).append(' ')
+                        .append(fmt(PAGE_HEIGHT - MARGIN - 11)).append(" Td ")
+                        .append(PdfWriter.literal(pageLabel)).append(" Tj ET\n");
+
+                for (int i = pageStart; i < pageEnd; i++) {
+                    ExportSequence.Entry entry = entries.get(i);
+                    Panel panel = entry.getPanel();
+                    int slot = i - pageStart;
+                    float cellX = MARGIN + (slot % columns) * (cellWidth + GUTTER);
+                    float cellTop = PAGE_HEIGHT - MARGIN - HEADER_HEIGHT - (slot / columns) * (cellHeight + GUTTER);
+
+                    // Image, fitted into the image box keeping its aspect ratio
+                    Integer imageId = null;
+                    String key = imageKeys[i];
+                    try {
+                        if (key != null) {
+                            imageId = embeddedImages.get(key);
+                            Future<PreparedImage> pending = pendingImages.remove(key);
+                            if (imageId == null && pending != null) {
+                                PreparedImage prepared = pending.get();
+                                imageId = pdf.writeStream("/Type /XObject /Subtype /Image /Width " + prepared.width +
+                                        " /Height " + prepared.height + " /ColorSpace /DeviceRGB /BitsPerComponent 8 " +
+                                        (compression == ImageCompression.JPEG ? "/Filter /DCTDecode" : "/Filter /FlateDecode"),
+                                        prepared.data);
+                                embeddedImages.put(key, imageId);
+                            }
+                        }
+                    } catch (ExecutionException e) {
+                        failed.incrementAndGet();
+                        imageId = null;
+                        LOG.error("❌ Error preparing image for " + entry.getBaseName() + ": " + e.getCause());
+                    }
+
+                    float aspect = (float) project.getCanvasHeight() / project.getCanvasWidth();
+                    float imageWidth = cellWidth;
+                    float imageHeight = imageWidth * aspect;
+                    if (imageHeight > imageBoxHeight) {
+                        imageHeight = imageBoxHeight;
+                        imageWidth = imageHeight / aspect;
+                    }
+                    float imageX = cellX + (cellWidth - imageWidth) / 2;
+                    float imageY = cellTop - imageHeight;
+
+                    if (imageId != null) {
+                        String name = "Im" + imageId;
+                        xObjects.append('/').append(name).append(' ').append(imageId).append(" 0 R ");
+                        content.append("q ").append(fmt(imageWidth)).append(" 0 0 ").append(fmt(imageHeight)).append(' ')
+                                .append(fmt(imageX)).append(' ').append(fmt(imageY)).append(" cm /").append(name).append(" Do Q\n");
+                    } else {
+                        Color background = PanelImages.backgroundColor(panel);
+                        content.append(fmt(background.getRed() / 255f)).append(' ')
+                                .append(fmt(background.getGreen() / 255f)).append(' ')
+                                .append(fmt(background.getBlue() / 255f)).append(" rg ")
+                                .append(rect(imageX, imageY, imageWidth, imageHeight)).append(" f 0 g\n");
+                    }
+                    content.append("0.6 G 0.5 w ").append(rect(imageX, imageY, imageWidth, imageHeight)).append(" S 0 G\n");
+
+                    // Caption block
+                    float textY = imageY - TITLE_SIZE - 3;
+                    String title = String.format("S%d P%d  %s  (%s)", entry.getSceneNumber(), entry.getPanelNumber(),
+                            safe(panel.getName()), panel.getFormattedDisplayDuration());
+                    text(content, "/F2", TITLE_SIZE, cellX, textY, fit(title, cellWidth, TITLE_SIZE));
+
+                    List<String> lines = captionLines(panel, cellWidth);
+                    for (int line = 0; line < lines.size(); line++) {
+                        text(content, "/F1", TEXT_SIZE, cellX, textY - (line + 1) * LINE_HEIGHT, lines.get(line));
+                    }
+
+                    completed++;
+                    if (progressListener != null) {
+                        progressListener.onProgress(completed, total, entry);
+                    }
+                }
+
+                int contentId = pdf.writeDeflatedStream("", content.toString().getBytes(StandardCharsets.ISO_8859_1));
+                int pageId = pdf.writeObject("<< /Type /Page /Parent " + pagesId + " 0 R /MediaBox [0 0 " +
+                        fmt(PAGE_WIDTH) + " " + fmt(PAGE_HEIGHT) + "] /Contents " + contentId + " 0 R" +
+                        " /Resources << /Font << /F1 " + fontId + " 0 R /F2 " + boldFontId + " 0 R >>" +
+                        (xObjects.length() > 0 ? " /XObject << " + xObjects + ">>" : "") + " >> >>");
+                pageIds.add(pageId);
+            }
+
+            // Page tree, catalog and info are written last, once all page ids are known
+            StringBuilder kids = new StringBuilder();
+            for (int pageId : pageIds) {
+                kids.append(pageId).append(" 0 R ");
+            }
+            pdf.writeObject(pagesId, "<< /Type /Pages /Kids [" + kids + "] /Count " + pageIds.size() + " >>");
+            int catalogId = pdf.writeObject("<< /Type /Catalog /Pages " + pagesId + " 0 R >>");
+            int infoId = pdf.writeObject("<< /Title " + PdfWriter.literal(safe(project.getName())) +
+                    " /Producer (Scenory) >>");
+            pdf.finish(catalogId, infoId);
+
+            bytesWritten = pdf.getBytesWritten();
+            finished = true;
+        } finally {
+            pool.shutdownNow();
+            if (!finished || cancelled.get()) {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        ExportResult result = new ExportResult(completed, failed.get(), total, bytesWritten,
+                System.nanoTime() - start, cancelled.get());
+        LOG.info("✅ PDF export finished: " + result + ", " + embeddedImages.size() +
+                " unique images, " + pageIds.size() + " pages");
+        return result;
+    }
+
+    /**
+     * Queue image preparation for an entry unless the same image is already embedded or queued.
+     * Returns the entry's image key (null when the panel has no drawing).
+     */
+    private String submitImage(Project project, ExportSequence.Entry entry, int targetPixelWidth,
+                             Map<String, Integer> embedded, Map<String, Future<PreparedImage>> pending,
+                             ExecutorService pool) {
+        Panel panel = entry.getPanel();
+        String key = imageKey(panel);
+        if (key != null && !embedded.containsKey(key) && !pending.containsKey(key)) {
+            pending.put(key, pool.submit(() -> prepareImage(project, panel, targetPixelWidth)));
+        }
+        return key;
+    }
+
+    /**
+     * Decode, downscale to the placement resolution, flatten and compress
+     */
+    private PreparedImage prepareImage(Project project, Panel panel, int targetPixelWidth) throws IOException {
+        BufferedImage image = PanelImages.decode(panel, project.getCanvasWidth(), project.getCanvasHeight());
+        if (image.getWidth() > targetPixelWidth) {
+            image = PanelImages.scale(image, (double) targetPixelWidth / image.getWidth());
+        }
+        image = PanelImages.toOpaque(image, PanelImages.backgroundColor(panel));
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        if (compression == ImageCompression.JPEG) {
+            ByteArrayOutputStream jpeg = new ByteArrayOutputStream(width * height / 4);
+            PanelImages.writeJpeg(image, jpegQuality, jpeg);
+            return new PreparedImage(width, height, jpeg.toByteArray());
+        }
+
+        byte[] rgb = new byte[width * height * 3];
+        int[] row = new int[width];
+        int index = 0;
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int pixel = row[x];
+                rgb[index++] = (byte) (pixel >> 16);
+                rgb[index++] = (byte) (pixel >> 8);
+                rgb[index++] = (byte) pixel;
+            }
+        }
+        return new PreparedImage(width, height, PdfWriter.deflate(rgb, Deflater.BEST_SPEED));
+    }
+
+    /**
+     * Content hash of the canvas data and background colour, so duplicated panels share one image object
+     */
+    private static String imageKey(Panel panel) {
+        if (!panel.hasCanvasData()) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(Integer.toHexString(PanelImages.backgroundColor(panel).getRGB()).getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest.digest(panel.getCanvasImageData()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private List<String> captionLines(Panel panel, float width) {
+        List<String> lines = new ArrayList<>();
+        addField(lines, "Dialogue", panel.getDialogue(), width);
+        addField(lines, "Action", panel.getAction(), width);
+
+        StringBuilder camera = new StringBuilder();
+        for (String part : new String[]{panel.getShotType(), panel.getCameraAngle(), panel.getCameraMovement()}) {
+            if (part != null && !part.isBlank()) {
+                if (camera.length() > 0) camera.append(" / ");
+                camera.append(part.trim());
+            }
+        }
+        addField(lines, "Camera", camera.toString(), width);
+        addField(lines, "Notes", panel.getDescriptionPlainText(), width);
+
+        return lines.size() > TEXT_LINES ? lines.subList(0, TEXT_LINES) : lines;
+    }
+
+    private void addField(List<String> lines, String label, String value, float width) {
+        if (value == null || value.isBlank()) return;
+        String text = label + ": " + safe(value).replaceAll("\\s+", " ").trim();
+
+        // Up to two wrapped lines per field
+        int maxChars = Math.max(8, (int) (width / (TEXT_SIZE * 0.5f)));
+        if (text.length() <= maxChars) {
+            lines.add(text);
+            return;
+        }
+        int split = text.lastIndexOf(' ', maxChars);
+        if (split <= label.length() + 1) split = maxChars;
+        lines.add(text.substring(0, split));
+        lines.add(fit(text.substring(split).trim(), width, TEXT_SIZE));
+    }
+
+    /**
+     * Truncate text to fit a width using an average Helvetica glyph width
+     */
+    private static String fit(String text, float width, float fontSize) {
+        int maxChars = Math.max(4, (int) (width / (fontSize * 0.5f)));
+        return text.length() <= maxChars ? text : text.substring(0, maxChars - 3) + "...";
+    }
+
+    private static void text(StringBuilder content, String font, float size, float x, float y, String text) {
+        content.append("BT ").append(font).append(' ').append(fmt(size)).append(" Tf ")
+                .append(fmt(x)).append(' ').append(fmt(y)).append(" Td ")
+                .append(PdfWriter.literal(text)).append(" Tj ET\n");
+    }
+
+    private static String rect(float x, float y, float w, float h) {
+        return fmt(x) + " " + fmt(y) + " " + fmt(w) + " " + fmt(h) + " re";
+    }
+
+    private static String fmt(float value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static String safe(String text) {
+        return text != null ? text : "";
+    }
+
+    /**
+     * Request cancellation - the partial file is removed
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public void setGrid(int columns, int rows) {
+        this.columns = Math.max(1, columns);
+        this.rows = Math.max(1, rows);
+    }
+
+    public int getColumns() { return columns; }
+    public int getRows() { return rows; }
+
+    public int getImageDpi() { return imageDpi; }
+    public void setImageDpi(int imageDpi) {
+        this.imageDpi = Math.max(36, Math.min(imageDpi, 600));
+    }
+
+    public ImageCompression getCompression() { return compression; }
+    public void setCompression(ImageCompression compression) { this.compression = compression; }
+
+    public void setJpegQuality(float jpegQuality) {
+        this.jpegQuality = Math.max(0.1f, Math.min(jpegQuality, 1.0f));
+    }
+
+    public int getThreadCount() { return threadCount; }
+    public void setThreadCount(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    public void setProgressListener(ExportProgressListener listener) {
+        this.progressListener = listener;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.scenory.export;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Minimal streaming PDF 1.4 writer.
+ * Objects are written to disk as soon as they are complete; only their byte
+ * offsets are kept for the cross-reference table, so memory stays flat no
+ * matter how many pages the document has.
+ */
+public class PdfWriter implements Closeable {
+
+    private final CountingOutputStream out;
+    private long[] offsets = new long[256];
+    private int nextObjectId = 1;
+
+    public PdfWriter(Path file) throws IOException {
+        this.out = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 256 * 1024));
+        // Header plus a binary comment so tools treat the file as binary
+        write("%PDF-1.4\n");
+        out.write(new byte[]{'%', (byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n'});
+    }
+
+    /**
+     * Reserve an object id to be written later (e.g. the page tree)
+     */
+    public int reserveObjectId() {
+        int id = nextObjectId++;
+        ensureCapacity(id);
+        return id;
+    }
+
+    /**
+     * Write a complete dictionary object
+     */
+    public int writeObject(String body) throws IOException {
+        int id = reserveObjectId();
+        writeObject(id, body);
+        return id;
+    }
+
+    /**
+     * Write a dictionary object under a previously reserved id
+     */
+    public void writeObject(int id, String body) throws IOException {
+        beginObject(id);
+        write(body);
+        write("\nendobj\n");
+    }
+
+    /**
+     * Write a stream object whose data is already encoded
+     */
+    public int writeStream(String dictionaryEntries, byte[] data) throws IOException {
+        int id = reserveObjectId();
+        beginObject(id);
+        write("<< " + dictionaryEntries + " /Length " + data.length + " >>\nstream\n");
+        out.write(data);
+        write("\nendstream\nendobj\n");
+        return id;
+    }
+
+    /**
+     * Write a stream object, Flate-compressing the data on the way out
+     */
+    public int writeDeflatedStream(String dictionaryEntries, byte[] data) throws IOException {
+        return writeStream(dictionaryEntries + " /Filter /FlateDecode", deflate(data, Deflater.DEFAULT_COMPRESSION));
+    }
+
+    /**
+     * Finish the document: cross-reference table and trailer
+     */
+    public void finish(int catalogId, int infoId) throws IOException {
+        long xrefOffset = out.getCount();
+        int size = nextObjectId;
+
+        StringBuilder xref = new StringBuilder(size * 20 + 64);
+        xref.append("xref\n0 ").append(size).append('\n');
+        xref.append("0000000000 65535 f \n");
+        for (int id = 1; id < size; id++) {
+            xref.append(String.format("%010d 00000 n \n", offsets[id]));
+        }
+        write(xref.toString());
+
+        write("trailer\n<< /Size " + size + " /Root " + catalogId + " 0 R /Info " + infoId + " 0 R >>\n");
+        write("startxref\n" + xrefOffset + "\n%%EOF\n");
+        out.flush();
+    }
+
+    public long getBytesWritten() {
+        return out.getCount();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    // =====================================
+    // ENCODING HELPERS
+    // =====================================
+
+    /**
+     * Flate-compress a byte array
+     */
+    public static byte[] deflate(byte[] data, int level) throws IOException {
+        java.io.ByteArrayOutputStream buffer = new java.io.ByteArrayOutputStream(Math.max(64, data.length / 4));
+        Deflater deflater = new Deflater(level);
+        try (DeflaterOutputStream dos = new DeflaterOutputStream(buffer, deflater, 16 * 1024)) {
+            dos.write(data);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Escape text for a PDF literal string (WinAnsi; unsupported characters become '?')
+     */
+    public static String literal(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2);
+        sb.append('(');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c == '\n' || c == '\r' || c == '\t') {
+                sb.append(' ');
+            } else if (c < 32 || c > 255) {
+                sb.append('?');
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append(')');
+        return sb.toString();
+    }
+
+    private void beginObject(int id) throws IOException {
+        offsets[id] = out.getCount();
+        write(id + " 0 obj\n");
+    }
+
+    private void write(String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, id + 1));
+        }
+    }
+
+    /**
+     * Tracks the byte offset needed for the cross-reference table
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.scenory.input;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
@@ -16,6 +18,8 @@ import java.lang.Runnable;
  */
 public class KeyboardShortcutManager {
 
+    private static final Logger LOG = Log.getLogger(KeyboardShortcutManager.class);
+
     private final Map<KeyCombination, Runnable> shortcuts = new HashMap<>();
     private final Map<KeyCode, Runnable> singleKeyShortcuts = new HashMap<>();
     private Scene scene;
@@ -23,7 +27,7 @@ public class KeyboardShortcutManager {
     public KeyboardShortcutManager(Scene scene) {
         this.scene = scene;
         setupEventHandlers();
-        System.out.println("⌨️ Keyboard shortcut manager initialized");
+        LOG.debug("⌨️ Keyboard shortcut manager initialized");
     }
 
     private void setupEventHandlers() {
@@ -93,141 +97,141 @@ public class KeyboardShortcutManager {
      * Setup default Scenory shortcuts
      */
     public void setupDefaultShortcuts(ShortcutCallbacks callbacks) {
-        System.out.println("⌨️ Setting up default keyboard shortcuts...");
+        LOG.debug("⌨️ Setting up default keyboard shortcuts...");
 
         // ===== UNDO/REDO =====
         registerCtrlShortcut(KeyCode.Z, () -> {
-            System.out.println("⌨️ Ctrl+Z pressed");
+            LOG.debug("⌨️ Ctrl+Z pressed");
             callbacks.undo();
         });
 
         registerCtrlShortcut(KeyCode.Y, () -> {
-            System.out.println("⌨️ Ctrl+Y pressed");
+            LOG.debug("⌨️ Ctrl+Y pressed");
             callbacks.redo();
         });
 
         registerCtrlShiftShortcut(KeyCode.Z, () -> {
-            System.out.println("⌨️ Ctrl+Shift+Z pressed");
+            LOG.debug("⌨️ Ctrl+Shift+Z pressed");
             callbacks.redo();
         });
 
         // ===== TOOL SHORTCUTS =====
         registerShortcut(KeyCode.P, () -> {
-            System.out.println("⌨️ P - Pen tool");
+            LOG.debug("⌨️ P - Pen tool");
             callbacks.selectPenTool();
         });
 
         registerShortcut(KeyCode.B, () -> {
-            System.out.println("⌨️ B - Brush tool");
+            LOG.debug("⌨️ B - Brush tool");
             callbacks.selectBrushTool();
         });
 
         registerShortcut(KeyCode.E, () -> {
-            System.out.println("⌨️ E - Eraser tool");
+            LOG.debug("⌨️ E - Eraser tool");
             callbacks.selectEraserTool();
         });
 
         registerShortcut(KeyCode.R, () -> {
-            System.out.println("⌨️ R - Rectangle tool");
+            LOG.debug("⌨️ R - Rectangle tool");
             callbacks.selectRectangleTool();
         });
 
         registerShortcut(KeyCode.C, () -> {
-            System.out.println("⌨️ C - Circle tool");
+            LOG.debug("⌨️ C - Circle tool");
             callbacks.selectCircleTool();
         });
 
         registerShortcut(KeyCode.L, () -> {
-            System.out.println("⌨️ L - Line tool");
+            LOG.debug("⌨️ L - Line tool");
             callbacks.selectLineTool();
         });
 
         registerShortcut(KeyCode.T, () -> {
-            System.out.println("⌨️ T - Text tool");
+            LOG.debug("⌨️ T - Text tool");
             callbacks.selectTextTool();
         });
 
         // ===== PROJECT SHORTCUTS =====
         registerCtrlShortcut(KeyCode.N, () -> {
-            System.out.println("⌨️ Ctrl+N - New project");
+            LOG.debug("⌨️ Ctrl+N - New project");
             callbacks.newProject();
         });
 
         registerCtrlShortcut(KeyCode.O, () -> {
-            System.out.println("⌨️ Ctrl+O - Open project");
+            LOG.debug("⌨️ Ctrl+O - Open project");
             callbacks.openProject();
         });
 
         registerCtrlShortcut(KeyCode.S, () -> {
-            System.out.println("⌨️ Ctrl+S - Save project");
+            LOG.debug("⌨️ Ctrl+S - Save project");
             callbacks.saveProject();
         });
 
         // ===== PANEL NAVIGATION =====
         registerShortcut(KeyCode.LEFT, () -> {
-            System.out.println("⌨️ Left Arrow - Previous panel");
+            LOG.debug("⌨️ Left Arrow - Previous panel");
             callbacks.previousPanel();
         });
 
         registerShortcut(KeyCode.RIGHT, () -> {
-            System.out.println("⌨️ Right Arrow - Next panel");
+            LOG.debug("⌨️ Right Arrow - Next panel");
             callbacks.nextPanel();
         });
 
         // ===== SCENE/PANEL SHORTCUTS =====
         registerCtrlShortcut(KeyCode.ENTER, () -> {
-            System.out.println("⌨️ Ctrl+Enter - New panel");
+            LOG.debug("⌨️ Ctrl+Enter - New panel");
             callbacks.newPanel();
         });
 
         registerCtrlShortcut(KeyCode.D, () -> {
-            System.out.println("⌨️ Ctrl+D - Duplicate panel");
+            LOG.debug("⌨️ Ctrl+D - Duplicate panel");
             callbacks.duplicatePanel();
         });
 
         registerShortcut(KeyCode.DELETE, () -> {
-            System.out.println("⌨️ Delete - Delete panel");
+            LOG.debug("⌨️ Delete - Delete panel");
             callbacks.deletePanel();
         });
 
         // ===== VIEW SHORTCUTS =====
         registerShortcut(KeyCode.SPACE, () -> {
-            System.out.println("⌨️ Space - Toggle panels");
+            LOG.debug("⌨️ Space - Toggle panels");
             callbacks.togglePanels();
         });
 
         registerShortcut(KeyCode.F1, () -> {
-            System.out.println("⌨️ F1 - Toggle tools panel");
+            LOG.debug("⌨️ F1 - Toggle tools panel");
             callbacks.toggleToolsPanel();
         });
 
         registerShortcut(KeyCode.F2, () -> {
-            System.out.println("⌨️ F2 - Toggle structure panel");
+            LOG.debug("⌨️ F2 - Toggle structure panel");
             callbacks.toggleStructurePanel();
         });
 
         // ===== ZOOM SHORTCUTS =====
         registerCtrlShortcut(KeyCode.PLUS, () -> {
-            System.out.println("⌨️ Ctrl++ - Zoom in");
+            LOG.debug("⌨️ Ctrl++ - Zoom in");
             callbacks.zoomIn();
         });
 
         registerCtrlShortcut(KeyCode.EQUALS, () -> { // For keyboards without numpad
-            System.out.println("⌨️ Ctrl+= - Zoom in");
+            LOG.debug("⌨️ Ctrl+= - Zoom in");
             callbacks.zoomIn();
         });
 
         registerCtrlShortcut(KeyCode.MINUS, () -> {
-            System.out.println("⌨️ Ctrl+- - Zoom out");
+            LOG.debug("⌨️ Ctrl+- - Zoom out");
             callbacks.zoomOut();
         });
 
         registerCtrlShortcut(KeyCode.DIGIT0, () -> {
-            System.out.println("⌨️ Ctrl+0 - Reset zoom");
+            LOG.debug("⌨️ Ctrl+0 - Reset zoom");
             callbacks.resetZoom();
         });
 
-        System.out.println("✅ Default shortcuts registered");
+        LOG.debug("✅ Default shortcuts registered");
     }
 
     // =====================================
@@ -260,14 +264,14 @@ public class KeyboardShortcutManager {
      * Print all registered shortcuts
      */
     public void printShortcuts() {
-        System.out.println("⌨️ Registered Shortcuts:");
-        System.out.println("  Combination shortcuts: " + shortcuts.size());
+        LOG.info("⌨️ Registered Shortcuts:");
+        LOG.info("  Combination shortcuts: " + shortcuts.size());
         shortcuts.entrySet().forEach(entry ->
-                System.out.println("    " + entry.getKey().getDisplayText()));
+                LOG.info("    " + entry.getKey().getDisplayText()));
 
-        System.out.println("  Single key shortcuts: " + singleKeyShortcuts.size());
+        LOG.info("  Single key shortcuts: " + singleKeyShortcuts.size());
         singleKeyShortcuts.keySet().forEach(key ->
-                System.out.println("    " + key.getName()));
+                LOG.info("    " + key.getName()));
     }
 
     // =====================================
@@ -0,0 +1,196 @@
+package com.example.scenory.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded ring buffer of log events drained by one writer thread.
+ * Producers fill a preallocated slot under a short lock and never wait for I/O;
+ * when the buffer is full the event is dropped and counted instead of blocking
+ * the caller. The writer formats a whole batch and hands it to the console in
+ * one call per stream.
+ */
+final class AsyncLogAppender {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /**
+     * Reusable ring slot
+     */
+    private static final class Slot {
+        long timeMillis;
+        Log.Level level;
+        String logger;
+        String thread;
+        String message;
+        Throwable error;
+    }
+
+    private final Slot[] ring;
+    private final int mask;
+    private final boolean async;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private long head; // next slot to write
+    private long tail; // next slot to read
+    private long dropped;
+    private long droppedReported;
+
+    AsyncLogAppender(int capacity, boolean async) {
+        int size = Integer.highestOneBit(Math.max(64, capacity - 1)) << 1;
+        this.ring = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.async = async;
+
+        if (async) {
+            Thread writer = new Thread(this::drainLoop, "log-writer");
+            writer.setDaemon(true);
+            writer.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "log-flush"));
+        }
+    }
+
+    void append(Log.Level level, String logger, String message, Throwable error) {
+        if (!async) {
+            Slot slot = new Slot();
+            fill(slot, level, logger, message, error);
+            write(new Slot[]{slot}, 0, 1);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (head - tail == ring.length) {
+                dropped++;
+                return;
+            }
+            fill(ring[(int) (head & mask)], level, logger, message, error);
+            head++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void fill(Slot slot, Log.Level level, String logger, String message, Throwable error) {
+        slot.timeMillis = System.currentTimeMillis();
+        slot.level = level;
+        slot.logger = logger;
+        slot.thread = Thread.currentThread().getName();
+        slot.message = message;
+        slot.error = error;
+    }
+
+    /**
+     * Block until the events appended so far have been written (bounded wait)
+     */
+    void flush() {
+        if (!async) return;
+        lock.lock();
+        try {
+            long target = head;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (tail < target) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) break;
+                drained.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getDroppedCount() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainLoop() {
+        while (true) {
+            long from;
+            long to;
+            long newlyDropped;
+            lock.lock();
+            try {
+                while (head == tail) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                from = tail;
+                to = head;
+                newlyDropped = dropped - droppedReported;
+                droppedReported = dropped;
+            } finally {
+                lock.unlock();
+            }
+
+            // Slots [from, to) are not reused until tail moves past them
+            if (newlyDropped > 0) {
+                System.err.println("⚠️ Log buffer full: " + newlyDropped + " events dropped");
+            }
+            write(ring, from, to);
+
+            lock.lock();
+            try {
+                for (long i = from; i < to; i++) {
+                    Slot slot = ring[(int) (i & mask)];
+                    slot.message = null;
+                    slot.error = null;
+                }
+                tail = to;
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void write(Slot[] slots, long from, long to) {
+        StringBuilder out = new StringBuilder();
+        StringBuilder err = new StringBuilder();
+        for (long i = from; i < to; i++) {
+            Slot slot = slots[(int) (i & (slots.length - 1))];
+            StringBuilder target = slot.level.ordinal() >= Log.Level.WARN.ordinal() ? err : out;
+            format(target, slot);
+        }
+        if (!out.isEmpty()) {
+            System.out.print(out);
+            System.out.flush();
+        }
+        if (!err.isEmpty()) {
+            System.err.print(err);
+            System.err.flush();
+        }
+    }
+
+    private static void format(StringBuilder target, Slot slot) {
+        target.append(TIME.format(LocalTime.ofInstant(Instant.ofEpochMilli(slot.timeMillis), ZONE)))
+                .append(' ').append(slot.level)
+                .append(" [").append(slot.thread).append("] ")
+                .append(slot.logger).append(" - ")
+                .append(slot.message).append(System.lineSeparator());
+        if (slot.error != null) {
+            StringWriter trace = new StringWriter();
+            slot.error.printStackTrace(new PrintWriter(trace));
+            target.append(trace);
+        }
+    }
+}
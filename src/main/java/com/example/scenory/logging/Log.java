@@ -0,0 +1,79 @@
+package com.example.scenory.logging;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logging facade: level-filtered loggers writing through an asynchronous ring buffer.
+ * Disabled levels cost a single volatile read, and Supplier overloads defer
+ * building the message until the level is known to be on. Enabled events are
+ * copied into preallocated slots and written by a background thread, so the
+ * FX thread never blocks on console I/O.
+ *
+ * Levels: -Dscenory.log.level (default INFO), or -Dscenory.log.level.ClassName
+ * for one logger; both can be changed at runtime. -Dscenory.log.async=false
+ * writes synchronously (useful when debugging crashes).
+ */
+public final class Log {
+
+    /**
+     * Severity, lowest first
+     */
+    public enum Level {
+        TRACE, DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static final AsyncLogAppender appender = new AsyncLogAppender(
+            Integer.getInteger("scenory.log.buffer", 8192),
+            Boolean.parseBoolean(System.getProperty("scenory.log.async", "true")));
+
+    private static volatile Level rootLevel = parseLevel(System.getProperty("scenory.log.level"), Level.INFO);
+
+    private Log() {
+    }
+
+    public static Logger getLogger(Class<?> owner) {
+        return getLogger(owner.getSimpleName());
+    }
+
+    public static Logger getLogger(String name) {
+        return loggers.computeIfAbsent(name, key -> {
+            Logger logger = new Logger(key, appender);
+            String override = System.getProperty("scenory.log.level." + key);
+            if (override != null) {
+                logger.setLevel(parseLevel(override, null));
+            }
+            return logger;
+        });
+    }
+
+    /**
+     * Wait until everything logged so far has been written
+     */
+    public static void flush() {
+        appender.flush();
+    }
+
+    static Level parseLevel(String value, Level fallback) {
+        if (value == null || value.isBlank()) return fallback;
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public static Level getLevel() { return rootLevel; }
+    public static void setLevel(Level level) { rootLevel = level; }
+
+    /**
+     * Events dropped because the ring buffer was full
+     */
+    public static long getDroppedCount() { return appender.getDroppedCount(); }
+}
@@ -0,0 +1,62 @@
+package com.example.scenory.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * Named logger. Obtain with Log.getLogger and keep in a static final field.
+ */
+public final class Logger {
+
+    private final String name;
+    private final AsyncLogAppender appender;
+    // Per-logger override; null follows the root level
+    private volatile Log.Level level;
+
+    Logger(String name, AsyncLogAppender appender) {
+        this.name = name;
+        this.appender = appender;
+    }
+
+    public boolean isEnabled(Log.Level candidate) {
+        Log.Level effective = level != null ? level : Log.getLevel();
+        return candidate.ordinal() >= effective.ordinal() && candidate != Log.Level.OFF;
+    }
+
+    public boolean isTraceEnabled() { return isEnabled(Log.Level.TRACE); }
+    public boolean isDebugEnabled() { return isEnabled(Log.Level.DEBUG); }
+    public boolean isInfoEnabled() { return isEnabled(Log.Level.INFO); }
+
+    public void trace(String message) { log(Log.Level.TRACE, message, null); }
+    public void trace(Supplier<String> message) { log(Log.Level.TRACE, message); }
+
+    public void debug(String message) { log(Log.Level.DEBUG, message, null); }
+    public void debug(Supplier<String> message) { log(Log.Level.DEBUG, message); }
+
+    public void info(String message) { log(Log.Level.INFO, message, null); }
+    public void info(Supplier<String> message) { log(Log.Level.INFO, message); }
+
+    public void warn(String message) { log(Log.Level.WARN, message, null); }
+    public void warn(Supplier<String> message) { log(Log.Level.WARN, message); }
+    public void warn(String message, Throwable error) { log(Log.Level.WARN, message, error); }
+
+    public void error(String message) { log(Log.Level.ERROR, message, null); }
+    public void error(Supplier<String> message) { log(Log.Level.ERROR, message); }
+    public void error(String message, Throwable error) { log(Log.Level.ERROR, message, error); }
+
+    private void log(Log.Level eventLevel, Supplier<String> message) {
+        if (isEnabled(eventLevel)) {
+            appender.append(eventLevel, name, message.get(), null);
+        }
+    }
+
+    private void log(Log.Level eventLevel, String message, Throwable error) {
+        if (isEnabled(eventLevel)) {
+            appender.append(eventLevel, name, message, error);
+        }
+    }
+
+    public String getName() { return name; }
+
+    public Log.Level getLevel() { return level; }
+    public void setLevel(Log.Level level) { this.level = level; }
+}
@@ -0,0 +1,35 @@
+package com.example.scenory.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic event counter. Incrementing is a single atomic add (nothing when metrics are off).
+ */
+public class Counter {
+
+    private final String name;
+    private final AtomicLong count = new AtomicLong();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        if (Metrics.isEnabled()) {
+            count.incrementAndGet();
+        }
+    }
+
+    public void add(long amount) {
+        if (Metrics.isEnabled()) {
+            count.addAndGet(amount);
+        }
+    }
+
+    public String getName() { return name; }
+    public long getCount() { return count.get(); }
+
+    void reset() {
+        count.set(0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.scenory.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic Flight Recorder event carrying the current value of each gauge and counter
+ */
+@Name("com.example.scenory.MetricSample")
+@Label("Scenory Metric Sample")
+@Category({"Scenory"})
+@Description("Current value of an application gauge or counter")
+@Period("1 s")
+@StackTrace(false)
+class MetricSampleEvent extends Event {
+
+    @Label("Metric")
+    String metric;
+
+    @Label("Value")
+    long value;
+}
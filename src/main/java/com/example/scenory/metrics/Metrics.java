@@ -0,0 +1,140 @@
+package com.example.scenory.metrics;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.utils.LatencyHistogram;
+import jdk.jfr.FlightRecorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Application-wide metrics registry: timers, counters and gauges by name.
+ * Call sites keep the Timer/Counter they look up in a static final field, so the
+ * hot path is a flag check plus an allocation-free record. Timers also emit a
+ * Flight Recorder event per operation, and gauges/counters are sampled once a
+ * second into the recording, so JMC can line them up with GC and JIT activity.
+ * Collection is switched at runtime with setEnabled (default from -Dscenory.metrics).
+ */
+public final class Metrics {
+
+    private static final Logger LOG = Log.getLogger(Metrics.class);
+
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled =
+            Boolean.parseBoolean(System.getProperty("scenory.metrics", "true"));
+
+    static {
+        try {
+            FlightRecorder.addPeriodicEvent(MetricSampleEvent.class, Metrics::emitSamples);
+        } catch (Throwable t) {
+            // Flight Recorder not available in this runtime - metrics still work without it
+            LOG.warn("⚠️ Flight Recorder events unavailable: " + t.getMessage());
+        }
+    }
+
+    private Metrics() {
+    }
+
+    // =====================================
+    // REGISTRATION
+    // =====================================
+
+    public static Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Register (or replace) a gauge read on demand
+     */
+    public static void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    public static void removeGauge(String name) {
+        gauges.remove(name);
+    }
+
+    // =====================================
+    // REPORTING
+    // =====================================
+
+    /**
+     * Human-readable summary of every metric, sorted by name
+     */
+    public static String formatReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Metrics").append(enabled ? "" : " (collection paused)").append("\n\n");
+
+        report.append(String.format("%-28s %8s %9s %9s %9s%n", "Timer", "Count", "p50 ms", "p99 ms", "max ms"));
+        for (Timer timer : new TreeMap<>(timers).values()) {
+            LatencyHistogram histogram = timer.getHistogram();
+            report.append(String.format("%-28s %8d %9.2f %9.2f %9.2f%n", timer.getName(), histogram.getCount(),
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMax() / 1000.0));
+        }
+
+        report.append(String.format("%n%-28s %12s%n", "Counter", "Value"));
+        for (Counter counter : new TreeMap<>(counters).values()) {
+            report.append(String.format("%-28s %12d%n", counter.getName(), counter.getCount()));
+        }
+
+        report.append(String.format("%n%-28s %12s%n", "Gauge", "Value"));
+        for (Map.Entry<String, LongSupplier> gauge : new TreeMap<>(gauges).entrySet()) {
+            report.append(String.format("%-28s %12d%n", gauge.getKey(), readGauge(gauge.getValue())));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Clear timers and counters (gauges are live values)
+     */
+    public static void reset() {
+        timers.values().forEach(Timer::reset);
+        counters.values().forEach(Counter::reset);
+    }
+
+    private static void emitSamples() {
+        if (!enabled) return;
+        for (Map.Entry<String, LongSupplier> gauge : gauges.entrySet()) {
+            MetricSampleEvent event = new MetricSampleEvent();
+            event.metric = gauge.getKey();
+            event.value = readGauge(gauge.getValue());
+            event.commit();
+        }
+        for (Counter counter : counters.values()) {
+            MetricSampleEvent event = new MetricSampleEvent();
+            event.metric = counter.getName();
+            event.value = counter.getCount();
+            event.commit();
+        }
+    }
+
+    private static long readGauge(LongSupplier gauge) {
+        try {
+            return gauge.getAsLong();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public static boolean isEnabled() { return enabled; }
+
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+        LOG.info(enabled ? "📊 Metrics collection enabled" : "📊 Metrics collection paused");
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.scenory.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event emitted for every timed operation while a recording is running
+ */
+@Name("com.example.scenory.Operation")
+@Label("Scenory Operation")
+@Category({"Scenory"})
+@Description("A timed application operation (snapshot, encode, decode, DAO call)")
+@StackTrace(false)
+class OperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
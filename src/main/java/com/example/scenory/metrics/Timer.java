@@ -0,0 +1,67 @@
+package com.example.scenory.metrics;
+
+import com.example.scenory.utils.LatencyHistogram;
+import jdk.jfr.EventType;
+
+/**
+ * Latency timer for one operation. Usage on hot paths:
+ * <pre>
+ * long start = TIMER.start();
+ * ...
+ * TIMER.stop(start);
+ * </pre>
+ * start() returns 0 when metrics are off and stop(0) does nothing. Recording
+ * only touches preallocated state; a Flight Recorder event is allocated only
+ * while a recording has the operation event enabled.
+ */
+public class Timer {
+
+    // Null when Flight Recorder is not available in this runtime (histograms still record)
+    private static final EventType OPERATION_EVENT = lookupOperationEvent();
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    Timer(String name) {
+        this.name = name;
+    }
+
+    public long start() {
+        return Metrics.isEnabled() ? System.nanoTime() : 0;
+    }
+
+    public void stop(long start) {
+        if (start == 0) return;
+        record(System.nanoTime() - start);
+    }
+
+    /**
+     * Record an operation timed elsewhere
+     */
+    public void record(long elapsedNanos) {
+        if (!Metrics.isEnabled()) return;
+        histogram.recordNanos(elapsedNanos);
+
+        if (OPERATION_EVENT != null && OPERATION_EVENT.isEnabled()) {
+            OperationEvent event = new OperationEvent();
+            event.operation = name;
+            event.elapsed = elapsedNanos;
+            event.commit();
+        }
+    }
+
+    private static EventType lookupOperationEvent() {
+        try {
+            return EventType.getEventType(OperationEvent.class);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    public String getName() { return name; }
+    public LatencyHistogram getHistogram() { return histogram; }
+
+    void reset() {
+        histogram.reset();
+    }
+}
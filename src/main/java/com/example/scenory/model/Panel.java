@@ -1,12 +1,19 @@
 package com.example.scenory.model;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import javafx.util.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 public class Panel {
+
+    private static final Logger LOG = Log.getLogger(Panel.class);
+
     private String id;
     private String name;
     private int sequenceOrder;
@@ -16,6 +23,10 @@ public class Panel {
     private List<DrawingElement> elements;
     private byte[] thumbnailData;
 
+    // Thumbnail pyramid: level width (px) -> PNG bytes
+    private TreeMap<Integer, byte[]> thumbnailLevels = new TreeMap<>();
+    private boolean thumbnailLevelsUnsaved;   // changed since PanelDAO last wrote them
+
     // Canvas persistence fields
     private byte[] canvasImageData;  // Stores the full canvas drawing
     private boolean hasDrawingData = false;
@@ -90,6 +101,39 @@ public class Panel {
         this.modifiedDate = LocalDateTime.now();
     }
 
+    public Map<Integer, byte[]> getThumbnailLevels() { return thumbnailLevels; }
+
+    /**
+     * Replace the pyramid levels. They are derived from the canvas, so this does not change modifiedDate.
+     */
+    public void setThumbnailLevels(Map<Integer, byte[]> thumbnailLevels) {
+        this.thumbnailLevels = thumbnailLevels != null ? new TreeMap<>(thumbnailLevels) : new TreeMap<>();
+        this.thumbnailLevelsUnsaved = true;
+    }
+
+    public boolean hasUnsavedThumbnailLevels() { return thumbnailLevelsUnsaved; }
+    public void markThumbnailLevelsSaved() { this.thumbnailLevelsUnsaved = false; }
+
+    public boolean hasThumbnailLevels() {
+        return thumbnailLevels != null && !thumbnailLevels.isEmpty();
+    }
+
+    /**
+     * Get the smallest pyramid level at least as wide as the target,
+     * falling back to the largest level, then to the legacy thumbnail
+     */
+    public byte[] getThumbnailForWidth(double targetWidth) {
+        if (!hasThumbnailLevels()) {
+            return thumbnailData;
+        }
+
+        Map.Entry<Integer, byte[]> level = thumbnailLevels.ceilingEntry((int) Math.ceil(targetWidth));
+        if (level == null) {
+            level = thumbnailLevels.lastEntry();
+        }
+        return level.getValue();
+    }
+
     // Canvas image data getters and setters
     public byte[] getCanvasImageData() { return canvasImageData; }
     public void setCanvasImageData(byte[] canvasImageData) {
@@ -215,7 +259,7 @@ public class Panel {
      */
     public void openDescriptionEditor() {
         // TODO: Implement in Week 2 when RichTextModal is created
-        System.out.println("📝 Rich text editor not yet implemented for: " + name);
+        LOG.debug(() -> "📝 Rich text editor not yet implemented for: " + name);
         // RichTextModal modal = new RichTextModal(descriptionRichText, name);
         // modal.showAndWait();
         // Handle result...
@@ -228,7 +272,7 @@ public class Panel {
     public void save(int sceneId) {
         // TODO: Implement when PanelDAO is available
         // PanelDAO.save(this, sceneId);
-        System.out.println("💾 Database save not yet implemented for: " + name);
+        LOG.debug(() -> "💾 Database save not yet implemented for: " + name);
     }
 
     // ===== UTILITY METHODS =====
@@ -313,6 +357,9 @@ public class Panel {
             copy.setThumbnailData(copiedThumbnailData);
         }
 
+        // Pyramid levels are immutable PNG bytes, safe to share between copies
+        copy.setThumbnailLevels(this.thumbnailLevels);
+
         // Copy drawing elements if any
         if (this.elements != null && !this.elements.isEmpty()) {
             copy.setElements(new ArrayList<>());
@@ -1,12 +1,17 @@
 package com.example.scenory.model;
 
 import com.example.scenory.database.ProjectDAO;
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 public class Project {
+
+    private static final Logger LOG = Log.getLogger(Project.class);
+
     private String id;
     private String name;
     private String description;
@@ -58,7 +63,7 @@ public class Project {
             try {
                 return ProjectDAO.delete(Integer.parseInt(id));
             } catch (NumberFormatException e) {
-                System.err.println("Invalid project ID for deletion: " + id);
+                LOG.error("Invalid project ID for deletion: " + id);
                 return false;
             }
         }
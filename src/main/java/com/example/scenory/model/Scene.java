@@ -1,12 +1,17 @@
 package com.example.scenory.model;
 
 import com.example.scenory.database.SceneDAO;
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 public class Scene {
+
+    private static final Logger LOG = Log.getLogger(Scene.class);
+
     private String id;
     private String name;
     private String description;
@@ -57,7 +62,7 @@ public class Scene {
             try {
                 return SceneDAO.delete(Integer.parseInt(id));
             } catch (NumberFormatException e) {
-                System.err.println("Invalid scene ID for deletion: " + id);
+                LOG.error("Invalid scene ID for deletion: " + id);
                 return false;
             }
         }
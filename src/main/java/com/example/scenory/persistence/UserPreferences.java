@@ -1,11 +1,21 @@
 package com.example.scenory.persistence;
 
 import com.example.scenory.database.DatabaseManager;
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Counter;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
 import java.sql.*;
 import java.util.HashMap;
 import java.util.Map;
 
 public class UserPreferences {
+
+    private static final Logger LOG = Log.getLogger(UserPreferences.class);
+
+    private static final Timer SAVE_TIMER = Metrics.timer("dao.preference.save");
+    private static final Counter DB_ERRORS = Metrics.counter("dao.errors");
     private static final String DEFAULT_USER_ID = "default";
     private static UserPreferences instance;
     private Map<String, String> preferences;
@@ -39,11 +49,11 @@ public class UserPreferences {
                 }
             }
 
-            System.out.println("📋 Loaded " + preferences.size() + " user preferences");
+            LOG.debug(() -> "📋 Loaded " + preferences.size() + " user preferences");
 
         } catch (SQLException e) {
-            System.err.println("❌ Error loading preferences: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error loading preferences: " + e.getMessage(), e);
         }
     }
 
@@ -100,6 +110,7 @@ public class UserPreferences {
      * Save individual preference to database
      */
     private void savePreference(String key, String value) {
+        long start = SAVE_TIMER.start();
         String sql = """
             INSERT INTO user_preferences (user_id, preference_key, preference_value)
             VALUES (?, ?, ?)
@@ -118,9 +129,10 @@ public class UserPreferences {
             stmt.executeUpdate();
 
         } catch (SQLException e) {
-            System.err.println("❌ Error saving preference: " + e.getMessage());
-            e.printStackTrace();
+            DB_ERRORS.increment();
+            LOG.error("❌ Error saving preference: " + e.getMessage(), e);
         }
+        SAVE_TIMER.stop(start);
     }
 
     // Common preference keys as constants
@@ -1,21 +1,34 @@
 package com.example.scenory.utils;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
 import com.example.scenory.view.components.DrawingCanvas;
+import com.example.scenory.view.components.LayerStack;
+import com.example.scenory.view.components.TiledRaster;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.WritableImage;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
-import javafx.embed.swing.SwingFXUtils;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import javax.imageio.ImageIO;
 
 public class CanvasPersistence {
 
+    private static final Logger LOG = Log.getLogger(CanvasPersistence.class);
+
+    private static final Timer ENCODE_TIMER = Metrics.timer("png.encode");
+    private static final Timer DECODE_TIMER = Metrics.timer("png.decode");
+
     /**
-     * Save canvas content as byte array (PNG format)
+     * Save canvas content as byte array (PNG format).
+     * A DrawingCanvas saves its drawing layers on transparency; the background
+     * colour is kept on the panel, so it can change without touching the strokes.
      */
     public static byte[] saveCanvasToBytes(Canvas canvas) {
         try {
@@ -23,28 +36,28 @@ public class CanvasPersistence {
                 return null;
             }
 
-            // Create snapshot of canvas
-            WritableImage snapshot = canvas.snapshot(null, null);
-
-            // Convert to BufferedImage
-            BufferedImage bufferedImage = SwingFXUtils.fromFXImage(snapshot, null);
+            // Read pixels (drawing layer tiles for a DrawingCanvas, snapshot otherwise)
+            BufferedImage bufferedImage = canvas instanceof DrawingCanvas
+                    ? ((DrawingCanvas) canvas).getLayers().flattenDrawingLayers().toBufferedImage()
+                    : ThumbnailGenerator.captureCanvas(canvas);
 
             // Convert to byte array as PNG
+            long encodeStart = ENCODE_TIMER.start();
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             boolean success = ImageIO.write(bufferedImage, "PNG", baos);
+            ENCODE_TIMER.stop(encodeStart);
 
             if (success) {
                 byte[] result = baos.toByteArray();
-                System.out.println("Canvas saved: " + result.length + " bytes");
+                LOG.debug(() -> "Canvas saved: " + result.length + " bytes");
                 return result;
             } else {
-                System.err.println("Failed to write canvas image");
+                LOG.error("Failed to write canvas image");
                 return null;
             }
 
         } catch (Exception e) {
-            System.err.println("Error saving canvas: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error saving canvas: " + e.getMessage(), e);
             return null;
         }
     }
@@ -58,12 +71,18 @@ public class CanvasPersistence {
                 return false;
             }
 
+            if (canvas instanceof DrawingCanvas) {
+                return restoreRaster((DrawingCanvas) canvas, imageData);
+            }
+
             // Convert byte array to JavaFX Image
+            long decodeStart = DECODE_TIMER.start();
             ByteArrayInputStream bais = new ByteArrayInputStream(imageData);
             Image image = new Image(bais);
+            DECODE_TIMER.stop(decodeStart);
 
             if (image.isError()) {
-                System.err.println("Error loading image from bytes");
+                LOG.error("Error loading image from bytes");
                 return false;
             }
 
@@ -76,16 +95,66 @@ public class CanvasPersistence {
             // Draw the restored image
             gc.drawImage(image, 0, 0);
 
-            System.out.println("Canvas restored: " + imageData.length + " bytes");
+            LOG.debug(() -> "Canvas restored: " + imageData.length + " bytes");
             return true;
 
         } catch (Exception e) {
-            System.err.println("Error restoring canvas: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error restoring canvas: " + e.getMessage(), e);
             return false;
         }
     }
 
+    /**
+     * Decode straight into the raster tiles of a DrawingCanvas.
+     * Panels store their drawing layers flattened onto transparency, so the image goes into
+     * the first drawing layer, over the canvas's background colour, and the others start empty.
+     */
+    private static boolean restoreRaster(DrawingCanvas canvas, byte[] imageData) throws IOException {
+        long decodeStart = DECODE_TIMER.start();
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
+        DECODE_TIMER.stop(decodeStart);
+
+        if (image == null) {
+            LOG.error("Error loading image from bytes");
+            return false;
+        }
+        image = removeBakedBackground(image, canvas.getBackgroundColor());
+
+        LayerStack layers = canvas.getLayers();
+        layers.reset(canvas.getBackgroundColor());
+        layers.getFirstDrawingLayer().getRaster().drawImage(image, 0, 0);
+        canvas.present();
+
+        LOG.debug(() -> "Canvas restored: " + imageData.length + " bytes");
+        return true;
+    }
+
+    /**
+     * Saves from before the background was kept apart are fully opaque with the background
+     * painted in (erasing painted it too). Key out that colour so the background layer shows
+     * through and later colour changes apply. Images with any transparency are returned as is.
+     */
+    private static BufferedImage removeBakedBackground(BufferedImage image, Color background) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        for (int pixel : pixels) {
+            if ((pixel >>> 24) != 255) return image;
+        }
+
+        int backgroundRgb = (int) Math.round(background.getRed() * 255) << 16
+                | (int) Math.round(background.getGreen() * 255) << 8
+                | (int) Math.round(background.getBlue() * 255);
+        for (int i = 0; i < pixels.length; i++) {
+            if ((pixels[i] & 0xFFFFFF) == backgroundRgb) pixels[i] = 0;
+        }
+
+        BufferedImage keyed = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        keyed.setRGB(0, 0, width, height, pixels, 0, width);
+        LOG.debug(() -> "Keyed the baked-in background out of a flattened canvas");
+        return keyed;
+    }
+
     /**
      * Clear canvas with white background
      */
@@ -129,10 +198,11 @@ public class CanvasPersistence {
      */
     public static boolean canvasHasDrawing(Canvas canvas) {
         try {
-            WritableImage snapshot = canvas.snapshot(null, null);
+            TiledRaster raster = canvas instanceof DrawingCanvas ? ((DrawingCanvas) canvas).getCompositeRaster() : null;
+            WritableImage snapshot = raster == null ? canvas.snapshot(null, null) : null;
 
-            int width = (int) snapshot.getWidth();
-            int height = (int) snapshot.getHeight();
+            int width = raster != null ? raster.getWidth() : (int) snapshot.getWidth();
+            int height = raster != null ? raster.getHeight() : (int) snapshot.getHeight();
 
             // Sample more points and be more lenient with color detection
             int sampleCount = 0;
@@ -142,7 +212,8 @@ public class CanvasPersistence {
             for (int x = 0; x < width; x += 20) { // Every 20 pixels
                 for (int y = 0; y < height; y += 20) {
                     if (x < width && y < height) {
-                        Color color = snapshot.getPixelReader().getColor(x, y);
+                        Color color = raster != null ? argbToColor(raster.getArgb(x, y))
+                                : snapshot.getPixelReader().getColor(x, y);
                         sampleCount++;
 
                         // More lenient check - any pixel that's noticeably different from pure white
@@ -157,18 +228,24 @@ public class CanvasPersistence {
             double nonWhitePercentage = (double) nonWhiteCount / sampleCount;
             boolean hasDrawing = nonWhitePercentage > 0.001; // 0.1% threshold
 
-            System.out.println("🔍 Canvas analysis: " + nonWhiteCount + "/" + sampleCount +
-                    " non-white pixels (" + String.format("%.2f", nonWhitePercentage * 100) +
-                    "%) - HasDrawing: " + hasDrawing);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("🔍 Canvas analysis: " + nonWhiteCount + "/" + sampleCount +
+                        " non-white pixels (" + String.format("%.2f", nonWhitePercentage * 100) +
+                        "%) - HasDrawing: " + hasDrawing);
+            }
 
             return hasDrawing;
 
         } catch (Exception e) {
-            System.err.println("Error checking canvas content: " + e.getMessage());
+            LOG.error("Error checking canvas content: " + e.getMessage());
             return true; // Assume it has drawing if we can't check
         }
     }
 
+    private static Color argbToColor(int argb) {
+        return Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, (argb >>> 24) / 255.0);
+    }
+
     /**
      * Alternative method: Always save canvas content regardless of content detection
      */
@@ -0,0 +1,173 @@
+package com.example.scenory.utils;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.model.Panel;
+import javafx.scene.image.Image;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ring buffer of decoded panel frames for playback.
+ * A background thread decodes the next {@code capacity} panels ahead of the
+ * playhead; frames behind the playhead are evicted as playback advances, so
+ * memory stays bounded however long the sequence is. Reads never block, which
+ * keeps the FX thread free: a frame that is not ready yet is reported as null.
+ */
+public class DecodeAheadBuffer {
+
+    private static final Logger LOG = Log.getLogger(DecodeAheadBuffer.class);
+
+    private final List<Panel> panels;
+    private final Image[] slots;
+    private final int[] slotIndex;
+    private final double frameWidth;
+    private final double frameHeight;
+
+    private final Object lock = new Object();
+    private int playhead;
+    private int nextToDecode;
+    private volatile boolean running;
+    private Thread decoderThread;
+
+    /**
+     * @param panels      Panels in playback order
+     * @param capacity    Number of decoded frames kept ahead of the playhead
+     * @param frameWidth  Decode size (images are scaled while decoding)
+     * @param frameHeight Decode size
+     */
+    public DecodeAheadBuffer(List<Panel> panels, int capacity, double frameWidth, double frameHeight) {
+        this.panels = List.copyOf(panels);
+        this.slots = new Image[Math.max(2, capacity)];
+        this.slotIndex = new int[slots.length];
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        Arrays.fill(slotIndex, -1);
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        decoderThread = new Thread(this::decodeLoop, "animatic-decoder");
+        decoderThread.setDaemon(true);
+        decoderThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        if (decoderThread != null) {
+            decoderThread.interrupt();
+        }
+    }
+
+    /**
+     * True once the frame for a panel index has been decoded
+     */
+    public boolean isReady(int index) {
+        synchronized (lock) {
+            return slotIndex[index % slots.length] == index;
+        }
+    }
+
+    /**
+     * Decoded frame for a panel index; null if not decoded yet or the panel has no drawing
+     */
+    public Image get(int index) {
+        synchronized (lock) {
+            int slot = index % slots.length;
+            return slotIndex[slot] == index ? slots[slot] : null;
+        }
+    }
+
+    /**
+     * Move the playhead; frames before it are evicted and the decoder refills ahead
+     */
+    public void advanceTo(int index) {
+        synchronized (lock) {
+            if (index == playhead) return;
+
+            if (index < playhead || index >= nextToDecode + slots.length) {
+                // Seek outside the buffered window - restart decoding from the new position
+                Arrays.fill(slots, null);
+                Arrays.fill(slotIndex, -1);
+                nextToDecode = index;
+            } else {
+                for (int i = playhead; i < index; i++) {
+                    int slot = i % slots.length;
+                    if (slotIndex[slot] == i) {
+                        slots[slot] = null;
+                        slotIndex[slot] = -1;
+                    }
+                }
+                nextToDecode = Math.max(nextToDecode, index);
+            }
+            playhead = index;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Number of frames decoded and waiting at or after the playhead
+     */
+    public int getBufferedCount() {
+        synchronized (lock) {
+            return nextToDecode - playhead;
+        }
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    private void decodeLoop() {
+        while (running) {
+            int index;
+            synchronized (lock) {
+                // Wait while the buffer is full or everything has been decoded
+                while (running && (nextToDecode - playhead >= slots.length || nextToDecode >= panels.size())) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        if (!running) return;
+                    }
+                }
+                if (!running) return;
+                index = nextToDecode;
+            }
+
+            Image image = decode(panels.get(index));
+
+            synchronized (lock) {
+                // Skip the result if a seek moved the window while decoding
+                if (index == nextToDecode && index >= playhead) {
+                    int slot = index % slots.length;
+                    slots[slot] = image;
+                    slotIndex[slot] = index;
+                    nextToDecode++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decode at display size. Image loading is thread-safe outside the FX thread.
+     */
+    private Image decode(Panel panel) {
+        if (!panel.hasCanvasData()) {
+            return null;
+        }
+        try {
+            Image image = new Image(new ByteArrayInputStream(panel.getCanvasImageData()),
+                    frameWidth, frameHeight, true, true);
+            return image.isError() ? null : image;
+        } catch (Exception e) {
+            LOG.error("❌ Error decoding frame for " + panel.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.scenory.utils;
+
+import java.util.Arrays;
+
+/**
+ * Span-based scanline flood fill over an ARGB int[] buffer.
+ * Each step fills a whole horizontal run and queues the runs to explore in the
+ * neighbouring rows on an explicit growable stack, so there is no recursion
+ * and the stack holds runs rather than pixels.
+ *
+ * The result is a mask of the filled pixels plus their bounds; the caller
+ * decides how to paint it (so undo can journal just the touched tiles).
+ */
+public final class FloodFill {
+
+    /**
+     * Filled pixels of one fill
+     */
+    public static final class Result {
+        private final byte[] mask;       // 1 = filled, row stride = width
+        private final int width;
+        private final int x0, y0, x1, y1; // bounds, exclusive max
+        private final int filledCount;
+
+        private Result(byte[] mask, int width, int x0, int y0, int x1, int y1, int filledCount) {
+            this.mask = mask;
+            this.width = width;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+            this.filledCount = filledCount;
+        }
+
+        public byte[] getMask() { return mask; }
+        public int getWidth() { return width; }
+        public int getMinX() { return x0; }
+        public int getMinY() { return y0; }
+        public int getMaxX() { return x1; }
+        public int getMaxY() { return y1; }
+        public int getFilledCount() { return filledCount; }
+    }
+
+    private FloodFill() {
+    }
+
+    /**
+     * Fill the region connected to (x, y) whose colour is within tolerance of the seed colour.
+     *
+     * @param pixels    non-premultiplied ARGB, row stride = width
+     * @param tolerance largest per-channel difference (0-255, alpha included) still filled
+     * @param gapSize   gaps in the boundary up to about twice this many pixels are
+     *                  treated as closed (0 = off); the fill then grows back by this much
+     * @return the filled pixels, or null if the seed is outside the buffer
+     */
+    public static Result fill(int[] pixels, int width, int height, int x, int y, int tolerance, int gapSize) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return null;
+
+        int size = width * height;
+        int target = pixels[y * width + x];
+
+        // Gap closing: thicken the boundary so small gaps are closed while the fill spreads
+        byte[] blocked = null;
+        if (gapSize > 0) {
+            blocked = new byte[size];
+            for (int i = 0; i < size; i++) {
+                if (!matches(pixels[i], target, tolerance)) blocked[i] = 1;
+            }
+            dilate(blocked, width, height, gapSize);
+            // Clicked inside something thinner than the gap size: fill without closing
+            if (blocked[y * width + x] != 0) blocked = null;
+        }
+
+        byte[] mask = new byte[size];
+        int[] bounds = {x, y, x + 1, y + 1};
+        int filled = scanlineFill(pixels, target, tolerance, blocked, mask, width, height, x, y, bounds);
+
+        if (blocked != null) {
+            // Grow back up to the real boundary
+            dilate(mask, width, height, gapSize);
+            bounds[0] = Math.max(0, bounds[0] - gapSize);
+            bounds[1] = Math.max(0, bounds[1] - gapSize);
+            bounds[2] = Math.min(width, bounds[2] + gapSize);
+            bounds[3] = Math.min(height, bounds[3] + gapSize);
+
+            filled = 0;
+            for (int row = bounds[1]; row < bounds[3]; row++) {
+                int offset = row * width;
+                for (int i = offset + bounds[0]; i < offset + bounds[2]; i++) {
+                    if (mask[i] != 0 && !matches(pixels[i], target, tolerance)) mask[i] = 0;
+                    filled += mask[i];
+                }
+            }
+        }
+        return new Result(mask, width, bounds[0], bounds[1], bounds[2], bounds[3], filled);
+    }
+
+    // =====================================
+    // SCANLINE FILL
+    // =====================================
+
+    /**
+     * Fill runs from the seed; returns the number of pixels filled.
+     * Each stack entry is a filled run (y, x1, x2) plus the direction dy of the row
+     * still to explore; the parent row is never rescanned, only the parts of the
+     * new run that overhang it are pushed back the other way (Heckbert's seed fill).
+     */
+    private static int scanlineFill(int[] pixels, int target, int tolerance, byte[] blocked, byte[] mask,
+                                    int width, int height, int seedX, int seedY, int[] bounds) {
+        SpanStack stack = new SpanStack(height);
+        stack.push(seedY, seedX, seedX, 1);
+        stack.push(seedY + 1, seedX, seedX, -1);
+        int filled = 0;
+
+        while (stack.size > 0) {
+            int top = --stack.size * 4;
+            int dy = stack.data[top + 3];
+            int y = stack.data[top] + dy;
+            int x1 = stack.data[top + 1];
+            int x2 = stack.data[top + 2];
+            int rowStart = y * width;
+
+            // Extend left from x1
+            int x = x1;
+            while (x >= 0 && open(pixels, target, tolerance, blocked, mask, rowStart + x)) x--;
+            int left;
+            if (x < x1) {
+                left = x + 1;
+                if (left < x1) stack.push(y, left, x1 - 1, -dy);
+                x = x1 + 1;
+            } else {
+                left = -1;
+            }
+
+            do {
+                if (left >= 0) {
+                    while (x < width && open(pixels, target, tolerance, blocked, mask, rowStart + x)) x++;
+                    Arrays.fill(mask, rowStart + left, rowStart + x, (byte) 1);
+                    filled += x - left;
+                    bounds[0] = Math.min(bounds[0], left);
+                    bounds[2] = Math.max(bounds[2], x);
+                    bounds[1] = Math.min(bounds[1], y);
+                    bounds[3] = Math.max(bounds[3], y + 1);
+
+                    stack.push(y, left, x - 1, dy);
+                    if (x > x2 + 1) stack.push(y, x2 + 1, x - 1, -dy);
+                }
+                // Skip to the next open pixel under the parent run
+                x++;
+                while (x <= x2 && !open(pixels, target, tolerance, blocked, mask, rowStart + x)) x++;
+                left = x;
+            } while (x <= x2);
+        }
+        return filled;
+    }
+
+    /**
+     * Growable stack of (y, x1, x2, dy) runs; pushes whose next row is off the buffer are dropped
+     */
+    private static final class SpanStack {
+        final int height;
+        int[] data = new int[256];
+        int size;
+
+        SpanStack(int height) {
+            this.height = height;
+        }
+
+        void push(int y, int x1, int x2, int dy) {
+            if (y + dy < 0 || y + dy >= height) return;
+            if ((size + 1) * 4 > data.length) data = Arrays.copyOf(data, data.length * 2);
+            int at = size++ * 4;
+            data[at] = y;
+            data[at + 1] = x1;
+            data[at + 2] = x2;
+            data[at + 3] = dy;
+        }
+    }
+
+    private static boolean open(int[] pixels, int target, int tolerance, byte[] blocked, byte[] mask, int i) {
+        return mask[i] == 0 && (blocked == null || blocked[i] == 0) && matches(pixels[i], target, tolerance);
+    }
+
+    // =====================================
+    // HELPERS
+    // =====================================
+
+    private static boolean matches(int argb, int target, int tolerance) {
+        if (argb == target) return true;
+        if (tolerance <= 0) return false;
+        return Math.abs((argb >>> 24) - (target >>> 24)) <= tolerance
+                && Math.abs(((argb >> 16) & 0xFF) - ((target >> 16) & 0xFF)) <= tolerance
+                && Math.abs(((argb >> 8) & 0xFF) - ((target >> 8) & 0xFF)) <= tolerance
+                && Math.abs((argb & 0xFF) - (target & 0xFF)) <= tolerance;
+    }
+
+    /**
+     * Square dilation of a 0/1 mask in place, radius r (separable running counts, O(pixels)).
+     * Both passes walk memory row by row.
+     */
+    private static void dilate(byte[] mask, int width, int height, int r) {
+        int[] line = new int[width];
+        for (int y = 0; y < height; y++) {
+            int offset = y * width;
+            for (int x = 0; x < width; x++) line[x] = mask[offset + x];
+            int count = 0;
+            for (int x = 0; x < Math.min(r, width); x++) count += line[x];
+            for (int x = 0; x < width; x++) {
+                if (x + r < width) count += line[x + r];
+                if (x - r - 1 >= 0) count -= line[x - r - 1];
+                mask[offset + x] = (byte) (count > 0 ? 1 : 0);
+            }
+        }
+
+        // Vertical pass: one running count per column, rows added and dropped as the window moves
+        byte[] source = mask.clone();
+        int[] counts = new int[width];
+        for (int y = 0; y < Math.min(r, height); y++) {
+            int offset = y * width;
+            for (int x = 0; x < width; x++) counts[x] += source[offset + x];
+        }
+        for (int y = 0; y < height; y++) {
+            if (y + r < height) {
+                int add = (y + r) * width;
+                for (int x = 0; x < width; x++) counts[x] += source[add + x];
+            }
+            if (y - r - 1 >= 0) {
+                int drop = (y - r - 1) * width;
+                for (int x = 0; x < width; x++) counts[x] -= source[drop + x];
+            }
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                mask[offset + x] = (byte) (counts[x] > 0 ? 1 : 0);
+            }
+        }
+    }
+}
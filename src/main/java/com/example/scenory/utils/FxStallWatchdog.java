@@ -0,0 +1,276 @@
+package com.example.scenory.utils;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Counter;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
+import javafx.application.Platform;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Watchdog for the JavaFX application thread.
+ * A background thread posts a heartbeat to the FX thread every 100 ms and
+ * measures how long it takes to run. If a heartbeat is still waiting after the
+ * threshold, the FX thread is blocked: its stack is captured right then, while
+ * it is still inside the offending code, and the stall is recorded when the
+ * thread comes back. The handler is the outermost application frame on that
+ * stack (the event handler or runLater task that started the work).
+ *
+ * The last stalls are kept in a ring buffer; per-handler totals are kept for
+ * the whole session so the worst UI-jank sources can be ranked.
+ */
+public class FxStallWatchdog {
+
+    private static final Logger LOG = Log.getLogger(FxStallWatchdog.class);
+
+    private static final long HEARTBEAT_INTERVAL_MS = 100;
+    private static final long POLL_INTERVAL_MS = 10;
+    private static final int RING_CAPACITY = 64;
+    private static final int MAX_STACK_DEPTH = 40;
+    private static final String APP_PACKAGE = "com.example.scenory.";
+
+    private static final Timer HEARTBEAT_TIMER = Metrics.timer("fx.heartbeat");
+    private static final Counter STALL_COUNTER = Metrics.counter("fx.stalls");
+
+    private static FxStallWatchdog instance;
+
+    /**
+     * One recorded stall
+     */
+    public static class Stall {
+        private final LocalDateTime time;
+        private final long durationMs;
+        private final String handler;
+        private final String blockedAt;
+        private final StackTraceElement[] stack;
+
+        Stall(LocalDateTime time, long durationMs, String handler, String blockedAt, StackTraceElement[] stack) {
+            this.time = time;
+            this.durationMs = durationMs;
+            this.handler = handler;
+            this.blockedAt = blockedAt;
+            this.stack = stack;
+        }
+
+        public LocalDateTime getTime() { return time; }
+        public long getDurationMs() { return durationMs; }
+        public String getHandler() { return handler; }
+        public String getBlockedAt() { return blockedAt; }
+        public StackTraceElement[] getStack() { return stack; }
+    }
+
+    /**
+     * Session totals for one handler
+     */
+    public static class HandlerTotals {
+        private final String handler;
+        private long count;
+        private long totalMs;
+        private long maxMs;
+
+        HandlerTotals(String handler) {
+            this.handler = handler;
+        }
+
+        public String getHandler() { return handler; }
+        public long getCount() { return count; }
+        public long getTotalMs() { return totalMs; }
+        public long getMaxMs() { return maxMs; }
+    }
+
+    // Ring buffer of recent stalls (guarded by this)
+    private final Stall[] ring = new Stall[RING_CAPACITY];
+    private int ringNext;
+    private long stallCount;
+    private final Map<String, HandlerTotals> totals = new HashMap<>();
+
+    private volatile long thresholdMs = Long.getLong("scenory.stall.threshold.ms", 100);
+    private volatile Thread fxThread;
+    private volatile long heartbeatAnswered;
+    private volatile boolean running;
+    private Thread watchdogThread;
+
+    private FxStallWatchdog() {
+    }
+
+    public static synchronized FxStallWatchdog getInstance() {
+        if (instance == null) {
+            instance = new FxStallWatchdog();
+        }
+        return instance;
+    }
+
+    // =====================================
+    // LIFECYCLE
+    // =====================================
+
+    /**
+     * Start watching (call from the FX application thread)
+     */
+    public synchronized void start() {
+        if (running) return;
+        fxThread = Thread.currentThread();
+        running = true;
+
+        watchdogThread = new Thread(this::watch, "fx-stall-watchdog");
+        watchdogThread.setDaemon(true);
+        watchdogThread.start();
+        LOG.info("🐕 FX stall watchdog started (threshold " + thresholdMs + " ms)");
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (watchdogThread != null) {
+            watchdogThread.interrupt();
+            watchdogThread = null;
+        }
+    }
+
+    private void watch() {
+        long pendingSince = 0;
+        long lastSent = 0;
+        StackTraceElement[] capturedStack = null;
+
+        while (running) {
+            long now = System.nanoTime();
+
+            if (pendingSince == 0) {
+                if (now - lastSent >= HEARTBEAT_INTERVAL_MS * 1_000_000) {
+                    heartbeatAnswered = 0;
+                    pendingSince = now;
+                    lastSent = now;
+                    Platform.runLater(() -> heartbeatAnswered = System.nanoTime());
+                }
+            } else if (heartbeatAnswered != 0) {
+                long latencyNanos = heartbeatAnswered - pendingSince;
+                HEARTBEAT_TIMER.record(latencyNanos);
+                if (capturedStack != null) {
+                    recordStall(latencyNanos / 1_000_000, capturedStack);
+                }
+                pendingSince = 0;
+                capturedStack = null;
+            } else if (capturedStack == null && now - pendingSince > thresholdMs * 1_000_000) {
+                // Still blocked: sample the FX thread while it is inside the slow code
+                Thread thread = fxThread;
+                capturedStack = thread != null ? thread.getStackTrace() : new StackTraceElement[0];
+            }
+
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void recordStall(long durationMs, StackTraceElement[] stack) {
+        String handler = outermostAppFrame(stack);
+        String blockedAt = stack.length > 0 ? frameName(stack[0]) : "unknown";
+        StackTraceElement[] kept = Arrays.copyOf(stack, Math.min(stack.length, MAX_STACK_DEPTH));
+
+        synchronized (this) {
+            ring[ringNext] = new Stall(LocalDateTime.now(), durationMs, handler, blockedAt, kept);
+            ringNext = (ringNext + 1) % RING_CAPACITY;
+            stallCount++;
+
+            HandlerTotals handlerTotals = totals.computeIfAbsent(handler, HandlerTotals::new);
+            handlerTotals.count++;
+            handlerTotals.totalMs += durationMs;
+            handlerTotals.maxMs = Math.max(handlerTotals.maxMs, durationMs);
+        }
+        STALL_COUNTER.increment();
+        LOG.warn("🐢 FX thread stalled " + durationMs + " ms in " + handler + " (at " + blockedAt + ")");
+    }
+
+    /**
+     * The first application frame from the bottom of the stack - the handler that started the work
+     */
+    private static String outermostAppFrame(StackTraceElement[] stack) {
+        for (int i = stack.length - 1; i >= 0; i--) {
+            if (stack[i].getClassName().startsWith(APP_PACKAGE)) {
+                return frameName(stack[i]);
+            }
+        }
+        return stack.length > 0 ? "JavaFX (" + frameName(stack[stack.length - 1]) + ")" : "unknown";
+    }
+
+    private static String frameName(StackTraceElement frame) {
+        String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+    }
+
+    // =====================================
+    // REPORTING
+    // =====================================
+
+    /**
+     * Recent stalls, newest first
+     */
+    public synchronized List<Stall> getRecentStalls() {
+        List<Stall> stalls = new ArrayList<>();
+        for (int i = 1; i <= RING_CAPACITY; i++) {
+            Stall stall = ring[(ringNext - i + RING_CAPACITY) % RING_CAPACITY];
+            if (stall == null) break;
+            stalls.add(stall);
+        }
+        return stalls;
+    }
+
+    /**
+     * Handlers ranked by total time the FX thread was blocked in them
+     */
+    public synchronized List<HandlerTotals> getRankedHandlers() {
+        List<HandlerTotals> ranked = new ArrayList<>(totals.values());
+        ranked.sort((a, b) -> Long.compare(b.totalMs, a.totalMs));
+        return ranked;
+    }
+
+    public synchronized String formatReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("FX thread stalls (> ").append(thresholdMs).append(" ms): ").append(stallCount)
+                .append(running ? "" : " (watchdog not running)").append("\n\n");
+
+        report.append(String.format("%-44s %6s %9s %8s%n", "Handler", "Stalls", "Total ms", "Max ms"));
+        for (HandlerTotals handler : getRankedHandlers()) {
+            report.append(String.format("%-44s %6d %9d %8d%n", handler.handler, handler.count, handler.totalMs, handler.maxMs));
+        }
+
+        List<Stall> recent = getRecentStalls();
+        if (!recent.isEmpty()) {
+            report.append("\nRecent stalls (newest first):\n");
+            for (Stall stall : recent.subList(0, Math.min(10, recent.size()))) {
+                report.append(String.format("%s  %5d ms  %s%n", stall.time.withNano(0), stall.durationMs, stall.handler));
+                report.append("    blocked at ").append(stall.blockedAt).append('\n');
+                for (int i = 0; i < Math.min(8, stall.stack.length); i++) {
+                    report.append("      at ").append(stall.stack[i]).append('\n');
+                }
+            }
+        }
+        return report.toString();
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(ring, null);
+        ringNext = 0;
+        stallCount = 0;
+        totals.clear();
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public boolean isRunning() { return running; }
+
+    public long getThresholdMs() { return thresholdMs; }
+    public void setThresholdMs(long thresholdMs) { this.thresholdMs = Math.max(HEARTBEAT_INTERVAL_MS / 2, thresholdMs); }
+
+    public synchronized long getStallCount() { return stallCount; }
+}
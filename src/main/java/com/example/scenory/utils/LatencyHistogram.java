@@ -0,0 +1,119 @@
+package com.example.scenory.utils;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear latency histogram (HdrHistogram-style buckets).
+ * Values are microseconds. Below 128us every value has its own bucket; above
+ * that each power of two is split into 64 buckets, so any recorded value is
+ * reported within about 1.5% regardless of magnitude. Recording is O(1) and
+ * allocation-free, which keeps it cheap enough for per-event use.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 6;
+    // Highest trackable value: 2^26us (about 67 seconds); larger values are clamped
+    private static final long MAX_VALUE = (1L << 26) - 1;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + SUB_BUCKETS * 20;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalMicros;
+    private long maxMicros;
+
+    /**
+     * Record one value in microseconds
+     */
+    public synchronized void recordValue(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_VALUE));
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        totalMicros += value;
+        maxMicros = Math.max(maxMicros, value);
+    }
+
+    /**
+     * Record a duration given in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        recordValue(nanos / 1000);
+    }
+
+    /**
+     * Value (microseconds) at or below which the given percentage of values fall
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(totalCount * Math.min(100.0, percentile) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueInBucket(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMax() {
+        return maxMicros;
+    }
+
+    public synchronized double getMean() {
+        return totalCount == 0 ? 0 : (double) totalMicros / totalCount;
+    }
+
+    /**
+     * Number of recorded values above the threshold (microseconds)
+     */
+    public synchronized long getCountAbove(long micros) {
+        long above = 0;
+        for (int i = counts.length - 1; i >= 0 && lowestValueInBucket(i) > micros; i--) {
+            above += counts[i];
+        }
+        return above;
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalMicros = 0;
+        maxMicros = 0;
+    }
+
+    // =====================================
+    // BUCKET MATH
+    // =====================================
+
+    private static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        // Shift so the top SUB_BUCKET_BITS + 1 bits remain: value >> shift is in [64, 127]
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) ((value >> shift) - SUB_BUCKETS);
+    }
+
+    private static long lowestValueInBucket(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long sub = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return sub << shift;
+    }
+
+    private static long highestValueInBucket(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        return lowestValueInBucket(index) + (1L << shift) - 1;
+    }
+}
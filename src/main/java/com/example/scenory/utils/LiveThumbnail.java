@@ -0,0 +1,168 @@
+package com.example.scenory.utils;
+
+import com.example.scenory.view.components.DrawingCanvas;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Thumbnail of the active panel that is kept current while drawing.
+ * Only the thumbnail pixels covered by a dirty canvas region are recomputed,
+ * so each committed stroke costs a small readback instead of a full snapshot + PNG encode.
+ * For a DrawingCanvas the pixels come straight from its raster tiles.
+ */
+public class LiveThumbnail {
+
+    private final int width;
+    private WritableImage image;
+    private double canvasWidth;
+    private double canvasHeight;
+
+    public LiveThumbnail(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Reset for a newly shown panel. Pixels are seeded from an encoded thumbnail
+     * of the same size when available, otherwise from one full canvas readback.
+     */
+    public void reset(Canvas canvas, byte[] seedImageData) {
+        if (canvas instanceof DrawingCanvas) {
+            canvasWidth = ((DrawingCanvas) canvas).getDocumentWidth();
+            canvasHeight = ((DrawingCanvas) canvas).getDocumentHeight();
+        } else {
+            canvasWidth = canvas.getWidth();
+            canvasHeight = canvas.getHeight();
+        }
+
+        int height = Math.max(1, (int) Math.round(width * canvasHeight / canvasWidth));
+        image = new WritableImage(width, height);
+
+        Image seed = ThumbnailGenerator.bytesToImage(seedImageData);
+        if (seed != null && !seed.isError() && (int) seed.getWidth() == width && (int) seed.getHeight() == height) {
+            image.getPixelWriter().setPixels(0, 0, width, height, seed.getPixelReader(), 0, 0);
+        } else {
+            updateRegion(canvas, null);
+        }
+    }
+
+    /**
+     * Recompute the thumbnail pixels covering a canvas region (null = whole canvas)
+     */
+    public void updateRegion(Canvas canvas, Rectangle2D dirty) {
+        if (image == null || canvas == null) return;
+
+        int thumbWidth = (int) image.getWidth();
+        int thumbHeight = (int) image.getHeight();
+        double scaleX = canvasWidth / thumbWidth;
+        double scaleY = canvasHeight / thumbHeight;
+
+        if (dirty == null) {
+            dirty = new Rectangle2D(0, 0, canvasWidth, canvasHeight);
+        }
+
+        // Thumbnail pixels touched by the dirty region
+        int tx0 = clamp((int) Math.floor(dirty.getMinX() / scaleX), 0, thumbWidth);
+        int ty0 = clamp((int) Math.floor(dirty.getMinY() / scaleY), 0, thumbHeight);
+        int tx1 = clamp((int) Math.ceil(dirty.getMaxX() / scaleX), 0, thumbWidth);
+        int ty1 = clamp((int) Math.ceil(dirty.getMaxY() / scaleY), 0, thumbHeight);
+        if (tx1 <= tx0 || ty1 <= ty0) return;
+
+        // Canvas pixels backing those thumbnail pixels
+        int sx0 = (int) Math.floor(tx0 * scaleX);
+        int sy0 = (int) Math.floor(ty0 * scaleY);
+        int sx1 = clamp((int) Math.ceil(tx1 * scaleX), sx0 + 1, (int) canvasWidth);
+        int sy1 = clamp((int) Math.ceil(ty1 * scaleY), sy0 + 1, (int) canvasHeight);
+        int sw = sx1 - sx0;
+        int sh = sy1 - sy0;
+
+        int rw;
+        int rh;
+        int[] src;
+        if (canvas instanceof DrawingCanvas) {
+            // Read the composite tiles directly - no GPU readback
+            rw = sw;
+            rh = sh;
+            src = new int[rw * rh];
+            ((DrawingCanvas) canvas).getCompositeRaster().getPixels(sx0, sy0, sw, sh, src);
+        } else {
+            SnapshotParameters params = new SnapshotParameters();
+            params.setViewport(new Rectangle2D(sx0, sy0, sw, sh));
+            WritableImage region = canvas.snapshot(params, null);
+
+            rw = Math.min(sw, (int) region.getWidth());
+            rh = Math.min(sh, (int) region.getHeight());
+            src = new int[rw * rh];
+            region.getPixelReader().getPixels(0, 0, rw, rh, PixelFormat.getIntArgbInstance(), src, 0, rw);
+        }
+
+        int tw = tx1 - tx0;
+        int th = ty1 - ty0;
+        int[] dst = new int[tw * th];
+
+        // Box filter: average the block of canvas pixels behind each thumbnail pixel
+        for (int ty = 0; ty < th; ty++) {
+            int ys = clamp((int) Math.floor((ty0 + ty) * scaleY) - sy0, 0, rh - 1);
+            int ye = clamp((int) Math.floor((ty0 + ty + 1) * scaleY) - sy0, ys + 1, rh);
+
+            for (int tx = 0; tx < tw; tx++) {
+                int xs = clamp((int) Math.floor((tx0 + tx) * scaleX) - sx0, 0, rw - 1);
+                int xe = clamp((int) Math.floor((tx0 + tx + 1) * scaleX) - sx0, xs + 1, rw);
+
+                long a = 0, r = 0, g = 0, b = 0;
+                for (int y = ys; y < ye; y++) {
+                    int row = y * rw;
+                    for (int x = xs; x < xe; x++) {
+                        int argb = src[row + x];
+                        a += (argb >>> 24);
+                        r += (argb >> 16) & 0xFF;
+                        g += (argb >> 8) & 0xFF;
+                        b += argb & 0xFF;
+                    }
+                }
+
+                int count = (ye - ys) * (xe - xs);
+                dst[ty * tw + tx] = (int) (a / count) << 24 | (int) (r / count) << 16
+                        | (int) (g / count) << 8 | (int) (b / count);
+            }
+        }
+
+        image.getPixelWriter().setPixels(tx0, ty0, tw, th, PixelFormat.getIntArgbInstance(), dst, 0, tw);
+    }
+
+    /**
+     * Live image for display - views bound to it refresh automatically
+     */
+    public WritableImage getImage() {
+        return image;
+    }
+
+    public boolean isReady() {
+        return image != null;
+    }
+
+    public void clear() {
+        image = null;
+    }
+
+    /**
+     * Union of two dirty regions (null = whole canvas)
+     */
+    public static Rectangle2D union(Rectangle2D a, Rectangle2D b) {
+        if (a == null || b == null) return null;
+        if (a.equals(Rectangle2D.EMPTY)) return b;
+        if (b.equals(Rectangle2D.EMPTY)) return a;
+        double minX = Math.min(a.getMinX(), b.getMinX());
+        double minY = Math.min(a.getMinY(), b.getMinY());
+        double maxX = Math.max(a.getMaxX(), b.getMaxX());
+        double maxY = Math.max(a.getMaxY(), b.getMaxY());
+        return new Rectangle2D(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(value, max));
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.scenory.utils;
+
+import com.example.scenory.enums.DrawingTool;
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import javafx.scene.Scene;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * Input-to-pixel latency instrumentation for the drawing canvas.
+ * Each input event is timestamped when it reaches the canvas handler. Events
+ * that queued stroke segments carry the rasterizer's segment count and are
+ * retired when the canvas presents the batch holding their last segment, so
+ * "input to present" covers the render thread as well as the FX thread.
+ * Events drawn straight into the scene graph (shape previews, panning) are
+ * retired by the next pulse, whose post-layout listener runs right before the
+ * scene is synced to the render thread. Per-tool histograms, pulse intervals
+ * during strokes and the snapshots taken by undo commands are kept for the
+ * whole session. All recording happens on the FX application thread.
+ */
+public class StrokeLatencyMonitor {
+
+    private static final Logger LOG = Log.getLogger(StrokeLatencyMonitor.class);
+
+    // Pulses further apart than this while drawing are counted as stalls
+    public static final long STALL_THRESHOLD_MICROS = 50_000;
+
+    private static StrokeLatencyMonitor instance;
+
+    /**
+     * Histograms for one drawing tool
+     */
+    public static class ToolStats {
+        private final LatencyHistogram inputToPresent = new LatencyHistogram();
+        private final LatencyHistogram handler = new LatencyHistogram();
+
+        public LatencyHistogram getInputToPresent() { return inputToPresent; }
+        public LatencyHistogram getHandler() { return handler; }
+    }
+
+    private final Map<DrawingTool, ToolStats> toolStats = new EnumMap<>(DrawingTool.class);
+    private final LatencyHistogram pulseInterval = new LatencyHistogram();
+    private final Map<String, LatencyHistogram> snapshots = new LinkedHashMap<>();
+    private final Runnable pulseListener = this::onPulse;
+
+    // Events handled but not yet presented; a ticket of 0 waits for the next pulse
+    private long[] pendingTimes = new long[64];
+    private long[] pendingTickets = new long[64];
+    private DrawingTool[] pendingTools = new DrawingTool[64];
+    private int pendingCount;
+
+    private long lastPulseNanos;
+    private boolean lastPulseHadInput;
+    private LocalDateTime sessionStart = LocalDateTime.now();
+    private volatile boolean enabled = true;
+
+    private StrokeLatencyMonitor() {
+    }
+
+    public static StrokeLatencyMonitor getInstance() {
+        if (instance == null) {
+            instance = new StrokeLatencyMonitor();
+        }
+        return instance;
+    }
+
+    // =====================================
+    // RECORDING
+    // =====================================
+
+    /**
+     * Timestamp for an input event arriving at the canvas (0 when disabled)
+     */
+    public long inputReceived() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * The canvas has handled an input event. Its pixels are shown once the rasterizer has
+     * presented segmentTicket segments, or at the next pulse when the ticket is 0
+     * (the event queued no segments).
+     */
+    public void inputHandled(DrawingTool tool, long receivedNanos, long segmentTicket) {
+        if (!enabled || receivedNanos == 0 || tool == null) return;
+
+        stats(tool).handler.recordNanos(System.nanoTime() - receivedNanos);
+
+        if (pendingCount == pendingTimes.length) {
+            pendingTimes = Arrays.copyOf(pendingTimes, pendingCount * 2);
+            pendingTickets = Arrays.copyOf(pendingTickets, pendingCount * 2);
+            pendingTools = Arrays.copyOf(pendingTools, pendingCount * 2);
+        }
+        pendingTimes[pendingCount] = receivedNanos;
+        pendingTickets[pendingCount] = segmentTicket;
+        pendingTools[pendingCount] = tool;
+        pendingCount++;
+    }
+
+    /**
+     * The canvas has presented every segment up to this count; retire the events waiting on them
+     */
+    public void segmentsPresented(long presentedSegments) {
+        retire(System.nanoTime(), ticket -> ticket != 0 && ticket <= presentedSegments);
+    }
+
+    /**
+     * Record the time taken by a canvas snapshot for the given source
+     */
+    public void recordSnapshot(String source, long nanos) {
+        if (!enabled) return;
+        snapshots.computeIfAbsent(source, key -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    private void onPulse() {
+        long now = System.nanoTime();
+        boolean hadInput = pendingCount > 0;
+
+        if (hadInput && lastPulseHadInput && lastPulseNanos != 0) {
+            pulseInterval.recordNanos(now - lastPulseNanos);
+        }
+        retire(now, ticket -> ticket == 0);
+
+        lastPulseNanos = now;
+        lastPulseHadInput = hadInput;
+    }
+
+    /**
+     * Record and drop the pending events whose ticket matches, keeping the rest in order
+     */
+    private void retire(long now, LongPredicate due) {
+        int kept = 0;
+        for (int i = 0; i < pendingCount; i++) {
+            if (due.test(pendingTickets[i])) {
+                stats(pendingTools[i]).inputToPresent.recordNanos(now - pendingTimes[i]);
+            } else {
+                pendingTimes[kept] = pendingTimes[i];
+                pendingTickets[kept] = pendingTickets[i];
+                pendingTools[kept] = pendingTools[i];
+                kept++;
+            }
+        }
+        Arrays.fill(pendingTools, kept, pendingCount, null);
+        pendingCount = kept;
+    }
+
+    private ToolStats stats(DrawingTool tool) {
+        return toolStats.computeIfAbsent(tool, key -> new ToolStats());
+    }
+
+    // =====================================
+    // SCENE HOOKUP
+    // =====================================
+
+    /**
+     * Follow the pulses of the scene that shows the canvas
+     */
+    public void attach(Scene scene) {
+        if (scene != null) {
+            scene.addPostLayoutPulseListener(pulseListener);
+        }
+    }
+
+    public void detach(Scene scene) {
+        if (scene != null) {
+            scene.removePostLayoutPulseListener(pulseListener);
+        }
+    }
+
+    // =====================================
+    // REPORTING
+    // =====================================
+
+    /**
+     * Human-readable summary for the debug dialog
+     */
+    public String formatReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Stroke latency since ").append(sessionStart.withNano(0))
+                .append(enabled ? "" : " (recording paused)").append("\n\n");
+
+        report.append(String.format("%-10s %8s %9s %9s %9s  %s%n", "Tool", "Events", "p50 ms", "p99 ms", "max ms", "(input to present)"));
+        for (Map.Entry<DrawingTool, ToolStats> entry : toolStats.entrySet()) {
+            report.append(row(entry.getKey().name(), entry.getValue().inputToPresent));
+        }
+
+        report.append(String.format("%n%-10s %8s %9s %9s %9s  %s%n", "Tool", "Events", "p50 ms", "p99 ms", "max ms", "(handler)"));
+        for (Map.Entry<DrawingTool, ToolStats> entry : toolStats.entrySet()) {
+            report.append(row(entry.getKey().name(), entry.getValue().handler));
+        }
+
+        report.append(String.format("%n%-10s %8s %9s %9s %9s%n", "Pulses", "Count", "p50 ms", "p99 ms", "max ms"));
+        report.append(row("interval", pulseInterval));
+        report.append(String.format("Stalls (> %d ms between pulses while drawing): %d%n",
+                STALL_THRESHOLD_MICROS / 1000, pulseInterval.getCountAbove(STALL_THRESHOLD_MICROS)));
+
+        report.append(String.format("%n%-18s %8s %9s %9s %9s%n", "Snapshots", "Count", "p50 ms", "p99 ms", "max ms"));
+        long total = 0;
+        for (Map.Entry<String, LatencyHistogram> entry : snapshots.entrySet()) {
+            report.append(String.format("%-18s %8d %9.2f %9.2f %9.2f%n", entry.getKey(), entry.getValue().getCount(),
+                    ms(entry.getValue().getValueAtPercentile(50)), ms(entry.getValue().getValueAtPercentile(99)),
+                    ms(entry.getValue().getMax())));
+            total += entry.getValue().getCount();
+        }
+        report.append("Total snapshots: ").append(total).append('\n');
+        return report.toString();
+    }
+
+    /**
+     * Write every histogram summary as CSV (one row per metric and key)
+     */
+    public void exportReport(Path file) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.println("metric,key,count,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,mean_ms");
+            for (Map.Entry<DrawingTool, ToolStats> entry : toolStats.entrySet()) {
+                out.println(csv("input_to_present", entry.getKey().name(), entry.getValue().inputToPresent));
+                out.println(csv("handler", entry.getKey().name(), entry.getValue().handler));
+            }
+            out.println(csv("pulse_interval", "drawing", pulseInterval));
+            for (Map.Entry<String, LatencyHistogram> entry : snapshots.entrySet()) {
+                out.println(csv("snapshot", entry.getKey(), entry.getValue()));
+            }
+        }
+        LOG.info("📤 Latency report exported to " + file);
+    }
+
+    public void reset() {
+        toolStats.clear();
+        snapshots.clear();
+        pulseInterval.reset();
+        pendingCount = 0;
+        lastPulseHadInput = false;
+        sessionStart = LocalDateTime.now();
+    }
+
+    private static String row(String key, LatencyHistogram histogram) {
+        return String.format("%-10s %8d %9.2f %9.2f %9.2f%n", key, histogram.getCount(),
+                ms(histogram.getValueAtPercentile(50)), ms(histogram.getValueAtPercentile(99)), ms(histogram.getMax()));
+    }
+
+    private static String csv(String metric, String key, LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f", metric, key, histogram.getCount(),
+                ms(histogram.getValueAtPercentile(50)), ms(histogram.getValueAtPercentile(90)),
+                ms(histogram.getValueAtPercentile(99)), ms(histogram.getValueAtPercentile(99.9)),
+                ms(histogram.getMax()), histogram.getMean() / 1000.0);
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            pendingCount = 0;
+            lastPulseHadInput = false;
+        }
+    }
+
+    public Map<DrawingTool, ToolStats> getToolStats() { return toolStats; }
+    public LatencyHistogram getPulseInterval() { return pulseInterval; }
+
+    public long getSnapshotCount() {
+        return snapshots.values().stream().mapToLong(LatencyHistogram::getCount).sum();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.scenory.utils;
+
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+/**
+ * Commit-time clean-up of freehand strokes.
+ * Mouse input arrives as many closely spaced, nearly collinear samples; simplify()
+ * keeps only the points needed to stay within a distance tolerance of the recorded
+ * line (Ramer-Douglas-Peucker), and smoothPath() joins what is left with a
+ * centripetal Catmull-Rom spline written as cubic Beziers, so the stroke passes
+ * through every kept point without the corners a polyline would have.
+ */
+public final class StrokeSimplifier {
+
+    private StrokeSimplifier() {
+    }
+
+    /**
+     * Indices of the points to keep, in order, first and last always included
+     *
+     * @param tolerance largest distance (px) between a dropped point and the simplified line
+     */
+    public static int[] simplify(double[] xs, double[] ys, int count, double tolerance) {
+        if (count <= 2) {
+            int[] all = new int[count];
+            for (int i = 0; i < count; i++) all[i] = i;
+            return all;
+        }
+
+        boolean[] keep = new boolean[count];
+        keep[0] = true;
+        keep[count - 1] = true;
+        double toleranceSquared = tolerance * tolerance;
+
+        // Explicit stack of [first, last] ranges; long strokes would overflow recursion
+        int[] stack = new int[64];
+        int size = 0;
+        stack[size++] = 0;
+        stack[size++] = count - 1;
+
+        while (size > 0) {
+            int last = stack[--size];
+            int first = stack[--size];
+
+            int farthest = -1;
+            double farthestDistance = toleranceSquared;
+            for (int i = first + 1; i < last; i++) {
+                double distance = segmentDistanceSquared(xs[i], ys[i], xs[first], ys[first], xs[last], ys[last]);
+                if (distance > farthestDistance) {
+                    farthestDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            if (farthest >= 0) {
+                keep[farthest] = true;
+                if (size + 4 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+                stack[size++] = first;
+                stack[size++] = farthest;
+                stack[size++] = farthest;
+                stack[size++] = last;
+            }
+        }
+
+        int kept = 0;
+        for (boolean k : keep) if (k) kept++;
+        int[] indices = new int[kept];
+        for (int i = 0, j = 0; i < count; i++) {
+            if (keep[i]) indices[j++] = i;
+        }
+        return indices;
+    }
+
+    /**
+     * Smooth path through the points (centripetal Catmull-Rom, alpha = 0.5, as cubic Beziers).
+     * The end segments use the end points as their outer neighbours.
+     */
+    public static Path2D smoothPath(double[] xs, double[] ys, int count) {
+        Path2D path = new Path2D.Double();
+        if (count == 0) return path;
+
+        path.moveTo(xs[0], ys[0]);
+        if (count == 1) {
+            // A tiny segment so round caps still draw a dot
+            path.lineTo(xs[0] + 0.1, ys[0] + 0.1);
+            return path;
+        }
+        if (count == 2) {
+            path.lineTo(xs[1], ys[1]);
+            return path;
+        }
+
+        for (int i = 0; i < count - 1; i++) {
+            int i0 = Math.max(i - 1, 0);
+            int i3 = Math.min(i + 2, count - 1);
+            double x0 = xs[i0], y0 = ys[i0];
+            double x1 = xs[i], y1 = ys[i];
+            double x2 = xs[i + 1], y2 = ys[i + 1];
+            double x3 = xs[i3], y3 = ys[i3];
+
+            // Square roots of the chord lengths (centripetal parameterisation)
+            double d1 = Math.sqrt(Math.hypot(x1 - x0, y1 - y0));
+            double d2 = Math.sqrt(Math.hypot(x2 - x1, y2 - y1));
+            double d3 = Math.sqrt(Math.hypot(x3 - x2, y3 - y2));
+
+            double c1x = x1, c1y = y1;
+            if (d1 > 0 && d2 > 0) {
+                double a = 2 * d1 * d1 + 3 * d1 * d2 + d2 * d2;
+                double n = 3 * d1 * (d1 + d2);
+                c1x = (d1 * d1 * x2 - d2 * d2 * x0 + a * x1) / n;
+                c1y = (d1 * d1 * y2 - d2 * d2 * y0 + a * y1) / n;
+            }
+
+            double c2x = x2, c2y = y2;
+            if (d3 > 0 && d2 > 0) {
+                double b = 2 * d3 * d3 + 3 * d3 * d2 + d2 * d2;
+                double m = 3 * d3 * (d3 + d2);
+                c2x = (d3 * d3 * x1 - d2 * d2 * x3 + b * x2) / m;
+                c2y = (d3 * d3 * y1 - d2 * d2 * y3 + b * y2) / m;
+            }
+
+            path.curveTo(c1x, c1y, c2x, c2y, x2, y2);
+        }
+        return path;
+    }
+
+    // =====================================
+    // HELPERS
+    // =====================================
+
+    private static double segmentDistanceSquared(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared > 0 ? ((px - ax) * dx + (py - ay) * dy) / lengthSquared : 0;
+        t = Math.max(0, Math.min(1, t));
+        double ex = px - (ax + t * dx);
+        double ey = py - (ay + t * dy);
+        return ex * ex + ey * ey;
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.scenory.utils;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
+import com.example.scenory.view.components.DrawingCanvas;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.image.WritableImage;
 import javafx.scene.image.Image;
@@ -13,12 +18,25 @@ import java.io.ByteArrayOutputStream;
 import java.io.ByteArrayInputStream;
 import javax.imageio.ImageIO;
 import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class ThumbnailGenerator {
 
+    private static final Logger LOG = Log.getLogger(ThumbnailGenerator.class);
+
+    private static final Timer SNAPSHOT_TIMER = Metrics.timer("canvas.snapshot");
+    private static final Timer RASTER_READ_TIMER = Metrics.timer("raster.read");
+    private static final Timer ENCODE_TIMER = Metrics.timer("thumbnail.encode");
+    private static final Timer PYRAMID_TIMER = Metrics.timer("thumbnail.pyramid");
+    private static final Timer DECODE_TIMER = Metrics.timer("png.decode");
+
     public static final int THUMBNAIL_WIDTH = 120;
     public static final int THUMBNAIL_HEIGHT = 90;
 
+    // Pyramid level widths (height follows the canvas aspect ratio)
+    public static final int[] PYRAMID_LEVEL_WIDTHS = {64, 128, 256, 512};
+
     /**
      * Generate thumbnail from canvas
      */
@@ -31,28 +49,119 @@ public class ThumbnailGenerator {
      */
     public static byte[] generateThumbnail(Canvas canvas, int width, int height) {
         try {
-            // Create snapshot of canvas
-            WritableImage snapshot = canvas.snapshot(null, null);
-
-            // Convert JavaFX image to BufferedImage
-            BufferedImage bufferedImage = SwingFXUtils.fromFXImage(snapshot, null);
+            BufferedImage bufferedImage = captureCanvas(canvas);
 
             // Resize to thumbnail size
+            long encodeStart = ENCODE_TIMER.start();
             BufferedImage thumbnail = resizeImage(bufferedImage, width, height);
 
             // Convert to byte array
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             ImageIO.write(thumbnail, "PNG", baos);
+            ENCODE_TIMER.stop(encodeStart);
 
             return baos.toByteArray();
 
         } catch (Exception e) {
-            System.err.println("Error generating thumbnail: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error generating thumbnail: " + e.getMessage(), e);
             return createPlaceholderThumbnail(width, height);
         }
     }
 
+    /**
+     * Capture canvas pixels once so several outputs can share the same readback.
+     * A DrawingCanvas is read from its composited layer tiles; other canvases need a GPU snapshot.
+     */
+    public static BufferedImage captureCanvas(Canvas canvas) {
+        if (canvas instanceof DrawingCanvas) {
+            long readStart = RASTER_READ_TIMER.start();
+            BufferedImage image = ((DrawingCanvas) canvas).getCompositeRaster().toBufferedImage();
+            RASTER_READ_TIMER.stop(readStart);
+            return image;
+        }
+
+        long snapshotStart = SNAPSHOT_TIMER.start();
+        WritableImage snapshot = canvas.snapshot(null, null);
+        SNAPSHOT_TIMER.stop(snapshotStart);
+        return SwingFXUtils.fromFXImage(snapshot, null);
+    }
+
+    /**
+     * Generate every pyramid level from a single canvas snapshot
+     */
+    public static Map<Integer, byte[]> generateThumbnailPyramid(Canvas canvas) {
+        try {
+            return generateThumbnailPyramid(captureCanvas(canvas));
+        } catch (Exception e) {
+            LOG.error("Error generating thumbnail pyramid: " + e.getMessage());
+            return new TreeMap<>();
+        }
+    }
+
+    /**
+     * Generate every pyramid level from captured pixels in one pass.
+     * The largest level is reached from the source through 2:1 halvings, each
+     * smaller level is scaled from the level above it, so the full-size image
+     * is only resampled once and no step skips source pixels.
+     */
+    public static Map<Integer, byte[]> generateThumbnailPyramid(BufferedImage source) {
+        Map<Integer, byte[]> levels = new TreeMap<>();
+        if (source == null || source.getWidth() <= 0 || source.getHeight() <= 0) {
+            return levels;
+        }
+
+        double aspect = (double) source.getHeight() / source.getWidth();
+        BufferedImage previous = source;
+        long pyramidStart = PYRAMID_TIMER.start();
+
+        try {
+            for (int i = PYRAMID_LEVEL_WIDTHS.length - 1; i >= 0; i--) {
+                int width = PYRAMID_LEVEL_WIDTHS[i];
+                int height = Math.max(1, (int) Math.round(width * aspect));
+
+                BufferedImage level = resizeImage(halveToward(previous, width, height), width, height);
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                ImageIO.write(level, "PNG", baos);
+                levels.put(width, baos.toByteArray());
+
+                previous = level;
+            }
+        } catch (IOException e) {
+            LOG.error("Error encoding thumbnail pyramid: " + e.getMessage());
+        }
+        PYRAMID_TIMER.stop(pyramidStart);
+
+        return levels;
+    }
+
+    /**
+     * Build the pyramid from stored canvas PNG data (for panels loaded without levels).
+     * The data holds the drawing only, so it is flattened onto the panel background first.
+     * Decodes the full canvas: call it off the FX thread.
+     */
+    public static Map<Integer, byte[]> generateThumbnailPyramid(byte[] canvasImageData, Color background) {
+        try {
+            if (canvasImageData == null || canvasImageData.length == 0) {
+                return new TreeMap<>();
+            }
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(canvasImageData));
+            if (image == null) {
+                return new TreeMap<>();
+            }
+
+            BufferedImage flat = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2d = flat.createGraphics();
+            g2d.setColor(background);
+            g2d.fillRect(0, 0, flat.getWidth(), flat.getHeight());
+            g2d.drawImage(image, 0, 0, null);
+            g2d.dispose();
+            return generateThumbnailPyramid(flat);
+        } catch (IOException e) {
+            LOG.error("Error decoding canvas for thumbnail pyramid: " + e.getMessage());
+            return new TreeMap<>();
+        }
+    }
+
     /**
      * Convert byte array back to JavaFX Image
      */
@@ -62,19 +171,41 @@ public class ThumbnailGenerator {
                 return null;
             }
 
+            long decodeStart = DECODE_TIMER.start();
             ByteArrayInputStream bais = new ByteArrayInputStream(imageBytes);
-            return new Image(bais);
+            Image image = new Image(bais);
+            DECODE_TIMER.stop(decodeStart);
+            return image;
 
         } catch (Exception e) {
-            System.err.println("Error converting bytes to image: " + e.getMessage());
+            LOG.error("Error converting bytes to image: " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Halve an image until it is less than twice the target size. Each 2:1 bilinear
+     * step averages 2x2 blocks, so large reductions do not alias.
+     */
+    private static BufferedImage halveToward(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        while (current.getWidth() >= width * 2 && current.getHeight() >= height * 2) {
+            int halfWidth = current.getWidth() / 2;
+            int halfHeight = current.getHeight() / 2;
+            BufferedImage half = new BufferedImage(halfWidth, halfHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = half.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(current, 0, 0, halfWidth, halfHeight, null);
+            g2d.dispose();
+            current = half;
+        }
+        return current;
+    }
+
     /**
      * Resize image with high quality
      */
-    private static BufferedImage resizeImage(BufferedImage original, int width, int height) {
+    public static BufferedImage resizeImage(BufferedImage original, int width, int height) {
         BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g2d = resized.createGraphics();
 
@@ -155,7 +286,7 @@ public class ThumbnailGenerator {
             return baos.toByteArray();
 
         } catch (IOException e) {
-            System.err.println("Error creating placeholder thumbnail: " + e.getMessage());
+            LOG.error("Error creating placeholder thumbnail: " + e.getMessage());
             return new byte[0];
         }
     }
@@ -199,7 +330,7 @@ public class ThumbnailGenerator {
             ImageIO.write(thumbnail, "PNG", baos);
             return baos.toByteArray();
         } catch (IOException e) {
-            System.err.println("Error creating thumbnail from BufferedImage: " + e.getMessage());
+            LOG.error("Error creating thumbnail from BufferedImage: " + e.getMessage());
             return createPlaceholderThumbnail(width, height);
         }
     }
@@ -0,0 +1,277 @@
+package com.example.scenory.view.components;
+
+import com.example.scenory.enums.DrawingTool;
+import com.example.scenory.metrics.Counter;
+import com.example.scenory.metrics.Metrics;
+import javafx.scene.paint.Color;
+
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Stamp-based brushes for the BRUSH and PENCIL tools (PEN keeps plain anti-aliased lines).
+ * A stroke is a row of dabs spaced a fraction of the tip diameter apart, each blended
+ * source-over straight into the raster's tile pixels.
+ *
+ * A dab is a premultiplied int[] already carrying the colour and flow, rendered for one
+ * of 4x4 sub-pixel positions so thin strokes stay smooth. Dabs are cached per tip, size,
+ * colour and position, so after the first few dabs of a stroke stamping is a copy-and-blend
+ * with no per-pixel maths beyond the blend itself. The pencil's grain is a paper texture
+ * fixed to the canvas, applied while blending, so overlapping dabs do not blur it away.
+ */
+public final class BrushEngine {
+
+    private static final Counter DAB_CACHE_HITS = Metrics.counter("brush.dab.cache.hit");
+    private static final Counter DAB_CACHE_MISSES = Metrics.counter("brush.dab.cache.miss");
+
+    private static final int PHASES = 4;             // sub-pixel positions per axis
+    private static final int MAX_CACHED_DABS = 256;
+    private static final int GRAIN_SIZE = 64;        // paper texture repeat (power of two)
+
+    private static final BrushEngine INSTANCE = new BrushEngine();
+
+    /**
+     * Brush tip: dab shape, spacing (fraction of the diameter) and flow (alpha of one dab)
+     */
+    public enum Tip {
+        SOFT_ROUND("Soft Round", 0.15, 0.35, false),
+        PENCIL("Pencil", 0.10, 0.55, true);
+
+        private final String displayName;
+        private final double spacing;
+        private final double flow;
+        private final boolean grain;
+
+        Tip(String displayName, double spacing, double flow, boolean grain) {
+            this.displayName = displayName;
+            this.spacing = spacing;
+            this.flow = flow;
+            this.grain = grain;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * Coverage (0-1) of a pixel whose centre is this far from the dab centre
+         */
+        double coverage(double distance, double radius) {
+            switch (this) {
+                case SOFT_ROUND: {
+                    double r = Math.max(radius, 0.75);
+                    if (distance >= r) return 0;
+                    double t = distance / r;
+                    return (1 - t * t) * (1 - t * t);
+                }
+                default:
+                    // Hard round with a one-pixel anti-aliased rim
+                    return Math.max(0, Math.min(1, radius - distance + 0.5));
+            }
+        }
+    }
+
+    /**
+     * One stroke being stamped: its tip, size and colour, and how far along the
+     * spacing it is. Use each from one thread at a time.
+     */
+    public static final class BrushStroke {
+        final Tip tip;
+        final double diameter;
+        final Color color;
+        final int argb;
+        final double spacing;
+        private boolean started;
+        private double carried;   // distance travelled since the last dab
+
+        public BrushStroke(Tip tip, double diameter, Color color) {
+            this.tip = tip;
+            this.diameter = diameter;
+            this.color = color;
+            this.argb = toArgb(color);
+            this.spacing = Math.max(0.5, diameter * tip.spacing);
+        }
+
+        public Tip getTip() { return tip; }
+        public double getDiameter() { return diameter; }
+    }
+
+    private final Map<Long, int[]> dabs = new LinkedHashMap<Long, int[]>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+            return size() > MAX_CACHED_DABS;
+        }
+    };
+    private final byte[] grain = createGrain();
+
+    private BrushEngine() {
+    }
+
+    public static BrushEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Tip a tool paints with, or null when it draws plain lines
+     */
+    public static Tip tipFor(DrawingTool tool) {
+        switch (tool) {
+            case BRUSH:
+                return Tip.SOFT_ROUND;
+            case PENCIL:
+                return Tip.PENCIL;
+            default:
+                return null;
+        }
+    }
+
+    // =====================================
+    // STAMPING
+    // =====================================
+
+    /**
+     * Stamp dabs from (x0, y0) to (x1, y1), continuing the stroke's spacing from its last segment.
+     * The first segment of a stroke also stamps its start point.
+     */
+    public void stampSegment(TiledRaster raster, BrushStroke stroke, double x0, double y0, double x1, double y1) {
+        if (!stroke.started) {
+            stroke.started = true;
+            stroke.carried = 0;
+            stampDab(raster, stroke, x0, y0);
+        }
+
+        double length = Math.hypot(x1 - x0, y1 - y0);
+        double distance = stroke.spacing - stroke.carried;
+        while (distance <= length) {
+            double t = distance / length;
+            stampDab(raster, stroke, x0 + (x1 - x0) * t, y0 + (y1 - y0) * t);
+            distance += stroke.spacing;
+        }
+        stroke.carried = length - (distance - stroke.spacing);
+    }
+
+    /**
+     * Stamp a whole path (curves are flattened to well under a pixel)
+     */
+    public void stampPath(TiledRaster raster, BrushStroke stroke, Shape path) {
+        double[] coords = new double[6];
+        double lastX = 0, lastY = 0;
+        for (PathIterator it = path.getPathIterator(null, 0.25); !it.isDone(); it.next()) {
+            int type = it.currentSegment(coords);
+            if (type == PathIterator.SEG_MOVETO) {
+                lastX = coords[0];
+                lastY = coords[1];
+            } else if (type == PathIterator.SEG_LINETO) {
+                stampSegment(raster, stroke, lastX, lastY, coords[0], coords[1]);
+                lastX = coords[0];
+                lastY = coords[1];
+            }
+        }
+        if (!stroke.started) {
+            stampSegment(raster, stroke, lastX, lastY, lastX, lastY);
+        }
+    }
+
+    private void stampDab(TiledRaster raster, BrushStroke stroke, double x, double y) {
+        // The dab is sized from the cached quarter-pixel diameter, so widths sharing a cache key share a size
+        int quarterPixels = (int) Math.min(0xFFFF, Math.round(stroke.diameter * 4));
+        int half = (int) Math.ceil(Math.max(quarterPixels / 4.0, 1.5) / 2) + 1;
+        int size = half * 2 + 2;
+
+        double fx = Math.floor(x);
+        double fy = Math.floor(y);
+        int phaseX = Math.min(PHASES - 1, (int) ((x - fx) * PHASES));
+        int phaseY = Math.min(PHASES - 1, (int) ((y - fy) * PHASES));
+
+        int[] dab = dabFor(stroke, quarterPixels, phaseX, phaseY, half, size);
+        raster.stamp(dab, size, (int) fx - half, (int) fy - half, stroke.tip.grain ? grain : null, GRAIN_SIZE);
+    }
+
+    // =====================================
+    // DAB CACHE
+    // =====================================
+
+    private synchronized int[] dabFor(BrushStroke stroke, int quarterPixels, int phaseX, int phaseY,
+                                      int half, int size) {
+        long key = ((long) stroke.tip.ordinal() << 56) | ((long) quarterPixels << 40)
+                | ((long) (phaseY * PHASES + phaseX) << 32) | (stroke.argb & 0xFFFFFFFFL);
+
+        int[] dab = dabs.get(key);
+        if (dab != null) {
+            DAB_CACHE_HITS.increment();
+            return dab;
+        }
+
+        DAB_CACHE_MISSES.increment();
+        dab = renderDab(stroke, quarterPixels / 4.0, (phaseX + 0.5) / PHASES, (phaseY + 0.5) / PHASES, half, size);
+        dabs.put(key, dab);
+        return dab;
+    }
+
+    /**
+     * Premultiplied dab with its centre at (half + offsetX, half + offsetY)
+     */
+    private static int[] renderDab(BrushStroke stroke, double diameter, double offsetX, double offsetY,
+                                   int half, int size) {
+        Color color = stroke.color;
+        double alpha = color.getOpacity() * stroke.tip.flow;
+        double radius = diameter / 2;
+        double centerX = half + offsetX;
+        double centerY = half + offsetY;
+
+        int[] dab = new int[size * size];
+        for (int row = 0; row < size; row++) {
+            double dy = row + 0.5 - centerY;
+            for (int col = 0; col < size; col++) {
+                double dx = col + 0.5 - centerX;
+                double a = stroke.tip.coverage(Math.sqrt(dx * dx + dy * dy), radius) * alpha;
+                if (a <= 0) continue;
+
+                int a8 = (int) Math.round(a * 255);
+                int r = (int) Math.round(color.getRed() * a8);
+                int g = (int) Math.round(color.getGreen() * a8);
+                int b = (int) Math.round(color.getBlue() * a8);
+                dab[row * size + col] = (a8 << 24) | (r << 16) | (g << 8) | b;
+            }
+        }
+        return dab;
+    }
+
+    /**
+     * Paper texture for the pencil: soft value noise between about 45% and 100%
+     */
+    private static byte[] createGrain() {
+        Random random = new Random(0x5EED);
+        double[] noise = new double[GRAIN_SIZE * GRAIN_SIZE];
+        for (int i = 0; i < noise.length; i++) {
+            noise[i] = random.nextDouble();
+        }
+
+        // 3x3 box blur (wrapping) so the grain reads as paper tooth rather than static
+        byte[] grain = new byte[noise.length];
+        int mask = GRAIN_SIZE - 1;
+        for (int y = 0; y < GRAIN_SIZE; y++) {
+            for (int x = 0; x < GRAIN_SIZE; x++) {
+                double sum = 0;
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        sum += noise[((y + dy) & mask) * GRAIN_SIZE + ((x + dx) & mask)];
+                    }
+                }
+                double value = 0.45 + 0.55 * Math.min(1, sum / 9 * 1.6);
+                grain[y * GRAIN_SIZE + x] = (byte) Math.round(value * 255);
+            }
+        }
+        return grain;
+    }
+
+    private static int toArgb(Color color) {
+        return ((int) Math.round(color.getOpacity() * 255) << 24)
+                | ((int) Math.round(color.getRed() * 255) << 16)
+                | ((int) Math.round(color.getGreen() * 255) << 8)
+                | (int) Math.round(color.getBlue() * 255);
+    }
+}
@@ -2,31 +2,64 @@ package com.example.scenory.view.components;
 
 import com.example.scenory.enums.DrawingTool;
 import com.example.scenory.commands.*;
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
+import com.example.scenory.utils.StrokeLatencyMonitor;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
+import javafx.scene.image.Image;
 import javafx.scene.image.WritableImage;
 
 /**
  * Enhanced Drawing Canvas with Command System Integration
  * Supports undo/redo, zoom, and all drawing tools
+ *
+ * Pixels live in the TiledRasters of a LayerStack; tools draw into the active layer
+ * and the canvas only displays the composite tiles that changed.
+ * Freehand segments are rasterized off the FX thread by a StrokeRasterizer;
+ * BRUSH and PENCIL stamp BrushEngine dabs, PEN draws plain lines.
+ *
+ * The canvas node is a viewport onto the document: zoom and pan change the view
+ * transform (view = document * zoom + offset), not the node, and only the visible
+ * part is drawn at the current scale - whole tiles from the composite at 50% and
+ * above (nearest-neighbour when magnified), or a cached MipLevels image below that.
+ * Mouse positions are mapped back to document coordinates before reaching the tools.
  */
 public class DrawingCanvas extends Canvas {
 
+    private static final Logger LOG = Log.getLogger(DrawingCanvas.class);
+
+    private static final Timer SNAPSHOT_TIMER = Metrics.timer("canvas.snapshot");
+    private static final Timer CAPTURE_TIMER = Metrics.timer("raster.capture");
+    private static final Timer PRESENT_TIMER = Metrics.timer("raster.present");
+
     // =====================================
     // CORE DRAWING FIELDS
     // =====================================
     private GraphicsContext gc;
+    private final LayerStack layers;
+    private final StrokeRasterizer rasterizer;
     private DrawingTool currentTool = DrawingTool.PEN;
     private Color currentColor = Color.BLACK;
     private Color backgroundColor = Color.WHITE;
     private double strokeWidth = 2.0;
 
+    // Fill tool settings
+    private int fillTolerance = 32;   // per-channel colour difference still filled
+    private int fillGapSize = 0;      // close boundary gaps up to ~2x this (0 = off)
+
     // Drawing state
     private boolean isDrawing = false;
     private double lastX, lastY;
+    private BrushEngine.BrushStroke brushStroke;   // dab state of the current BRUSH/PENCIL stroke
 
     // =====================================
     // ZOOM FUNCTIONALITY FIELDS
@@ -36,6 +69,17 @@ public class DrawingCanvas extends Canvas {
     private double maxZoom = 5.0;
     private double zoomStep = 1.2;
 
+    // View transform: view = document * zoomLevel + offset (offsets in whole view pixels)
+    private double offsetX = 0;
+    private double offsetY = 0;
+    private MipLevels mipLevels;            // created the first time the view zooms below 50%
+    private boolean viewInvalid = true;     // the whole viewport must be redrawn
+    private boolean renderScheduled = false;
+
+    // Middle-button panning
+    private boolean isPanning = false;
+    private double panLastX, panLastY;
+
     // Zoom change listener interface
     public interface ZoomChangeListener {
         void onZoomChanged(double newZoomLevel);
@@ -53,21 +97,35 @@ public class DrawingCanvas extends Canvas {
     // Shape drawing state (for rectangle, circle, line tools)
     private double shapeStartX, shapeStartY;
     private boolean isDrawingShape = false;
+    private final ShapePreviewOverlay shapePreview = new ShapePreviewOverlay(this);
 
     // Canvas initialization state
     private boolean isInitialized = false;
 
+    // Input-to-pixel latency instrumentation
+    private final StrokeLatencyMonitor latencyMonitor = StrokeLatencyMonitor.getInstance();
+
     // =====================================
     // CONSTRUCTOR
     // =====================================
     public DrawingCanvas(double width, double height) {
         super(width, height);
+        this.layers = new LayerStack((int) Math.ceil(width), (int) Math.ceil(height), backgroundColor);
+        this.rasterizer = new StrokeRasterizer(layers.getActiveLayer().getRaster(), this::presentSegments);
+        layers.setChangeListener(this::onLayersChanged);
+
+        // The node is the viewport; keep the document placed and redraw when it resizes
+        widthProperty().addListener((obs, oldVal, newVal) -> updateView());
+        heightProperty().addListener((obs, oldVal, newVal) -> updateView());
+        updateView();
 
         // Initialize the canvas when it's ready
         this.sceneProperty().addListener((obs, oldScene, newScene) -> {
             if (newScene != null && !isInitialized) {
                 initializeCanvasWhenReady();
             }
+            latencyMonitor.detach(oldScene);
+            latencyMonitor.attach(newScene);
         });
 
         // Fallback initialization - try immediately
@@ -76,7 +134,7 @@ public class DrawingCanvas extends Canvas {
         setupEventHandlers();
         setupZoomControls();
 
-        System.out.println("🖼️ Canvas initialized: " + width + "x" + height);
+        LOG.debug(() -> "🖼️ Canvas initialized: " + width + "x" + height);
     }
 
     // =====================================
@@ -90,29 +148,22 @@ public class DrawingCanvas extends Canvas {
             if (this.gc != null) {
                 initializeCanvas();
                 isInitialized = true;
-                System.out.println("✅ Canvas graphics context initialized successfully");
+                LOG.debug("✅ Canvas graphics context initialized successfully");
             }
         } catch (Exception e) {
-            System.out.println("⚠️ Canvas not ready yet, will initialize later: " + e.getMessage());
+            LOG.warn("⚠️ Canvas not ready yet, will initialize later: " + e.getMessage());
             // Will retry when scene property changes
         }
     }
 
     private void initializeCanvas() {
         if (gc == null) {
-            System.out.println("⚠️ Graphics context not available, skipping initialization");
+            LOG.warn("⚠️ Graphics context not available, skipping initialization");
             return;
         }
 
-        // Set initial background
-        gc.setFill(backgroundColor);
-        gc.fillRect(0, 0, getWidth(), getHeight());
-
-        // Set default drawing properties
-        gc.setStroke(currentColor);
-        gc.setLineWidth(strokeWidth);
-        gc.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-        gc.setLineJoin(javafx.scene.shape.StrokeLineJoin.ROUND);
+        // Show whatever the raster holds (background on a new canvas)
+        present();
     }
 
     private void setupEventHandlers() {
@@ -122,22 +173,24 @@ public class DrawingCanvas extends Canvas {
     }
 
     public void setupZoomControls() {
-        // Mouse wheel zoom with Ctrl key
+        // Mouse wheel zoom with Ctrl key, anchored at the cursor; plain scrolling pans
         setOnScroll(event -> {
             if (event.isControlDown()) {
                 double deltaY = event.getDeltaY();
 
-                // Get mouse position relative to canvas
+                // Get mouse position in the view
                 double mouseX = event.getX();
                 double mouseY = event.getY();
 
                 if (deltaY > 0) {
                     zoomIn(mouseX, mouseY);
-                } else {
+                } else if (deltaY < 0) {
                     zoomOut(mouseX, mouseY);
                 }
-                event.consume();
+            } else {
+                panBy(event.getDeltaX(), event.getDeltaY());
             }
+            event.consume();
         });
 
         // Optional: Add zoom on double-click
@@ -149,7 +202,7 @@ public class DrawingCanvas extends Canvas {
             }
         });
 
-        System.out.println("🔍 Canvas zoom controls initialized (Ctrl+Scroll, Ctrl+Double-click to reset)");
+        LOG.debug("🔍 Canvas zoom controls initialized (Ctrl+Scroll, Ctrl+Double-click to reset, Scroll/middle-drag to pan)");
     }
 
     // =====================================
@@ -166,13 +219,24 @@ public class DrawingCanvas extends Canvas {
     // MOUSE EVENT HANDLERS WITH COMMANDS
     // =====================================
     private void handleMousePressed(MouseEvent event) {
+        if (event.getButton() == MouseButton.MIDDLE) {
+            isPanning = true;
+            panLastX = event.getX();
+            panLastY = event.getY();
+            return;
+        }
+
+        long received = latencyMonitor.inputReceived();
+        long submittedBefore = rasterizer.getSubmittedCount();
         GraphicsContext currentGC = getGC();
-        if (currentGC == null || !isValidCoordinate(event.getX(), event.getY())) {
+        double x = toDocumentX(event.getX());
+        double y = toDocumentY(event.getY());
+        if (currentGC == null || !isValidCoordinate(x, y)) {
             return;
         }
 
-        lastX = event.getX();
-        lastY = event.getY();
+        lastX = x;
+        lastY = y;
         isDrawing = true;
 
         switch (currentTool) {
@@ -180,30 +244,16 @@ public class DrawingCanvas extends Canvas {
             case BRUSH:
             case PENCIL:
                 startStrokeCommand();
-                // Set up drawing mode
-                currentGC.setGlobalBlendMode(javafx.scene.effect.BlendMode.SRC_OVER);
-                currentGC.setStroke(currentColor);
-                currentGC.setLineWidth(strokeWidth);
-                currentGC.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-                currentGC.beginPath();
-                currentGC.moveTo(lastX, lastY);
+                BrushEngine.Tip tip = BrushEngine.tipFor(currentTool);
+                brushStroke = tip != null ? new BrushEngine.BrushStroke(tip, strokeWidth, currentColor) : null;
                 // Draw a small dot for single clicks
-                currentGC.lineTo(lastX + 0.1, lastY + 0.1);
-                currentGC.stroke();
+                paintSegment(lastX, lastY, lastX + 0.1, lastY + 0.1, currentColor);
                 break;
 
             case ERASER:
                 startStrokeCommand();
-                // Set up eraser mode
-                currentGC.setGlobalBlendMode(javafx.scene.effect.BlendMode.SRC_OVER);
-                currentGC.setStroke(backgroundColor);
-                currentGC.setLineWidth(strokeWidth);
-                currentGC.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-                currentGC.beginPath();
-                currentGC.moveTo(lastX, lastY);
-                // Draw a small dot for single clicks
-                currentGC.lineTo(lastX + 0.1, lastY + 0.1);
-                currentGC.stroke();
+                // Erase to transparent; the background layer shows through
+                eraseSegment(lastX, lastY, lastX + 0.1, lastY + 0.1);
                 break;
 
             case RECTANGLE:
@@ -216,23 +266,39 @@ public class DrawingCanvas extends Canvas {
                 break;
 
             case FILL:
-                // Flood fill tool (future implementation)
+                // Flood fill the active layer (runs once, then undo/redo swap tiles)
+                isDrawing = false;
+                FillCommand fill = new FillCommand(this, lastX, lastY, currentColor, fillTolerance, fillGapSize);
+                // A fill that changes no pixels leaves nothing to undo
+                if (fill.apply()) {
+                    executeCommand(fill);
+                }
                 break;
 
             case TEXT:
                 // Text tool (future implementation)
                 break;
         }
+
+        latencyMonitor.inputHandled(currentTool, received, segmentTicket(submittedBefore));
     }
 
     private void handleMouseDragged(MouseEvent event) {
-        GraphicsContext currentGC = getGC();
-        if (!isDrawing || currentGC == null || !isValidCoordinate(event.getX(), event.getY())) {
+        if (isPanning) {
+            panBy(event.getX() - panLastX, event.getY() - panLastY);
+            panLastX = event.getX();
+            panLastY = event.getY();
             return;
         }
 
-        double currentX = event.getX();
-        double currentY = event.getY();
+        long received = latencyMonitor.inputReceived();
+        long submittedBefore = rasterizer.getSubmittedCount();
+        GraphicsContext currentGC = getGC();
+        double currentX = toDocumentX(event.getX());
+        double currentY = toDocumentY(event.getY());
+        if (!isDrawing || currentGC == null || !isValidCoordinate(currentX, currentY)) {
+            return;
+        }
 
         switch (currentTool) {
             case PEN:
@@ -243,11 +309,7 @@ public class DrawingCanvas extends Canvas {
                     currentStrokeCommand.addPoint(currentX, currentY);
                 }
 
-                currentGC.setGlobalBlendMode(javafx.scene.effect.BlendMode.SRC_OVER);
-                currentGC.setStroke(currentColor);
-                currentGC.setLineWidth(strokeWidth);
-                currentGC.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-                currentGC.strokeLine(lastX, lastY, currentX, currentY);
+                paintSegment(lastX, lastY, currentX, currentY, currentColor);
                 break;
 
             case ERASER:
@@ -256,32 +318,42 @@ public class DrawingCanvas extends Canvas {
                     currentStrokeCommand.addPoint(currentX, currentY);
                 }
 
-                // Erase by drawing with background color
-                currentGC.setGlobalBlendMode(javafx.scene.effect.BlendMode.SRC_OVER);
-                currentGC.setStroke(backgroundColor);
-                currentGC.setLineWidth(strokeWidth);
-                currentGC.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-                currentGC.strokeLine(lastX, lastY, currentX, currentY);
+                // Erase to transparent; the background layer shows through
+                eraseSegment(lastX, lastY, currentX, currentY);
                 break;
 
             case RECTANGLE:
             case CIRCLE:
             case LINE:
-                // Shape tools - preview would go here (not implemented yet)
-                // For now, just store the current position
+                // Rubber-band preview on the overlay; the raster is untouched until release
+                if (isDrawingShape) {
+                    shapePreview.show(toShapeType(currentTool), shapeStartX, shapeStartY,
+                            currentX, currentY, currentColor, strokeWidth);
+                }
                 break;
         }
 
         lastX = currentX;
         lastY = currentY;
+
+        latencyMonitor.inputHandled(currentTool, received, segmentTicket(submittedBefore));
     }
 
     private void handleMouseReleased(MouseEvent event) {
+        if (isPanning && event.getButton() == MouseButton.MIDDLE) {
+            isPanning = false;
+            return;
+        }
+
         GraphicsContext currentGC = getGC();
         if (!isDrawing || currentGC == null) return;
 
+        double endX = toDocumentX(event.getX());
+        double endY = toDocumentY(event.getY());
+
         isDrawing = false;
         isDrawingShape = false;
+        shapePreview.hide();
 
         switch (currentTool) {
             case PEN:
@@ -289,38 +361,51 @@ public class DrawingCanvas extends Canvas {
             case PENCIL:
             case ERASER:
                 finishStrokeCommand();
+                brushStroke = null;
                 break;
 
             case RECTANGLE:
-                if (isValidCoordinate(event.getX(), event.getY())) {
+                if (isValidCoordinate(endX, endY)) {
                     executeShapeCommand(ShapeCommand.ShapeType.RECTANGLE,
-                            shapeStartX, shapeStartY, event.getX(), event.getY(), false);
+                            shapeStartX, shapeStartY, endX, endY, false);
                 }
                 break;
 
             case CIRCLE:
-                if (isValidCoordinate(event.getX(), event.getY())) {
+                if (isValidCoordinate(endX, endY)) {
                     executeShapeCommand(ShapeCommand.ShapeType.CIRCLE,
-                            shapeStartX, shapeStartY, event.getX(), event.getY(), false);
+                            shapeStartX, shapeStartY, endX, endY, false);
                 }
                 break;
 
             case LINE:
-                if (isValidCoordinate(event.getX(), event.getY())) {
+                if (isValidCoordinate(endX, endY)) {
                     executeShapeCommand(ShapeCommand.ShapeType.LINE,
-                            shapeStartX, shapeStartY, event.getX(), event.getY(), false);
+                            shapeStartX, shapeStartY, endX, endY, false);
                 }
                 break;
         }
+    }
 
-        // Reset graphics context to normal state
-        if (currentGC != null) {
-            currentGC.setGlobalBlendMode(javafx.scene.effect.BlendMode.SRC_OVER);
-            currentGC.setStroke(currentColor);
-            currentGC.setLineWidth(strokeWidth);
+    /**
+     * Hand one stroke segment to the render thread (it presents when done):
+     * dabs for the brush tools, a round-capped line for the pen
+     */
+    private void paintSegment(double x0, double y0, double x1, double y1, Color color) {
+        if (brushStroke != null) {
+            rasterizer.submitBrush(brushStroke, x0, y0, x1, y1);
+        } else {
+            rasterizer.submit(x0, y0, x1, y1, strokeWidth, color);
         }
     }
 
+    /**
+     * Hand one eraser segment to the render thread (clears the active layer's alpha)
+     */
+    private void eraseSegment(double x0, double y0, double x1, double y1) {
+        rasterizer.submitErase(x0, y0, x1, y1, strokeWidth);
+    }
+
     // =====================================
     // COMMAND SYSTEM METHODS
     // =====================================
@@ -330,7 +415,10 @@ public class DrawingCanvas extends Canvas {
      */
     public void setCommandManager(CommandManager commandManager) {
         this.commandManager = commandManager;
-        System.out.println("🔗 Command manager connected to DrawingCanvas");
+        if (commandManager != null) {
+            commandManager.makeActive();
+        }
+        LOG.debug("🔗 Command manager connected to DrawingCanvas");
     }
 
     /**
@@ -370,6 +458,17 @@ public class DrawingCanvas extends Canvas {
         }
     }
 
+    private static ShapeCommand.ShapeType toShapeType(DrawingTool tool) {
+        switch (tool) {
+            case CIRCLE:
+                return ShapeCommand.ShapeType.CIRCLE;
+            case LINE:
+                return ShapeCommand.ShapeType.LINE;
+            default:
+                return ShapeCommand.ShapeType.RECTANGLE;
+        }
+    }
+
     /**
      * Execute a shape command
      */
@@ -447,32 +546,204 @@ public class DrawingCanvas extends Canvas {
     // =====================================
 
     /**
-     * Clear canvas without undo (internal method)
+     * Clear the active layer without undo (internal method)
      */
     public void clearCanvas() {
-        GraphicsContext currentGC = getGC();
-        if (currentGC == null) return;
-
-        currentGC.clearRect(0, 0, getWidth(), getHeight());
-        currentGC.setFill(backgroundColor);
-        currentGC.fillRect(0, 0, getWidth(), getHeight());
-        System.out.println("🧹 Canvas cleared (no undo)");
+        getRaster().fill(Color.TRANSPARENT);
+        present();
+        LOG.debug("🧹 Canvas cleared (no undo)");
     }
 
     /**
-     * Set canvas background color
+     * Set canvas background color (only the solid background layer changes; strokes are kept)
      */
     public void setCanvasBackgroundColor(Color color) {
         this.backgroundColor = color;
-        // Redraw background
+        layers.setBackgroundColor(backgroundColor);
+        present();
+    }
+
+    // =====================================
+    // RASTER ACCESS
+    // =====================================
+
+    /**
+     * Raster of the active layer, which the tools draw into.
+     * Waits for queued stroke segments first, so callers see everything drawn so far.
+     */
+    public TiledRaster getRaster() {
+        rasterizer.drain();
+        return layers.getActiveLayer().getRaster();
+    }
+
+    /**
+     * Flattened visible layers (source of truth for saves, thumbnails and exports)
+     */
+    public TiledRaster getCompositeRaster() {
+        rasterizer.drain();
+        layers.update();
+        return layers.getComposite();
+    }
+
+    /**
+     * Layers of this canvas; changes to them are shown on the next present()
+     */
+    public LayerStack getLayers() {
+        rasterizer.drain();
+        return layers;
+    }
+
+    /**
+     * Node showing shape previews; add it to the canvas's parent right after the canvas
+     */
+    public ShapePreviewOverlay getShapePreviewOverlay() {
+        return shapePreview;
+    }
+
+    /**
+     * Make a layer the drawing target
+     */
+    public void setActiveLayer(int index) {
+        getLayers().setActiveIndex(index);
+    }
+
+    private void onLayersChanged() {
+        // Segments already queued were drained when the stack was handed out
+        rasterizer.setRaster(layers.getActiveLayer().getRaster());
+        present();
+    }
+
+    /**
+     * Composite the changed layer tiles and show them (FX thread).
+     * Only the tiles under the change are redrawn, unless the view moved or is
+     * showing a mip level, in which case the visible area is drawn again.
+     */
+    public void present() {
         GraphicsContext currentGC = getGC();
-        if (currentGC != null) {
-            currentGC.save();
-            currentGC.setGlobalBlendMode(javafx.scene.effect.BlendMode.SRC_OVER);
-            currentGC.setFill(backgroundColor);
-            currentGC.fillRect(0, 0, getWidth(), getHeight());
-            currentGC.restore();
+        if (currentGC == null) return;
+
+        long start = PRESENT_TIMER.start();
+        layers.update();
+        TiledRaster composite = layers.getComposite();
+        int[] dirty = composite.upload();
+        if (dirty != null && mipLevels != null) {
+            mipLevels.invalidate(dirty[0], dirty[1], dirty[2], dirty[3]);
+        }
+
+        int level = mipLevelFor(zoomLevel, composite);
+        currentGC.setImageSmoothing(zoomLevel < 1.0);
+        if (viewInvalid || (dirty != null && level > 0)) {
+            renderView(currentGC, composite, level);
+        } else if (dirty != null) {
+            int[] region = intersect(dirty, visibleBounds());
+            if (region != null) {
+                composite.draw(currentGC, region[0], region[1], region[2], region[3], zoomLevel, offsetX, offsetY);
+            }
+        }
+        PRESENT_TIMER.stop(start);
+    }
+
+    /**
+     * Present after the render thread rasterized a batch, then retire the input events it drew
+     */
+    private void presentSegments(long rasterizedSegments) {
+        present();
+        latencyMonitor.segmentsPresented(rasterizedSegments);
+    }
+
+    /**
+     * Segment count an input event's pixels wait for, or 0 when it queued none
+     */
+    private long segmentTicket(long submittedBefore) {
+        long submitted = rasterizer.getSubmittedCount();
+        return submitted != submittedBefore ? submitted : 0;
+    }
+
+    /**
+     * Clear the viewport and draw the visible part of the document
+     */
+    private void renderView(GraphicsContext gc, TiledRaster composite, int level) {
+        viewInvalid = false;
+        gc.clearRect(0, 0, getWidth(), getHeight());
+
+        if (level > 0) {
+            Image image = mipLevels.image(level, composite);
+            double size = (1 << level) * zoomLevel;   // view pixels per level pixel
+            gc.drawImage(image, offsetX, offsetY,
+                    mipLevels.levelWidth(level) * size, mipLevels.levelHeight(level) * size);
+        } else {
+            int[] visible = visibleBounds();
+            if (visible != null) {
+                composite.draw(gc, visible[0], visible[1], visible[2], visible[3], zoomLevel, offsetX, offsetY);
+            }
+        }
+    }
+
+    /**
+     * Redraw the whole viewport on the next pulse; repeated requests collapse into one
+     */
+    private void requestRender() {
+        viewInvalid = true;
+        if (renderScheduled) return;
+        renderScheduled = true;
+        Platform.runLater(() -> {
+            renderScheduled = false;
+            present();
+        });
+    }
+
+    /**
+     * Mip level to show at a zoom (0 = full-size tiles), creating the levels on first use
+     */
+    private int mipLevelFor(double zoom, TiledRaster composite) {
+        if (zoom > 0.5) return 0;
+        if (mipLevels == null) {
+            mipLevels = new MipLevels(composite.getWidth(), composite.getHeight());
+        }
+        return mipLevels.levelFor(zoom);
+    }
+
+    /**
+     * Document region inside the viewport as [x0, y0, x1, y1], or null if none is
+     */
+    private int[] visibleBounds() {
+        int x0 = Math.max(0, (int) Math.floor(toDocumentX(0)));
+        int y0 = Math.max(0, (int) Math.floor(toDocumentY(0)));
+        int x1 = Math.min(layers.getWidth(), (int) Math.ceil(toDocumentX(getWidth())));
+        int y1 = Math.min(layers.getHeight(), (int) Math.ceil(toDocumentY(getHeight())));
+        return x1 > x0 && y1 > y0 ? new int[]{x0, y0, x1, y1} : null;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        if (a == null || b == null) return null;
+        int x0 = Math.max(a[0], b[0]), y0 = Math.max(a[1], b[1]);
+        int x1 = Math.min(a[2], b[2]), y1 = Math.min(a[3], b[3]);
+        return x1 > x0 && y1 > y0 ? new int[]{x0, y0, x1, y1} : null;
+    }
+
+    /**
+     * Copy the raster tiles under a region (null = whole canvas), timed under the given source
+     */
+    public TiledRaster.Snapshot captureState(String source, Rectangle2D region) {
+        long start = System.nanoTime();
+        TiledRaster.Snapshot state = getRaster().capture(region);
+        long elapsed = System.nanoTime() - start;
+        latencyMonitor.recordSnapshot(source, elapsed);
+        CAPTURE_TIMER.record(elapsed);
+        return state;
+    }
+
+    /**
+     * Put saved raster tiles back into the layer they came from and show them
+     */
+    public void restoreState(TiledRaster.Snapshot state) {
+        if (state == null) return;
+        TiledRaster target = getRaster();
+        if (layers.indexOf(state.getOwner()) >= 0) {
+            target = state.getOwner();
         }
+        target.restore(state);
+        present();
     }
 
     // =====================================
@@ -487,8 +758,8 @@ public class DrawingCanvas extends Canvas {
         zoomLevel = Math.min(zoomLevel * zoomStep, maxZoom);
 
         if (zoomLevel != oldZoom) {
-            applyZoom(centerX, centerY);
-            System.out.println("🔍 Zoomed in to " + Math.round(zoomLevel * 100) + "%");
+            applyZoom(oldZoom, centerX, centerY);
+            LOG.debug(() -> "🔍 Zoomed in to " + Math.round(zoomLevel * 100) + "%");
         }
     }
 
@@ -500,20 +771,20 @@ public class DrawingCanvas extends Canvas {
         zoomLevel = Math.max(zoomLevel / zoomStep, minZoom);
 
         if (zoomLevel != oldZoom) {
-            applyZoom(centerX, centerY);
-            System.out.println("🔍 Zoomed out to " + Math.round(zoomLevel * 100) + "%");
+            applyZoom(oldZoom, centerX, centerY);
+            LOG.debug(() -> "🔍 Zoomed out to " + Math.round(zoomLevel * 100) + "%");
         }
     }
 
     /**
-     * Zoom in from center of canvas
+     * Zoom in from center of the view
      */
     public void zoomIn() {
         zoomIn(getWidth() / 2, getHeight() / 2);
     }
 
     /**
-     * Zoom out from center of canvas
+     * Zoom out from center of the view
      */
     public void zoomOut() {
         zoomOut(getWidth() / 2, getHeight() / 2);
@@ -524,9 +795,10 @@ public class DrawingCanvas extends Canvas {
      */
     public void resetZoom() {
         if (zoomLevel != 1.0) {
+            double oldZoom = zoomLevel;
             zoomLevel = 1.0;
-            applyZoom(getWidth() / 2, getHeight() / 2);
-            System.out.println("🔍 Zoom reset to 100%");
+            applyZoom(oldZoom, getWidth() / 2, getHeight() / 2);
+            LOG.debug("🔍 Zoom reset to 100%");
         }
     }
 
@@ -538,32 +810,71 @@ public class DrawingCanvas extends Canvas {
         zoomLevel = Math.max(minZoom, Math.min(zoom, maxZoom));
 
         if (zoomLevel != oldZoom) {
-            applyZoom(getWidth() / 2, getHeight() / 2);
-            System.out.println("🔍 Zoom set to " + Math.round(zoomLevel * 100) + "%");
+            applyZoom(oldZoom, getWidth() / 2, getHeight() / 2);
+            LOG.debug(() -> "🔍 Zoom set to " + Math.round(zoomLevel * 100) + "%");
         }
     }
 
     /**
-     * Fit canvas to available space (if in scroll pane)
+     * Zoom so the whole document fits the view
      */
     public void fitToWindow() {
-        // This would need parent container information
-        // For now, reset to 100%
-        resetZoom();
+        if (getWidth() <= 0 || getHeight() <= 0) {
+            resetZoom();
+            return;
+        }
+
+        double oldZoom = zoomLevel;
+        double fit = Math.min(getWidth() / layers.getWidth(), getHeight() / layers.getHeight());
+        zoomLevel = Math.max(minZoom, Math.min(fit, maxZoom));
+        applyZoom(oldZoom, getWidth() / 2, getHeight() / 2);
+        LOG.debug(() -> "🔍 Zoom fit to " + Math.round(zoomLevel * 100) + "%");
     }
 
     /**
-     * Apply zoom transformation
+     * Apply a new zoom level, keeping the document point under (centerX, centerY) in place
      */
-    private void applyZoom(double centerX, double centerY) {
-        // Apply scaling transform
-        setScaleX(zoomLevel);
-        setScaleY(zoomLevel);
+    private void applyZoom(double oldZoom, double centerX, double centerY) {
+        double documentX = (centerX - offsetX) / oldZoom;
+        double documentY = (centerY - offsetY) / oldZoom;
+        offsetX = centerX - documentX * zoomLevel;
+        offsetY = centerY - documentY * zoomLevel;
+        updateView();
 
         // Fire zoom change event
         fireZoomChanged();
     }
 
+    /**
+     * Move the view by a distance in view pixels
+     */
+    public void panBy(double dx, double dy) {
+        if (dx == 0 && dy == 0) return;
+        offsetX += dx;
+        offsetY += dy;
+        updateView();
+    }
+
+    /**
+     * Settle the offsets for the current zoom and viewport size, then redraw
+     */
+    private void updateView() {
+        offsetX = clampOffset(offsetX, getWidth(), layers.getWidth() * zoomLevel);
+        offsetY = clampOffset(offsetY, getHeight(), layers.getHeight() * zoomLevel);
+        shapePreview.setViewTransform(zoomLevel, offsetX, offsetY);
+        requestRender();
+    }
+
+    /**
+     * Center the document on an axis where it fits the view, otherwise keep the view on it
+     */
+    private static double clampOffset(double offset, double view, double content) {
+        if (content <= view) {
+            return Math.round((view - content) / 2);
+        }
+        return Math.round(Math.max(view - content, Math.min(0, offset)));
+    }
+
     /**
      * Notify listeners of zoom change
      */
@@ -584,23 +895,23 @@ public class DrawingCanvas extends Canvas {
         }
 
         this.currentTool = tool;
-        System.out.println("🛠️ Tool changed to: " + tool.getDisplayName());
+        LOG.debug(() -> "🛠️ Tool changed to: " + tool.getDisplayName());
     }
 
     public void setCurrentColor(Color color) {
         this.currentColor = color;
-        GraphicsContext currentGC = getGC();
-        if (currentGC != null) {
-            currentGC.setStroke(color);
-        }
     }
 
     public void setStrokeWidth(double width) {
         this.strokeWidth = Math.max(0.5, Math.min(width, 50.0)); // Limit stroke width
-        GraphicsContext currentGC = getGC();
-        if (currentGC != null) {
-            currentGC.setLineWidth(this.strokeWidth);
-        }
+    }
+
+    public void setFillTolerance(int tolerance) {
+        this.fillTolerance = Math.max(0, Math.min(tolerance, 255));
+    }
+
+    public void setFillGapSize(int gapSize) {
+        this.fillGapSize = Math.max(0, Math.min(gapSize, 20));
     }
 
     // =====================================
@@ -623,6 +934,14 @@ public class DrawingCanvas extends Canvas {
         return strokeWidth;
     }
 
+    public int getFillTolerance() {
+        return fillTolerance;
+    }
+
+    public int getFillGapSize() {
+        return fillGapSize;
+    }
+
     public double getZoomLevel() {
         return zoomLevel;
     }
@@ -678,14 +997,36 @@ public class DrawingCanvas extends Canvas {
     }
 
     /**
-     * Get actual canvas size accounting for zoom
+     * Get actual document size on screen accounting for zoom
      */
     public double getActualWidth() {
-        return getWidth() * zoomLevel;
+        return layers.getWidth() * zoomLevel;
     }
 
     public double getActualHeight() {
-        return getHeight() * zoomLevel;
+        return layers.getHeight() * zoomLevel;
+    }
+
+    /**
+     * Document size in pixels (the node itself is only the viewport)
+     */
+    public double getDocumentWidth() {
+        return layers.getWidth();
+    }
+
+    public double getDocumentHeight() {
+        return layers.getHeight();
+    }
+
+    /**
+     * Document coordinates under a point of the view
+     */
+    public double toDocumentX(double viewX) {
+        return (viewX - offsetX) / zoomLevel;
+    }
+
+    public double toDocumentY(double viewY) {
+        return (viewY - offsetY) / zoomLevel;
     }
 
     // =====================================
@@ -728,7 +1069,7 @@ public class DrawingCanvas extends Canvas {
         if (commandManager != null) {
             commandManager.printStatus();
         } else {
-            System.out.println("❌ No command manager connected");
+            LOG.error("❌ No command manager connected");
         }
     }
 
@@ -737,17 +1078,29 @@ public class DrawingCanvas extends Canvas {
     // =====================================
 
     /**
-     * Check if coordinates are within canvas bounds
+     * Check if document coordinates are within the document
      */
     private boolean isValidCoordinate(double x, double y) {
-        return x >= 0 && x <= getWidth() && y >= 0 && y <= getHeight();
+        return x >= 0 && x <= layers.getWidth() && y >= 0 && y <= layers.getHeight();
     }
 
     /**
-     * Take a snapshot of the current canvas
+     * Take a snapshot of the displayed view (GPU readback; prefer the raster for pixel access)
      */
     public WritableImage snapshot() {
-        return snapshot(null, null);
+        return snapshot("canvas");
+    }
+
+    /**
+     * Take a snapshot of the current canvas, timed and counted under the given source
+     */
+    public WritableImage snapshot(String source) {
+        long start = System.nanoTime();
+        WritableImage image = snapshot(null, null);
+        long elapsed = System.nanoTime() - start;
+        latencyMonitor.recordSnapshot(source, elapsed);
+        SNAPSHOT_TIMER.record(elapsed);
+        return image;
     }
 
     /**
@@ -759,22 +1112,30 @@ public class DrawingCanvas extends Canvas {
             GraphicsContext context = super.getGraphicsContext2D();
             return context;
         } catch (Exception e) {
-            System.out.println("⚠️ Graphics context not available: " + e.getMessage());
+            LOG.warn("⚠️ Graphics context not available: " + e.getMessage());
             return null;
         }
     }
 
     /**
-     * Resize the canvas
+     * Resize the document (the viewport keeps its size)
      */
     public void resizeCanvas(double width, double height) {
-        setWidth(width);
-        setHeight(height);
+        // New layer rasters at the new size, starting blank
+        rasterizer.drain();
+        layers.resize((int) Math.ceil(width), (int) Math.ceil(height), backgroundColor);
+        mipLevels = null;
+        updateView();
 
-        // Clear and redraw background
-        clearCanvas();
+        LOG.debug(() -> "📐 Canvas resized to: " + width + "x" + height);
+    }
 
-        System.out.println("📐 Canvas resized to: " + width + "x" + height);
+    /**
+     * Stop the stroke render thread; call when the canvas is discarded (drawing on it afterwards is ignored)
+     */
+    public void dispose() {
+        rasterizer.drain();
+        rasterizer.shutdown();
     }
 
     // =====================================
@@ -785,16 +1146,24 @@ public class DrawingCanvas extends Canvas {
      * Print canvas status for debugging
      */
     public void printCanvasStatus() {
-        System.out.println("🖼️ Canvas Status:");
-        System.out.println("  Size: " + getWidth() + "x" + getHeight());
-        System.out.println("  Zoom: " + getZoomPercentage());
-        System.out.println("  Tool: " + currentTool.getDisplayName());
-        System.out.println("  Color: " + currentColor);
-        System.out.println("  Stroke Width: " + strokeWidth);
-        System.out.println("  Background: " + backgroundColor);
-        System.out.println("  Recording Commands: " + recordCommands);
-        System.out.println("  Is Drawing: " + isDrawing);
-        System.out.println("  Is Initialized: " + isInitialized);
-        System.out.println("  Graphics Context: " + (gc != null ? "Available" : "Not Available"));
+        LOG.info("🖼️ Canvas Status:");
+        LOG.info("  Size: " + layers.getWidth() + "x" + layers.getHeight());
+        LOG.info("  View: " + getWidth() + "x" + getHeight() + " at offset " + offsetX + "," + offsetY);
+        LOG.info("  Zoom: " + getZoomPercentage());
+        LOG.info("  Tool: " + currentTool.getDisplayName());
+        LOG.info("  Color: " + currentColor);
+        LOG.info("  Stroke Width: " + strokeWidth);
+        LOG.info("  Background: " + backgroundColor);
+        LOG.info("  Recording Commands: " + recordCommands);
+        LOG.info("  Is Drawing: " + isDrawing);
+        LOG.info("  Is Initialized: " + isInitialized);
+        LOG.info("  Graphics Context: " + (gc != null ? "Available" : "Not Available"));
+        for (LayerStack.Layer layer : layers.getLayers()) {
+            TiledRaster raster = layer.getRaster();
+            LOG.info("  Layer " + layer.getName() + (layer == layers.getActiveLayer() ? " (active)" : "")
+                    + ": " + (layer.isVisible() ? "visible" : "hidden") + ", " + layer.getBlendMode().getDisplayName()
+                    + " " + Math.round(layer.getOpacity() * 100) + "%, tiles "
+                    + raster.getAllocatedTileCount() + "/" + (raster.getColumns() * raster.getRows()));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,581 @@
+package com.example.scenory.view.components;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ordered drawing layers (bottom first), each with its own TiledRaster, visibility,
+ * opacity and blend mode, flattened into a composite raster for display and export.
+ * The bottom layer is a solid background fill that is never drawn on, so changing
+ * the background colour only changes one value and strokes above stay untouched.
+ *
+ * The composite of the layers below the active one is cached, and so is the
+ * flattened stack above it while every visible layer there blends normally.
+ * A change to the active layer only recomposites its dirty rectangle from three
+ * sources; a change to another layer rebuilds the caches in its dirty rectangle;
+ * hiding, reordering or re-blending a layer (or switching the active one)
+ * rebuilds everything in one pass over the tiles. Tiles that are plain colour
+ * in every layer are folded as single values and stay unallocated.
+ */
+public class LayerStack {
+
+    private static final Logger LOG = Log.getLogger(LayerStack.class);
+    private static final Timer COMPOSITE_TIMER = Metrics.timer("layers.composite");
+
+    /**
+     * Default layers of a new canvas, bottom first (from the project plan)
+     */
+    public static final String[] DEFAULT_LAYERS = {"Background", "Characters", "Effects", "Notes"};
+
+    public enum BlendMode {
+        NORMAL("Normal"),
+        MULTIPLY("Multiply"),
+        SCREEN("Screen");
+
+        private final String displayName;
+
+        BlendMode(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    // Layer change listener interface
+    public interface LayerChangeListener {
+        void onLayersChanged();
+    }
+
+    /**
+     * One layer of the stack
+     */
+    public static final class Layer {
+        private final LayerStack owner;
+        private final boolean backgroundLayer;
+        private String name;
+        private TiledRaster raster;
+        private boolean visible = true;
+        private double opacity = 1.0;
+        private BlendMode blendMode = BlendMode.NORMAL;
+
+        private Layer(LayerStack owner, String name, boolean backgroundLayer) {
+            this.owner = owner;
+            this.name = name;
+            this.backgroundLayer = backgroundLayer;
+        }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public TiledRaster getRaster() { return raster; }
+
+        /**
+         * True for the solid layer holding the canvas background colour (not drawable)
+         */
+        public boolean isBackgroundLayer() { return backgroundLayer; }
+
+        public boolean isVisible() { return visible; }
+        public double getOpacity() { return opacity; }
+        public BlendMode getBlendMode() { return blendMode; }
+
+        public void setVisible(boolean visible) {
+            if (this.visible == visible) return;
+            this.visible = visible;
+            owner.structureChanged();
+        }
+
+        public void setOpacity(double opacity) {
+            double clamped = Math.max(0.0, Math.min(1.0, opacity));
+            if (this.opacity == clamped) return;
+            this.opacity = clamped;
+            owner.structureChanged();
+        }
+
+        public void setBlendMode(BlendMode blendMode) {
+            if (blendMode == null || this.blendMode == blendMode) return;
+            this.blendMode = blendMode;
+            owner.structureChanged();
+        }
+
+        int opacityValue() {
+            return (int) Math.round(opacity * 255);
+        }
+    }
+
+    private final List<Layer> layers = new ArrayList<>();
+    private int activeIndex = 1;
+    private int width;
+    private int height;
+    private TiledRaster composite;
+    private LayerChangeListener changeListener;
+
+    // Cached composites per tile: pixels, or null with a single premultiplied value
+    private int[][] belowTiles;
+    private int[] belowValues;
+    private int[][] aboveTiles;
+    private int[] aboveValues;
+    private boolean aboveCached;
+    private boolean structureDirty = true;
+
+    public LayerStack(int width, int height, Color background) {
+        this.width = width;
+        this.height = height;
+        for (int i = 0; i < DEFAULT_LAYERS.length; i++) {
+            Layer layer = new Layer(this, DEFAULT_LAYERS[i], i == 0);
+            layer.raster = new TiledRaster(width, height, i == 0 ? background : Color.TRANSPARENT);
+            layers.add(layer);
+        }
+        allocateComposite(background);
+    }
+
+    private void allocateComposite(Color background) {
+        composite = new TiledRaster(width, height, background);
+        int tileCount = composite.getTileCount();
+        belowTiles = new int[tileCount][];
+        belowValues = new int[tileCount];
+        aboveTiles = new int[tileCount][];
+        aboveValues = new int[tileCount];
+        structureDirty = true;
+    }
+
+    // =====================================
+    // LAYER MANAGEMENT
+    // =====================================
+
+    /**
+     * Layers bottom first (read-only view)
+     */
+    public List<Layer> getLayers() {
+        return Collections.unmodifiableList(layers);
+    }
+
+    public int getLayerCount() {
+        return layers.size();
+    }
+
+    public Layer getLayer(int index) {
+        return layers.get(index);
+    }
+
+    public Layer getActiveLayer() {
+        return layers.get(activeIndex);
+    }
+
+    public int getActiveIndex() {
+        return activeIndex;
+    }
+
+    public void setActiveIndex(int index) {
+        if (index < 0 || index >= layers.size() || index == activeIndex) return;
+        if (layers.get(index).backgroundLayer) {
+            LOG.warn("⚠️ The background layer is a solid fill and cannot be drawn on");
+            return;
+        }
+        activeIndex = index;
+        structureChanged();
+    }
+
+    public Layer getBackgroundLayer() {
+        return layers.get(0);
+    }
+
+    /**
+     * Lowest layer that can be drawn on (where a flattened image is loaded)
+     */
+    public Layer getFirstDrawingLayer() {
+        return layers.get(1);
+    }
+
+    /**
+     * Change the background colour; only the solid layer's value changes
+     */
+    public void setBackgroundColor(Color color) {
+        getBackgroundLayer().raster.fill(color);
+    }
+
+    /**
+     * Index of the layer drawing into a raster, or -1
+     */
+    public int indexOf(TiledRaster raster) {
+        for (int i = 0; i < layers.size(); i++) {
+            if (layers.get(i).raster == raster) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Add an empty layer on top of the active one and make it active
+     */
+    public Layer addLayer(String name) {
+        Layer layer = new Layer(this, name, false);
+        layer.raster = new TiledRaster(width, height, Color.TRANSPARENT);
+        layers.add(activeIndex + 1, layer);
+        activeIndex++;
+        structureChanged();
+        return layer;
+    }
+
+    /**
+     * Remove a layer (the background and at least one drawing layer stay)
+     */
+    public boolean removeLayer(int index) {
+        if (index < 0 || index >= layers.size() || layers.get(index).backgroundLayer || layers.size() <= 2) {
+            LOG.warn("⚠️ Cannot remove layer " + index);
+            return false;
+        }
+        layers.remove(index);
+        if (activeIndex > index || activeIndex >= layers.size()) {
+            activeIndex--;
+        }
+        activeIndex = Math.max(1, activeIndex);
+        structureChanged();
+        return true;
+    }
+
+    /**
+     * Move a layer to another position; the active layer follows its move.
+     * The background layer stays at the bottom.
+     */
+    public void moveLayer(int from, int to) {
+        if (from < 1 || from >= layers.size() || to < 1 || to >= layers.size() || from == to) return;
+
+        Layer active = layers.get(activeIndex);
+        layers.add(to, layers.remove(from));
+        activeIndex = layers.indexOf(active);
+        structureChanged();
+    }
+
+    /**
+     * Clear every layer back to blank (the background layer to the given colour)
+     */
+    public void reset(Color background) {
+        for (Layer layer : layers) {
+            layer.raster.fill(layer.backgroundLayer ? background : Color.TRANSPARENT);
+        }
+    }
+
+    /**
+     * Replace every layer with a blank raster of a new size, keeping the layer settings
+     */
+    public void resize(int width, int height, Color background) {
+        this.width = width;
+        this.height = height;
+        for (Layer layer : layers) {
+            layer.raster = new TiledRaster(width, height, layer.backgroundLayer ? background : Color.TRANSPARENT);
+        }
+        allocateComposite(background);
+        notifyChanged();
+    }
+
+    private void structureChanged() {
+        structureDirty = true;
+        notifyChanged();
+    }
+
+    private void notifyChanged() {
+        if (changeListener != null) {
+            changeListener.onLayersChanged();
+        }
+    }
+
+    // =====================================
+    // COMPOSITING (FX THREAD)
+    // =====================================
+
+    /**
+     * Bring the composite up to date with every layer change since the last call
+     */
+    public void update() {
+        int[] activeDirty = null;
+        int[] otherDirty = null;
+        for (int i = 0; i < layers.size(); i++) {
+            int[] dirty = layers.get(i).raster.takeDirtyBounds();
+            if (i == activeIndex) {
+                activeDirty = dirty;
+            } else {
+                otherDirty = union(otherDirty, dirty);
+            }
+        }
+
+        if (!structureDirty && activeDirty == null && otherDirty == null) return;
+
+        long start = COMPOSITE_TIMER.start();
+        if (structureDirty) {
+            structureDirty = false;
+            aboveCached = true;
+            for (int i = activeIndex + 1; i < layers.size(); i++) {
+                Layer layer = layers.get(i);
+                if (layer.visible && layer.blendMode != BlendMode.NORMAL) aboveCached = false;
+            }
+            compose(new int[]{0, 0, composite.getWidth(), composite.getHeight()}, true);
+        } else {
+            if (otherDirty != null) compose(otherDirty, true);
+            if (activeDirty != null) compose(activeDirty, false);
+        }
+        COMPOSITE_TIMER.stop(start);
+    }
+
+    /**
+     * Flattened image of all visible layers (call update() first for the latest state)
+     */
+    public TiledRaster getComposite() {
+        return composite;
+    }
+
+    /**
+     * Visible drawing layers flattened onto transparency, without the background layer
+     * (what a panel saves; the background colour is stored on its own)
+     */
+    public TiledRaster flattenDrawingLayers() {
+        TiledRaster flat = new TiledRaster(width, height, Color.TRANSPARENT);
+        int size = TiledRaster.TILE_SIZE;
+        int columns = flat.getColumns();
+        for (int index = 0; index < flat.getTileCount(); index++) {
+            if (!hasPixels(index, 1, layers.size())) {
+                flat.setTileValue(index, foldValue(0, index, 1, layers.size()));
+                continue;
+            }
+
+            int tileWidth = Math.min(size, width - (index % columns) * size);
+            int tileHeight = Math.min(size, height - (index / columns) * size);
+            int[] local = {0, 0, tileWidth, tileHeight};
+            int[] dst = flat.writableTile(index);
+            for (int i = 1; i < layers.size(); i++) {
+                Layer layer = layers.get(i);
+                if (!layer.visible) continue;
+                blend(dst, tileWidth, local, layer.raster.tilePixels(index), layer.raster.backgroundValue(),
+                        layer.blendMode, layer.opacityValue());
+            }
+        }
+        return flat;
+    }
+
+    private void compose(int[] bounds, boolean rebuildCaches) {
+        int size = TiledRaster.TILE_SIZE;
+        int columns = composite.getColumns();
+        int x1 = Math.min(bounds[2], composite.getWidth());
+        int y1 = Math.min(bounds[3], composite.getHeight());
+        if (x1 <= bounds[0] || y1 <= bounds[1]) return;
+
+        for (int row = bounds[1] / size; row <= (y1 - 1) / size; row++) {
+            for (int col = bounds[0] / size; col <= (x1 - 1) / size; col++) {
+                int tileX = col * size;
+                int tileY = row * size;
+                int tileWidth = Math.min(size, composite.getWidth() - tileX);
+                int tileHeight = Math.min(size, composite.getHeight() - tileY);
+                int[] local = {
+                        Math.max(bounds[0], tileX) - tileX, Math.max(bounds[1], tileY) - tileY,
+                        Math.min(x1, tileX + tileWidth) - tileX, Math.min(y1, tileY + tileHeight) - tileY
+                };
+                boolean whole = local[0] == 0 && local[1] == 0 && local[2] == tileWidth && local[3] == tileHeight;
+                composeTile(row * columns + col, tileWidth, tileHeight, local, whole, rebuildCaches);
+            }
+        }
+    }
+
+    private void composeTile(int index, int tileWidth, int tileHeight, int[] local, boolean whole, boolean rebuildCaches) {
+        if (rebuildCaches) {
+            fold(belowTiles, belowValues, index, tileWidth, tileHeight, local, whole, 0, activeIndex);
+            if (aboveCached) {
+                fold(aboveTiles, aboveValues, index, tileWidth, tileHeight, local, whole, activeIndex + 1, layers.size());
+            }
+        }
+
+        Layer active = layers.get(activeIndex);
+        int[] activePixels = active.visible ? active.raster.tilePixels(index) : null;
+        boolean abovePixels = aboveCached ? aboveTiles[index] != null
+                : hasPixels(index, activeIndex + 1, layers.size());
+
+        // Plain colour everywhere: one value for the whole tile
+        if (whole && belowTiles[index] == null && activePixels == null && !abovePixels) {
+            int value = belowValues[index];
+            if (active.visible) {
+                value = blendPixel(active.raster.backgroundValue(), value, active.blendMode, active.opacityValue());
+            }
+            value = aboveCached ? blendPixel(aboveValues[index], value, BlendMode.NORMAL, 255)
+                    : foldValue(value, index, activeIndex + 1, layers.size());
+            composite.setTileValue(index, value);
+            return;
+        }
+
+        int[] dst = composite.writableTile(index);
+        copy(dst, tileWidth, local, belowTiles[index], belowValues[index]);
+        if (active.visible) {
+            blend(dst, tileWidth, local, activePixels, active.raster.backgroundValue(),
+                    active.blendMode, active.opacityValue());
+        }
+        if (aboveCached) {
+            blend(dst, tileWidth, local, aboveTiles[index], aboveValues[index], BlendMode.NORMAL, 255);
+        } else {
+            for (int i = activeIndex + 1; i < layers.size(); i++) {
+                Layer layer = layers.get(i);
+                if (!layer.visible) continue;
+                blend(dst, tileWidth, local, layer.raster.tilePixels(index), layer.raster.backgroundValue(),
+                        layer.blendMode, layer.opacityValue());
+            }
+        }
+        composite.markTileDirty(index, local[0], local[1], local[2], local[3]);
+    }
+
+    /**
+     * Rebuild one cached tile from the visible layers in [from, to), starting transparent
+     */
+    private void fold(int[][] cacheTiles, int[] cacheValues, int index, int tileWidth, int tileHeight,
+                      int[] local, boolean whole, int from, int to) {
+        if (!hasPixels(index, from, to) && (whole || cacheTiles[index] == null)) {
+            cacheTiles[index] = null;
+            cacheValues[index] = foldValue(0, index, from, to);
+            return;
+        }
+
+        if (cacheTiles[index] == null) {
+            // Outside the region the tile still equals its old single value
+            cacheTiles[index] = new int[tileWidth * tileHeight];
+            Arrays.fill(cacheTiles[index], cacheValues[index]);
+        }
+        int[] dst = cacheTiles[index];
+        copy(dst, tileWidth, local, null, 0);
+        for (int i = from; i < to; i++) {
+            Layer layer = layers.get(i);
+            if (!layer.visible) continue;
+            blend(dst, tileWidth, local, layer.raster.tilePixels(index), layer.raster.backgroundValue(),
+                    layer.blendMode, layer.opacityValue());
+        }
+    }
+
+    private boolean hasPixels(int index, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Layer layer = layers.get(i);
+            if (layer.visible && layer.raster.tilePixels(index) != null) return true;
+        }
+        return false;
+    }
+
+    private int foldValue(int value, int index, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Layer layer = layers.get(i);
+            if (layer.visible) {
+                value = blendPixel(layer.raster.backgroundValue(), value, layer.blendMode, layer.opacityValue());
+            }
+        }
+        return value;
+    }
+
+    // =====================================
+    // PIXEL BLENDING (premultiplied ARGB)
+    // =====================================
+
+    private static void copy(int[] dst, int stride, int[] local, int[] src, int srcValue) {
+        for (int y = local[1]; y < local[3]; y++) {
+            int offset = y * stride;
+            if (src == null) {
+                Arrays.fill(dst, offset + local[0], offset + local[2], srcValue);
+            } else {
+                System.arraycopy(src, offset + local[0], dst, offset + local[0], local[2] - local[0]);
+            }
+        }
+    }
+
+    private static void blend(int[] dst, int stride, int[] local, int[] src, int srcValue,
+                              BlendMode mode, int opacity) {
+        if (opacity == 0 || (src == null && srcValue == 0)) return;
+        boolean plain = mode == BlendMode.NORMAL && opacity == 255;
+
+        for (int y = local[1]; y < local[3]; y++) {
+            int offset = y * stride;
+            for (int i = offset + local[0]; i < offset + local[2]; i++) {
+                int s = src != null ? src[i] : srcValue;
+                if (plain) {
+                    int alpha = s >>> 24;
+                    if (alpha == 255) {
+                        dst[i] = s;
+                    } else if (alpha != 0) {
+                        dst[i] = over(s, dst[i], 255 - alpha);
+                    }
+                } else {
+                    dst[i] = blendPixel(s, dst[i], mode, opacity);
+                }
+            }
+        }
+    }
+
+    static int blendPixel(int s, int d, BlendMode mode, int opacity) {
+        if (opacity < 255) {
+            s = scale(s, opacity);
+        }
+        int sa = s >>> 24;
+        if (sa == 0) return d;
+
+        switch (mode) {
+            case MULTIPLY: {
+                int da = d >>> 24;
+                int a = sa + da - div255(sa * da);
+                int r = multiply((s >> 16) & 0xFF, (d >> 16) & 0xFF, sa, da);
+                int g = multiply((s >> 8) & 0xFF, (d >> 8) & 0xFF, sa, da);
+                int b = multiply(s & 0xFF, d & 0xFF, sa, da);
+                return a << 24 | r << 16 | g << 8 | b;
+            }
+            case SCREEN: {
+                int da = d >>> 24;
+                int a = sa + da - div255(sa * da);
+                int r = screen((s >> 16) & 0xFF, (d >> 16) & 0xFF);
+                int g = screen((s >> 8) & 0xFF, (d >> 8) & 0xFF);
+                int b = screen(s & 0xFF, d & 0xFF);
+                return a << 24 | r << 16 | g << 8 | b;
+            }
+            default:
+                return sa == 255 ? s : over(s, d, 255 - sa);
+        }
+    }
+
+    private static int over(int s, int d, int inverseAlpha) {
+        int a = (s >>> 24) + div255((d >>> 24) * inverseAlpha);
+        int r = ((s >> 16) & 0xFF) + div255(((d >> 16) & 0xFF) * inverseAlpha);
+        int g = ((s >> 8) & 0xFF) + div255(((d >> 8) & 0xFF) * inverseAlpha);
+        int b = (s & 0xFF) + div255((d & 0xFF) * inverseAlpha);
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    private static int multiply(int sc, int dc, int sa, int da) {
+        return Math.min(255, div255(sc * dc + sc * (255 - da) + dc * (255 - sa)));
+    }
+
+    private static int screen(int sc, int dc) {
+        return Math.min(255, sc + dc - div255(sc * dc));
+    }
+
+    private static int scale(int value, int factor) {
+        return div255((value >>> 24) * factor) << 24
+                | div255(((value >> 16) & 0xFF) * factor) << 16
+                | div255(((value >> 8) & 0xFF) * factor) << 8
+                | div255((value & 0xFF) * factor);
+    }
+
+    private static int div255(int value) {
+        return (value + 127) / 255;
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return new int[]{Math.min(a[0], b[0]), Math.min(a[1], b[1]), Math.max(a[2], b[2]), Math.max(a[3], b[3])};
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public void setChangeListener(LayerChangeListener listener) { this.changeListener = listener; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
@@ -0,0 +1,184 @@
+package com.example.scenory.view.components;
+
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Half-size copies of a raster for zoomed-out display: level k is 1/2^k of the
+ * source, each pixel the average of four premultiplied pixels of the level above.
+ * A zoomed-out view draws one level image instead of pushing every full-size tile.
+ *
+ * Changes are recorded per level as a dirty rectangle and only recomputed when
+ * that level is next drawn, so a stroke costs its own area at each level and
+ * levels coarser than the current view wait until they are needed.
+ */
+final class MipLevels {
+
+    private static final Timer MIP_TIMER = Metrics.timer("raster.mip");
+
+    static final int MAX_LEVELS = 6;
+    private static final int STRIP_ROWS = 64;   // level-1 rows built per read of the source
+
+    /**
+     * One reduced copy of the source
+     */
+    private static final class Level {
+        final int width, height;
+        final int[] pixels;   // premultiplied ARGB, row stride = width
+        final PixelBuffer<IntBuffer> pixelBuffer;
+        final WritableImage image;
+        int[] dirty;          // [x0, y0, x1, y1] still to rebuild, null when current
+
+        Level(int width, int height) {
+            this.width = width;
+            this.height = height;
+            this.pixels = new int[width * height];
+            this.pixelBuffer = new PixelBuffer<>(width, height, IntBuffer.wrap(pixels),
+                    PixelFormat.getIntArgbPreInstance());
+            this.image = new WritableImage(pixelBuffer);
+            this.dirty = new int[]{0, 0, width, height};
+        }
+    }
+
+    private final int width, height;
+    private final List<Level> levels = new ArrayList<>();
+
+    MipLevels(int width, int height) {
+        this.width = width;
+        this.height = height;
+
+        int w = width, h = height;
+        while (levels.size() < MAX_LEVELS && (w > 1 || h > 1)) {
+            w = (w + 1) / 2;
+            h = (h + 1) / 2;
+            levels.add(new Level(w, h));
+        }
+    }
+
+    /**
+     * Level to draw at a zoom: the smallest one still at least as detailed as the
+     * view, or 0 when the source itself should be drawn
+     */
+    int levelFor(double zoom) {
+        int level = 0;
+        while (level < levels.size() && zoom <= 0.5 / (1 << level)) level++;
+        return level;
+    }
+
+    /**
+     * Mark a source region [x0, x1) x [y0, y1) as changed
+     */
+    void invalidate(int x0, int y0, int x1, int y1) {
+        for (int k = 1; k <= levels.size(); k++) {
+            Level level = levels.get(k - 1);
+            int lx0 = Math.max(0, x0 >> k);
+            int ly0 = Math.max(0, y0 >> k);
+            int lx1 = Math.min(level.width, (x1 + (1 << k) - 1) >> k);
+            int ly1 = Math.min(level.height, (y1 + (1 << k) - 1) >> k);
+            if (lx1 <= lx0 || ly1 <= ly0) continue;
+
+            if (level.dirty == null) {
+                level.dirty = new int[]{lx0, ly0, lx1, ly1};
+            } else {
+                level.dirty[0] = Math.min(level.dirty[0], lx0);
+                level.dirty[1] = Math.min(level.dirty[1], ly0);
+                level.dirty[2] = Math.max(level.dirty[2], lx1);
+                level.dirty[3] = Math.max(level.dirty[3], ly1);
+            }
+        }
+    }
+
+    /**
+     * Image of a level (1 = half size), first rebuilding whatever changed in it
+     * and the levels it is built from (FX thread)
+     */
+    Image image(int level, TiledRaster source) {
+        long start = MIP_TIMER.start();
+        for (int k = 1; k <= level; k++) {
+            Level target = levels.get(k - 1);
+            int[] dirty = target.dirty;
+            if (dirty == null) continue;
+            target.dirty = null;
+
+            if (k == 1) {
+                reduceFromSource(source, target, dirty);
+            } else {
+                Level above = levels.get(k - 2);
+                reduce(above.pixels, above.width, above.height, 0, 0, above.width, target, dirty);
+            }
+            Rectangle2D changed = new Rectangle2D(dirty[0], dirty[1], dirty[2] - dirty[0], dirty[3] - dirty[1]);
+            target.pixelBuffer.updateBuffer(buffer -> changed);
+        }
+        MIP_TIMER.stop(start);
+        return levels.get(level - 1).image;
+    }
+
+    /**
+     * Width of a level in its own pixels
+     */
+    int levelWidth(int level) {
+        return levels.get(level - 1).width;
+    }
+
+    int levelHeight(int level) {
+        return levels.get(level - 1).height;
+    }
+
+    // =====================================
+    // REDUCTION
+    // =====================================
+
+    /**
+     * Build level 1 from the raster in strips, so a full rebuild never copies the whole source at once
+     */
+    private void reduceFromSource(TiledRaster source, Level target, int[] dirty) {
+        int sx0 = dirty[0] * 2;
+        int sx1 = Math.min(dirty[2] * 2, width);
+        int sw = sx1 - sx0;
+        int[] strip = new int[sw * Math.min(STRIP_ROWS * 2, height)];
+
+        for (int y = dirty[1]; y < dirty[3]; y += STRIP_ROWS) {
+            int yEnd = Math.min(y + STRIP_ROWS, dirty[3]);
+            int sy0 = y * 2;
+            int sy1 = Math.min(yEnd * 2, height);
+            source.getPremultipliedPixels(sx0, sy0, sw, sy1 - sy0, strip);
+            reduce(strip, sx1, sy1, sx0, sy0, sw, target, new int[]{dirty[0], y, dirty[2], yEnd});
+        }
+    }
+
+    /**
+     * Average 2x2 blocks of src into target over a target region.
+     * src holds source pixels from (originX, originY) with the given stride; sourceWidth and
+     * sourceHeight are exclusive limits, and a block that runs past them repeats its last
+     * row or column. Two channels are summed per int, which is exact for premultiplied values.
+     */
+    private static void reduce(int[] src, int sourceWidth, int sourceHeight, int originX, int originY, int stride,
+                               Level target, int[] region) {
+        for (int y = region[1]; y < region[3]; y++) {
+            int row0 = (2 * y - originY) * stride - originX;
+            int row1 = (Math.min(2 * y + 1, sourceHeight - 1) - originY) * stride - originX;
+            int out = y * target.width;
+
+            for (int x = region[0]; x < region[2]; x++) {
+                int sx = 2 * x;
+                int sxNext = Math.min(sx + 1, sourceWidth - 1);
+                int p00 = src[row0 + sx], p10 = src[row0 + sxNext];
+                int p01 = src[row1 + sx], p11 = src[row1 + sxNext];
+
+                int rb = (p00 & 0xFF00FF) + (p10 & 0xFF00FF) + (p01 & 0xFF00FF) + (p11 & 0xFF00FF) + 0x00020002;
+                int ag = ((p00 >>> 8) & 0xFF00FF) + ((p10 >>> 8) & 0xFF00FF)
+                        + ((p01 >>> 8) & 0xFF00FF) + ((p11 >>> 8) & 0xFF00FF) + 0x00020002;
+                target.pixels[out + x] = (((ag >>> 2) & 0xFF00FF) << 8) | ((rb >>> 2) & 0xFF00FF);
+            }
+        }
+    }
+}
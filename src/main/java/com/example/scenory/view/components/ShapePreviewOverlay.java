@@ -0,0 +1,116 @@
+package com.example.scenory.view.components;
+
+import com.example.scenory.commands.ShapeCommand;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.transform.Affine;
+
+/**
+ * Rubber-band preview for the shape tools, drawn with retained shape nodes
+ * stacked above a canvas. Dragging only moves one node, so a preview frame costs
+ * the size of the shape, not the canvas, and the raster is left alone until the
+ * shape is committed on release.
+ *
+ * The overlay follows the canvas position and size; add it to the same parent
+ * right after the canvas. Shapes are given in document coordinates and mapped
+ * by the view transform the canvas passes in. It never takes mouse events.
+ */
+public class ShapePreviewOverlay extends Pane {
+
+    private final Rectangle rectangle = new Rectangle();
+    private final Circle circle = new Circle();
+    private final Line line = new Line();
+    private final Affine viewTransform = new Affine();
+
+    public ShapePreviewOverlay(Canvas canvas) {
+        setManaged(false);
+        setMouseTransparent(true);
+        setPickOnBounds(false);
+
+        for (Shape shape : new Shape[]{rectangle, circle, line}) {
+            shape.setFill(null);
+            shape.setStrokeLineCap(StrokeLineCap.ROUND);
+            shape.setVisible(false);
+        }
+        rectangle.setStrokeLineJoin(StrokeLineJoin.MITER);
+        Group content = new Group(rectangle, circle, line);
+        content.getTransforms().add(viewTransform);
+        getChildren().add(content);
+
+        // Same layout box as the canvas
+        layoutXProperty().bind(canvas.layoutXProperty());
+        layoutYProperty().bind(canvas.layoutYProperty());
+        translateXProperty().bind(canvas.translateXProperty());
+        translateYProperty().bind(canvas.translateYProperty());
+        canvas.widthProperty().addListener((obs, oldVal, newVal) -> resize(canvas.getWidth(), canvas.getHeight()));
+        canvas.heightProperty().addListener((obs, oldVal, newVal) -> resize(canvas.getWidth(), canvas.getHeight()));
+        resize(canvas.getWidth(), canvas.getHeight());
+
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(canvas.widthProperty());
+        clip.heightProperty().bind(canvas.heightProperty());
+        setClip(clip);
+    }
+
+    /**
+     * Map document coordinates to the view: view = document * scale + offset
+     */
+    public void setViewTransform(double scale, double offsetX, double offsetY) {
+        viewTransform.setToTransform(scale, 0, offsetX, 0, scale, offsetY);
+    }
+
+    /**
+     * Show the shape a ShapeCommand with these arguments would draw
+     */
+    public void show(ShapeCommand.ShapeType type, double startX, double startY, double endX, double endY,
+                     Color color, double strokeWidth) {
+        Shape shape;
+        switch (type) {
+            case RECTANGLE:
+                rectangle.setX(Math.min(startX, endX));
+                rectangle.setY(Math.min(startY, endY));
+                rectangle.setWidth(Math.abs(endX - startX));
+                rectangle.setHeight(Math.abs(endY - startY));
+                shape = rectangle;
+                break;
+
+            case CIRCLE:
+                circle.setCenterX((startX + endX) / 2);
+                circle.setCenterY((startY + endY) / 2);
+                circle.setRadius(Math.sqrt(Math.pow(endX - startX, 2) + Math.pow(endY - startY, 2)) / 2);
+                shape = circle;
+                break;
+
+            default:
+                line.setStartX(startX);
+                line.setStartY(startY);
+                line.setEndX(endX);
+                line.setEndY(endY);
+                shape = line;
+                break;
+        }
+
+        shape.setStroke(color);
+        shape.setStrokeWidth(strokeWidth);
+        rectangle.setVisible(shape == rectangle);
+        circle.setVisible(shape == circle);
+        line.setVisible(shape == line);
+    }
+
+    /**
+     * Remove the preview
+     */
+    public void hide() {
+        rectangle.setVisible(false);
+        circle.setVisible(false);
+        line.setVisible(false);
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.scenory.view.components;
+
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.metrics.Metrics;
+import com.example.scenory.metrics.Timer;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.paint.Color;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.geom.Line2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * Rasterizes stroke segments into a TiledRaster on a dedicated render thread.
+ * The mouse handlers only queue segments; the render thread takes everything
+ * queued so far, paints it as one batch of anti-aliased round-cap lines, and asks
+ * the FX thread to present once (the tiles' PixelBuffers then upload just the
+ * dirty rectangles). Anything on the FX thread that reads or replaces raster
+ * pixels calls drain() first so it sees every segment queued before it.
+ * Brush segments are stamped as dabs by the BrushEngine instead, in queue order.
+ */
+public class StrokeRasterizer {
+
+    private static final Logger LOG = Log.getLogger(StrokeRasterizer.class);
+    private static final Timer BATCH_TIMER = Metrics.timer("raster.stroke.batch");
+
+    /**
+     * One queued line segment (a null colour erases; a brush stamps dabs instead of a line)
+     */
+    private static final class Segment {
+        final double x0, y0, x1, y1;
+        final BasicStroke stroke;
+        final java.awt.Color color;
+        final BrushEngine.BrushStroke brush;
+
+        Segment(double x0, double y0, double x1, double y1, BasicStroke stroke, java.awt.Color color,
+                BrushEngine.BrushStroke brush) {
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+            this.stroke = stroke;
+            this.color = color;
+            this.brush = brush;
+        }
+    }
+
+    private final LongConsumer presenter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queued = lock.newCondition();
+    private final Condition idle = lock.newCondition();
+    private List<Segment> pending = new ArrayList<>();
+    private boolean busy;
+    private boolean presentScheduled;
+    private boolean stopped;
+    private long submitted;     // segments queued so far
+    private long rasterized;    // segments in the raster so far
+    private volatile TiledRaster raster;
+
+    // Reused for the stroke width currently in use
+    private BasicStroke lastStroke;
+
+    /**
+     * @param presenter called on the FX thread after a batch was rasterized, with the
+     *                  number of segments rasterized so far (compare with getSubmittedCount())
+     */
+    public StrokeRasterizer(TiledRaster raster, LongConsumer presenter) {
+        this.raster = raster;
+        this.presenter = presenter;
+
+        Thread worker = new Thread(this::renderLoop, "stroke-rasterizer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // =====================================
+    // FX THREAD API
+    // =====================================
+
+    /**
+     * Queue a round-capped segment (returns immediately)
+     */
+    public void submit(double x0, double y0, double x1, double y1, double width, Color color) {
+        enqueue(new Segment(x0, y0, x1, y1, strokeFor(width), TiledRaster.toAwtColor(color), null));
+    }
+
+    /**
+     * Queue a round-capped segment that clears alpha under it (destination-out)
+     */
+    public void submitErase(double x0, double y0, double x1, double y1, double width) {
+        enqueue(new Segment(x0, y0, x1, y1, strokeFor(width), null, null));
+    }
+
+    /**
+     * Queue a segment of a brush stroke; its dabs continue the spacing of the stroke's earlier segments
+     */
+    public void submitBrush(BrushEngine.BrushStroke brush, double x0, double y0, double x1, double y1) {
+        enqueue(new Segment(x0, y0, x1, y1, null, null, brush));
+    }
+
+    private BasicStroke strokeFor(double width) {
+        if (lastStroke == null || lastStroke.getLineWidth() != (float) width) {
+            lastStroke = new BasicStroke((float) width, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+        }
+        return lastStroke;
+    }
+
+    private void enqueue(Segment segment) {
+        lock.lock();
+        try {
+            // Nothing would rasterize it, and drain() would wait for it forever
+            if (stopped) return;
+            pending.add(segment);
+            submitted++;
+            queued.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of segments queued so far; a batch is presented once the presenter's count reaches it
+     */
+    public long getSubmittedCount() {
+        lock.lock();
+        try {
+            return submitted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until every queued segment is in the raster
+     */
+    public void drain() {
+        lock.lock();
+        try {
+            while (!pending.isEmpty() || busy) {
+                idle.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Switch to another raster (after a resize); queued segments go to the old one first
+     */
+    public void setRaster(TiledRaster raster) {
+        drain();
+        this.raster = raster;
+    }
+
+    /**
+     * Stop the render thread once the segments already queued are in the raster.
+     * Later segments are dropped; call when the canvas is discarded so the thread
+     * and the raster it paints into can be collected.
+     */
+    public void shutdown() {
+        lock.lock();
+        try {
+            stopped = true;
+            queued.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // =====================================
+    // RENDER THREAD
+    // =====================================
+
+    private void renderLoop() {
+        while (true) {
+            List<Segment> batch;
+            lock.lock();
+            try {
+                while (pending.isEmpty()) {
+                    if (stopped) {
+                        LOG.debug("⏹ Stroke rasterizer stopped");
+                        return;
+                    }
+                    queued.awaitUninterruptibly();
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+                busy = true;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                rasterize(batch);
+            } catch (RuntimeException e) {
+                LOG.error("❌ Stroke rasterization failed: " + e.getMessage(), e);
+            }
+
+            boolean schedule;
+            lock.lock();
+            try {
+                busy = false;
+                rasterized += batch.size();
+                schedule = !presentScheduled;
+                presentScheduled = true;
+                idle.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (schedule) {
+                Platform.runLater(this::present);
+            }
+        }
+    }
+
+    private void rasterize(List<Segment> batch) {
+        long start = BATCH_TIMER.start();
+
+        // Runs of line segments are painted together; brush segments are stamped where they fall
+        int runStart = 0;
+        for (int i = 0; i <= batch.size(); i++) {
+            Segment segment = i < batch.size() ? batch.get(i) : null;
+            if (segment != null && segment.brush == null) continue;
+
+            if (i > runStart) {
+                paintLines(batch.subList(runStart, i));
+            }
+            if (segment != null) {
+                BrushEngine.getInstance().stampSegment(raster, segment.brush,
+                        segment.x0, segment.y0, segment.x1, segment.y1);
+            }
+            runStart = i + 1;
+        }
+
+        BATCH_TIMER.stop(start);
+    }
+
+    private void paintLines(List<Segment> batch) {
+        // One paint call over the union of the run
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (Segment segment : batch) {
+            double pad = segment.stroke.getLineWidth() / 2 + 1;
+            minX = Math.min(minX, Math.min(segment.x0, segment.x1) - pad);
+            minY = Math.min(minY, Math.min(segment.y0, segment.y1) - pad);
+            maxX = Math.max(maxX, Math.max(segment.x0, segment.x1) + pad);
+            maxY = Math.max(maxY, Math.max(segment.y0, segment.y1) + pad);
+        }
+
+        Line2D.Double line = new Line2D.Double();
+        raster.paint(new Rectangle2D(minX, minY, maxX - minX, maxY - minY), g -> {
+            for (Segment segment : batch) {
+                if (segment.color == null) {
+                    g.setComposite(AlphaComposite.DstOut);
+                    g.setColor(java.awt.Color.BLACK);
+                } else {
+                    g.setComposite(AlphaComposite.SrcOver);
+                    g.setColor(segment.color);
+                }
+                g.setStroke(segment.stroke);
+                line.setLine(segment.x0, segment.y0, segment.x1, segment.y1);
+                g.draw(line);
+            }
+        });
+    }
+
+    private void present() {
+        long presented;
+        lock.lock();
+        try {
+            presentScheduled = false;
+            presented = rasterized;
+        } finally {
+            lock.unlock();
+        }
+        presenter.accept(presented);
+    }
+}
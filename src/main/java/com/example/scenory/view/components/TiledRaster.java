@@ -0,0 +1,676 @@
+package com.example.scenory.view.components;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * CPU-side pixel store behind DrawingCanvas, split into 256x256 tiles.
+ * Each layer of a LayerStack has one, and so does their composite.
+ * This is the source of truth for the drawing: tools paint into it with Java2D,
+ * saves, thumbnails and undo read it directly, and the Canvas only displays it.
+ *
+ * Each tile is an INT_ARGB_PRE BufferedImage whose int[] is also wrapped by a
+ * JavaFX PixelBuffer, so presenting a change uploads just the tile's dirty
+ * rectangle with no intermediate copy. Tiles that were never painted hold no
+ * pixels and stand for the background colour, which keeps large blank canvases cheap.
+ *
+ * Pixel access is synchronized: StrokeRasterizer paints from its render thread
+ * while the FX thread presents, captures and restores.
+ */
+public class TiledRaster {
+
+    public static final int TILE_SIZE = 256;
+
+    /**
+     * One tile of the raster
+     */
+    private static final class Tile {
+        final int x, y, width, height;
+        BufferedImage image;   // null until first painted
+        int[] pixels;          // backing array of image (premultiplied ARGB)
+        PixelBuffer<IntBuffer> pixelBuffer;
+        WritableImage fxImage;
+
+        // Dirty rectangle in tile coordinates (empty when dirtyX1 <= dirtyX0)
+        int dirtyX0, dirtyY0, dirtyX1, dirtyY1;
+
+        Tile(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        boolean isDirty() {
+            return dirtyX1 > dirtyX0 && dirtyY1 > dirtyY0;
+        }
+
+        void markDirty(int x0, int y0, int x1, int y1) {
+            if (isDirty()) {
+                dirtyX0 = Math.min(dirtyX0, x0);
+                dirtyY0 = Math.min(dirtyY0, y0);
+                dirtyX1 = Math.max(dirtyX1, x1);
+                dirtyY1 = Math.max(dirtyY1, y1);
+            } else {
+                dirtyX0 = x0;
+                dirtyY0 = y0;
+                dirtyX1 = x1;
+                dirtyY1 = y1;
+            }
+        }
+
+        void clearDirty() {
+            dirtyX0 = dirtyY0 = dirtyX1 = dirtyY1 = 0;
+        }
+
+        void release() {
+            image = null;
+            pixels = null;
+            pixelBuffer = null;
+            fxImage = null;
+        }
+    }
+
+    /**
+     * Saved pixels of some tiles, used for undo/redo.
+     * A null entry means the tile was unpainted (plain background) when saved.
+     */
+    public static final class Snapshot {
+        private final TiledRaster owner;
+        private final int background;
+        private final Map<Integer, int[]> tiles = new LinkedHashMap<>();
+
+        private Snapshot(TiledRaster owner, int background) {
+            this.owner = owner;
+            this.background = background;
+        }
+
+        /**
+         * Raster the tiles were taken from (the layer an undo step belongs to)
+         */
+        public TiledRaster getOwner() {
+            return owner;
+        }
+
+        public int getTileCount() {
+            return tiles.size();
+        }
+
+        /**
+         * Bytes of pixel data held (4 bytes per pixel)
+         */
+        public long getMemoryFootprint() {
+            long bytes = 0;
+            for (int[] pixels : tiles.values()) {
+                if (pixels != null) bytes += (long) pixels.length * 4;
+            }
+            return bytes;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final int columns;
+    private final int rows;
+    private final Tile[] tiles;
+    private int background; // premultiplied ARGB of unpainted tiles
+    private Snapshot journal;
+
+    public TiledRaster(int width, int height, Color background) {
+        this.width = Math.max(1, width);
+        this.height = Math.max(1, height);
+        this.columns = (this.width + TILE_SIZE - 1) / TILE_SIZE;
+        this.rows = (this.height + TILE_SIZE - 1) / TILE_SIZE;
+        this.tiles = new Tile[columns * rows];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                int x = col * TILE_SIZE;
+                int y = row * TILE_SIZE;
+                tiles[row * columns + col] = new Tile(x, y,
+                        Math.min(TILE_SIZE, this.width - x), Math.min(TILE_SIZE, this.height - y));
+            }
+        }
+        fill(background);
+    }
+
+    // =====================================
+    // PAINTING
+    // =====================================
+
+    /**
+     * Paint into every tile the region touches (null = whole raster).
+     * The painter works in canvas coordinates and may be called once per tile.
+     */
+    public synchronized void paint(Rectangle2D region, Consumer<Graphics2D> painter) {
+        int[] bounds = clip(region);
+        if (bounds == null) return;
+
+        forEachTile(bounds, (tile, index) -> {
+            journal(index, tile);
+            allocate(tile);
+
+            Graphics2D g = tile.image.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.translate(-tile.x, -tile.y);
+                g.clipRect(bounds[0], bounds[1], bounds[2] - bounds[0], bounds[3] - bounds[1]);
+                painter.accept(g);
+            } finally {
+                g.dispose();
+            }
+            tile.markDirty(Math.max(bounds[0], tile.x) - tile.x, Math.max(bounds[1], tile.y) - tile.y,
+                    Math.min(bounds[2], tile.x + tile.width) - tile.x, Math.min(bounds[3], tile.y + tile.height) - tile.y);
+        });
+    }
+
+    /**
+     * Draw an image at the given canvas position
+     */
+    public void drawImage(BufferedImage image, int x, int y) {
+        if (image == null) return;
+        paint(new Rectangle2D(x, y, image.getWidth(), image.getHeight()), g -> g.drawImage(image, x, y, null));
+    }
+
+    /**
+     * Set every pixel whose mask byte is non-zero to a colour. The mask covers the raster from
+     * (maskX, maskY) with row stride maskWidth; only [x0, x1) x [y0, y1) is scanned (raster
+     * coordinates). Replaces rather than blends, like a fill should; tiles where no pixel
+     * actually changes are left alone, so they are not journaled either.
+     */
+    public synchronized void fillMask(byte[] mask, int maskX, int maskY, int maskWidth,
+                                      int x0, int y0, int x1, int y1, Color color) {
+        int[] bounds = clip(new Rectangle2D(x0, y0, x1 - x0, y1 - y0));
+        if (bounds == null) return;
+        int value = toPremultiplied(color);
+
+        forEachTile(bounds, (tile, index) -> {
+            int tx0 = Math.max(bounds[0], tile.x), ty0 = Math.max(bounds[1], tile.y);
+            int tx1 = Math.min(bounds[2], tile.x + tile.width), ty1 = Math.min(bounds[3], tile.y + tile.height);
+
+            boolean touched = false;
+            for (int y = ty0; y < ty1 && !touched; y++) {
+                int maskOffset = (y - maskY) * maskWidth - maskX;
+                int tileOffset = (y - tile.y) * tile.width - tile.x;
+                for (int x = tx0; x < tx1; x++) {
+                    if (mask[maskOffset + x] != 0
+                            && (tile.pixels != null ? tile.pixels[tileOffset + x] : background) != value) {
+                        touched = true;
+                        break;
+                    }
+                }
+            }
+            if (!touched) return;
+
+            journal(index, tile);
+            allocate(tile);
+            for (int y = ty0; y < ty1; y++) {
+                int maskOffset = (y - maskY) * maskWidth - maskX;
+                int tileOffset = (y - tile.y) * tile.width - tile.x;
+                for (int x = tx0; x < tx1; x++) {
+                    if (mask[maskOffset + x] != 0) tile.pixels[tileOffset + x] = value;
+                }
+            }
+            tile.markDirty(tx0 - tile.x, ty0 - tile.y, tx1 - tile.x, ty1 - tile.y);
+        });
+    }
+
+    /**
+     * Blend a premultiplied stamp (row stride = size) source-over with its top-left at (x, y).
+     * A grain table (grainSize x grainSize, repeated over the raster) scales each stamped
+     * pixel by its value at that raster position; pass null for none.
+     */
+    synchronized void stamp(int[] stamp, int size, int x, int y, byte[] grain, int grainSize) {
+        int[] bounds = clip(new Rectangle2D(x, y, size, size));
+        if (bounds == null) return;
+        int grainMask = grainSize - 1;
+
+        forEachTile(bounds, (tile, index) -> {
+            journal(index, tile);
+            allocate(tile);
+            int tx0 = Math.max(bounds[0], tile.x), ty0 = Math.max(bounds[1], tile.y);
+            int tx1 = Math.min(bounds[2], tile.x + tile.width), ty1 = Math.min(bounds[3], tile.y + tile.height);
+            int[] pixels = tile.pixels;
+
+            for (int row = ty0; row < ty1; row++) {
+                int stampOffset = (row - y) * size - x;
+                int tileOffset = (row - tile.y) * tile.width - tile.x;
+                int grainOffset = (row & grainMask) * grainSize;
+                for (int col = tx0; col < tx1; col++) {
+                    int source = stamp[stampOffset + col];
+                    if (source == 0) continue;
+                    if (grain != null) {
+                        source = scalePremultiplied(source, grain[grainOffset + (col & grainMask)] & 0xFF);
+                    }
+
+                    int inverse = 255 - (source >>> 24);
+                    int i = tileOffset + col;
+                    pixels[i] = inverse == 0 ? source : source + scalePremultiplied(pixels[i], inverse);
+                }
+            }
+            tile.markDirty(tx0 - tile.x, ty0 - tile.y, tx1 - tile.x, ty1 - tile.y);
+        });
+    }
+
+    /**
+     * Reset every tile to a solid colour; painted tiles give their memory back
+     */
+    public synchronized void fill(Color color) {
+        for (int i = 0; i < tiles.length; i++) {
+            journal(i, tiles[i]);
+            tiles[i].release();
+            tiles[i].markDirty(0, 0, tiles[i].width, tiles[i].height);
+        }
+        background = toPremultiplied(color);
+    }
+
+    private void allocate(Tile tile) {
+        if (tile.image != null) return;
+        tile.image = new BufferedImage(tile.width, tile.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        tile.pixels = ((DataBufferInt) tile.image.getRaster().getDataBuffer()).getData();
+        Arrays.fill(tile.pixels, background);
+    }
+
+    // =====================================
+    // UNDO SUPPORT
+    // =====================================
+
+    /**
+     * Start recording the original pixels of each tile the first time it is changed
+     */
+    public synchronized void beginJournal() {
+        journal = new Snapshot(this, background);
+    }
+
+    /**
+     * Stop recording; the result restores exactly the tiles changed since beginJournal
+     */
+    public synchronized Snapshot endJournal() {
+        Snapshot recorded = journal != null ? journal : new Snapshot(this, background);
+        journal = null;
+        return recorded;
+    }
+
+    public synchronized boolean isJournaling() {
+        return journal != null;
+    }
+
+    private void journal(int index, Tile tile) {
+        if (journal != null && !journal.tiles.containsKey(index)) {
+            journal.tiles.put(index, tile.pixels != null ? tile.pixels.clone() : null);
+        }
+    }
+
+    /**
+     * Copy the tiles covering a region (null = whole raster)
+     */
+    public synchronized Snapshot capture(Rectangle2D region) {
+        Snapshot snapshot = new Snapshot(this, background);
+        int[] bounds = clip(region);
+        if (bounds != null) {
+            forEachTile(bounds, (tile, index) ->
+                    snapshot.tiles.put(index, tile.pixels != null ? tile.pixels.clone() : null));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Copy the current contents of the tiles another snapshot holds
+     */
+    public synchronized Snapshot captureSameTiles(Snapshot other) {
+        Snapshot snapshot = new Snapshot(this, background);
+        for (Integer index : other.tiles.keySet()) {
+            int[] pixels = tiles[index].pixels;
+            snapshot.tiles.put(index, pixels != null ? pixels.clone() : null);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Put saved tiles back
+     */
+    public synchronized void restore(Snapshot snapshot) {
+        if (snapshot == null) return;
+
+        // A whole-raster snapshot brings its background back too, so blank tiles stay unallocated
+        if (snapshot.tiles.size() == tiles.length && snapshot.background != background) {
+            for (int i = 0; i < tiles.length; i++) {
+                journal(i, tiles[i]);
+            }
+            background = snapshot.background;
+        }
+
+        for (Map.Entry<Integer, int[]> entry : snapshot.tiles.entrySet()) {
+            int index = entry.getKey();
+            Tile tile = tiles[index];
+            journal(index, tile);
+
+            int[] saved = entry.getValue();
+            if (saved == null && snapshot.background == background) {
+                tile.release();
+            } else {
+                allocate(tile);
+                if (saved != null) {
+                    System.arraycopy(saved, 0, tile.pixels, 0, tile.pixels.length);
+                } else {
+                    Arrays.fill(tile.pixels, snapshot.background);
+                }
+            }
+            tile.markDirty(0, 0, tile.width, tile.height);
+        }
+    }
+
+    // =====================================
+    // READING
+    // =====================================
+
+    /**
+     * Non-premultiplied ARGB of one pixel
+     */
+    public synchronized int getArgb(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return 0;
+        Tile tile = tiles[(y / TILE_SIZE) * columns + (x / TILE_SIZE)];
+        int value = tile.pixels != null ? tile.pixels[(y - tile.y) * tile.width + (x - tile.x)] : background;
+        return unpremultiply(value);
+    }
+
+    /**
+     * Copy a region as non-premultiplied ARGB into dst (row stride = w)
+     */
+    public synchronized void getPixels(int x, int y, int w, int h, int[] dst) {
+        readPixels(x, y, w, h, dst, false);
+    }
+
+    /**
+     * Copy a region as premultiplied ARGB into dst (row stride = w), as stored
+     */
+    synchronized void getPremultipliedPixels(int x, int y, int w, int h, int[] dst) {
+        readPixels(x, y, w, h, dst, true);
+    }
+
+    private void readPixels(int x, int y, int w, int h, int[] dst, boolean premultiplied) {
+        int[] bounds = clip(new Rectangle2D(x, y, w, h));
+        if (bounds == null) return;
+
+        forEachTile(bounds, (tile, index) -> {
+            int x0 = Math.max(bounds[0], tile.x);
+            int y0 = Math.max(bounds[1], tile.y);
+            int x1 = Math.min(bounds[2], tile.x + tile.width);
+            int y1 = Math.min(bounds[3], tile.y + tile.height);
+            int fillValue = premultiplied ? background : unpremultiply(background);
+
+            for (int row = y0; row < y1; row++) {
+                int dstOffset = (row - y) * w + (x0 - x);
+                if (tile.pixels == null) {
+                    Arrays.fill(dst, dstOffset, dstOffset + (x1 - x0), fillValue);
+                } else {
+                    int srcOffset = (row - tile.y) * tile.width + (x0 - tile.x);
+                    if (premultiplied) {
+                        System.arraycopy(tile.pixels, srcOffset, dst, dstOffset, x1 - x0);
+                        continue;
+                    }
+                    for (int col = 0; col < x1 - x0; col++) {
+                        dst[dstOffset + col] = unpremultiply(tile.pixels[srcOffset + col]);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Whole raster as a TYPE_INT_ARGB image (for PNG encoding and thumbnails)
+     */
+    public synchronized BufferedImage toBufferedImage() {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int[] dst = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        getPixels(0, 0, width, height, dst);
+        return image;
+    }
+
+    // =====================================
+    // DISPLAY
+    // =====================================
+
+    /**
+     * Upload the dirty tile rectangles to their PixelBuffers (FX thread) and return
+     * their union as [x0, y0, x1, y1] in raster coordinates, or null if nothing changed.
+     * Only the dirty rectangle of each painted tile is marked for upload.
+     */
+    public synchronized int[] upload() {
+        int[] bounds = null;
+        for (Tile tile : tiles) {
+            if (!tile.isDirty()) continue;
+
+            if (tile.pixels != null) {
+                if (tile.fxImage == null) {
+                    createImage(tile);
+                } else {
+                    Rectangle2D dirty = new Rectangle2D(tile.dirtyX0, tile.dirtyY0,
+                            tile.dirtyX1 - tile.dirtyX0, tile.dirtyY1 - tile.dirtyY0);
+                    tile.pixelBuffer.updateBuffer(buffer -> dirty);
+                }
+            }
+            bounds = union(bounds, tile.x + tile.dirtyX0, tile.y + tile.dirtyY0,
+                    tile.x + tile.dirtyX1, tile.y + tile.dirtyY1);
+            tile.clearDirty();
+        }
+        return bounds;
+    }
+
+    /**
+     * Draw the whole tiles overlapping a raster region (FX thread), each at
+     * view = raster * scale + offset. Tile edges are snapped to whole view pixels
+     * so neighbouring tiles meet without seams and a partial redraw lands exactly
+     * where a full one would. Unpainted tiles are drawn as a background fill.
+     * Call upload() first so the tile images are current.
+     */
+    public synchronized void draw(GraphicsContext gc, int x0, int y0, int x1, int y1,
+                                  double scale, double offsetX, double offsetY) {
+        int[] bounds = clip(new Rectangle2D(x0, y0, x1 - x0, y1 - y0));
+        if (gc == null || bounds == null) return;
+        Color backgroundColor = toColor(background);
+
+        forEachTile(bounds, (tile, index) -> {
+            double dx0 = Math.round(tile.x * scale + offsetX);
+            double dy0 = Math.round(tile.y * scale + offsetY);
+            double dx1 = Math.round((tile.x + tile.width) * scale + offsetX);
+            double dy1 = Math.round((tile.y + tile.height) * scale + offsetY);
+            if (dx1 <= dx0 || dy1 <= dy0) return;
+
+            gc.clearRect(dx0, dy0, dx1 - dx0, dy1 - dy0);
+            if (tile.pixels == null) {
+                gc.setFill(backgroundColor);
+                gc.fillRect(dx0, dy0, dx1 - dx0, dy1 - dy0);
+            } else {
+                if (tile.fxImage == null) createImage(tile);
+                gc.drawImage(tile.fxImage, 0, 0, tile.width, tile.height, dx0, dy0, dx1 - dx0, dy1 - dy0);
+            }
+        });
+    }
+
+    private static void createImage(Tile tile) {
+        tile.pixelBuffer = new PixelBuffer<>(tile.width, tile.height,
+                IntBuffer.wrap(tile.pixels), PixelFormat.getIntArgbPreInstance());
+        tile.fxImage = new WritableImage(tile.pixelBuffer);
+    }
+
+    // =====================================
+    // LAYER COMPOSITING (package-private)
+    // =====================================
+
+    int getTileCount() {
+        return tiles.length;
+    }
+
+    /**
+     * Premultiplied pixels of a tile, or null when it is plain background
+     */
+    synchronized int[] tilePixels(int index) {
+        return tiles[index].pixels;
+    }
+
+    synchronized int backgroundValue() {
+        return background;
+    }
+
+    /**
+     * Pixels of a tile for direct writing (allocated on demand, not journaled)
+     */
+    synchronized int[] writableTile(int index) {
+        allocate(tiles[index]);
+        return tiles[index].pixels;
+    }
+
+    /**
+     * Set a whole tile to one premultiplied value, releasing it when that is the background
+     */
+    synchronized void setTileValue(int index, int value) {
+        Tile tile = tiles[index];
+        if (value == background) {
+            tile.release();
+        } else {
+            allocate(tile);
+            Arrays.fill(tile.pixels, value);
+        }
+        tile.markDirty(0, 0, tile.width, tile.height);
+    }
+
+    synchronized void markTileDirty(int index, int x0, int y0, int x1, int y1) {
+        tiles[index].markDirty(x0, y0, x1, y1);
+    }
+
+    /**
+     * Union of the dirty tile rectangles as [x0, y0, x1, y1] in canvas coordinates
+     * (null if nothing changed), clearing them. Used for rasters that are
+     * composited rather than presented.
+     */
+    synchronized int[] takeDirtyBounds() {
+        int[] bounds = null;
+        for (Tile tile : tiles) {
+            if (!tile.isDirty()) continue;
+            bounds = union(bounds, tile.x + tile.dirtyX0, tile.y + tile.dirtyY0,
+                    tile.x + tile.dirtyX1, tile.y + tile.dirtyY1);
+            tile.clearDirty();
+        }
+        return bounds;
+    }
+
+    // =====================================
+    // HELPERS
+    // =====================================
+
+    private interface TileVisitor {
+        void visit(Tile tile, int index);
+    }
+
+    private void forEachTile(int[] bounds, TileVisitor visitor) {
+        int col0 = bounds[0] / TILE_SIZE;
+        int row0 = bounds[1] / TILE_SIZE;
+        int col1 = (bounds[2] - 1) / TILE_SIZE;
+        int row1 = (bounds[3] - 1) / TILE_SIZE;
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int index = row * columns + col;
+                visitor.visit(tiles[index], index);
+            }
+        }
+    }
+
+    /**
+     * All four channels of a premultiplied pixel times factor / 255 (rounded), two channels per multiply
+     */
+    private static int scalePremultiplied(int value, int factor) {
+        int rb = (value & 0xFF00FF) * factor + 0x800080;
+        rb = ((rb + ((rb >>> 8) & 0xFF00FF)) >>> 8) & 0xFF00FF;
+        int ag = ((value >>> 8) & 0xFF00FF) * factor + 0x800080;
+        ag = (ag + ((ag >>> 8) & 0xFF00FF)) & 0xFF00FF00;
+        return ag | rb;
+    }
+
+    private static int[] union(int[] bounds, int x0, int y0, int x1, int y1) {
+        if (bounds == null) return new int[]{x0, y0, x1, y1};
+        bounds[0] = Math.min(bounds[0], x0);
+        bounds[1] = Math.min(bounds[1], y0);
+        bounds[2] = Math.max(bounds[2], x1);
+        bounds[3] = Math.max(bounds[3], y1);
+        return bounds;
+    }
+
+    /**
+     * Region as integer [x0, y0, x1, y1] inside the raster, or null if empty
+     */
+    private int[] clip(Rectangle2D region) {
+        if (region == null) {
+            return new int[]{0, 0, width, height};
+        }
+        int x0 = Math.max(0, (int) Math.floor(region.getMinX()));
+        int y0 = Math.max(0, (int) Math.floor(region.getMinY()));
+        int x1 = Math.min(width, (int) Math.ceil(region.getMaxX()));
+        int y1 = Math.min(height, (int) Math.ceil(region.getMaxY()));
+        return x1 > x0 && y1 > y0 ? new int[]{x0, y0, x1, y1} : null;
+    }
+
+    public static java.awt.Color toAwtColor(Color color) {
+        return new java.awt.Color((float) color.getRed(), (float) color.getGreen(),
+                (float) color.getBlue(), (float) color.getOpacity());
+    }
+
+    private static int toPremultiplied(Color color) {
+        int a = (int) Math.round(color.getOpacity() * 255);
+        int r = (int) Math.round(color.getRed() * a);
+        int g = (int) Math.round(color.getGreen() * a);
+        int b = (int) Math.round(color.getBlue() * a);
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    private static Color toColor(int premultiplied) {
+        int argb = unpremultiply(premultiplied);
+        return Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, (argb >>> 24) / 255.0);
+    }
+
+    private static int unpremultiply(int value) {
+        int a = value >>> 24;
+        if (a == 255 || a == 0) return a == 0 ? 0 : value;
+        int r = Math.min(255, ((value >> 16) & 0xFF) * 255 / a);
+        int g = Math.min(255, ((value >> 8) & 0xFF) * 255 / a);
+        int b = Math.min(255, (value & 0xFF) * 255 / a);
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    // =====================================
+    // CONFIGURATION METHODS
+    // =====================================
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getColumns() { return columns; }
+    public int getRows() { return rows; }
+
+    /**
+     * Tiles currently holding pixels
+     */
+    public synchronized int getAllocatedTileCount() {
+        int count = 0;
+        for (Tile tile : tiles) {
+            if (tile.pixels != null) count++;
+        }
+        return count;
+    }
+
+    public synchronized Color getBackground() { return toColor(background); }
+}
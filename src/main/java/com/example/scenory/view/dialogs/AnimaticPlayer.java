@@ -0,0 +1,309 @@
+package com.example.scenory.view.dialogs;
+
+import com.example.scenory.export.ExportSequence;
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
+import com.example.scenory.model.Panel;
+import com.example.scenory.model.Project;
+import com.example.scenory.utils.DecodeAheadBuffer;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Flipbook preview of the board: plays every scene in sequence order, each panel for
+ * its display duration, with cut, dissolve and fade-through-black transitions.
+ * Frames come from a {@link DecodeAheadBuffer}, so the FX thread never decodes or
+ * waits; a panel that is not decoded in time keeps the previous frame on screen and
+ * is counted as late instead of stalling the clock.
+ */
+public class AnimaticPlayer {
+
+    private static final Logger LOG = Log.getLogger(AnimaticPlayer.class);
+
+    private static final int BUFFER_FRAMES = 8;
+    private static final double MAX_FRAME_WIDTH = 960;
+    private static final double TRANSITION_SECONDS = 0.5;
+    private static final double DISPLAY_FRAME_SECONDS = 1.0 / 60.0; // JavaFX pulse rate
+
+    private enum Transition { CUT, DISSOLVE, FADE }
+
+    private final List<ExportSequence.Entry> entries;
+    private final double[] startTimes;  // Cumulative start of each panel, plus the total at the end
+    private final Transition[] transitions;
+    private final DecodeAheadBuffer buffer;
+
+    private final Stage stage = new Stage();
+    private final Rectangle backdrop;
+    private final ImageView currentView = new ImageView();
+    private final ImageView nextView = new ImageView();
+    private final Label panelLabel = new Label();
+    private final Label timeLabel = new Label();
+    private final Label statsLabel = new Label();
+    private final Button playButton = new Button("⏸ Pause");
+
+    // Playback clock
+    private boolean playing = true;
+    private double positionSeconds;
+    private long lastPulseNanos;
+    private int currentIndex = -1;
+
+    // Statistics
+    private long displayFrames;
+    private long droppedFrames;
+    private int latePanels;
+    private boolean currentPanelLate;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onPulse(now);
+        }
+    };
+
+    /**
+     * Open the player for a project
+     */
+    public static void show(Project project, Window owner) {
+        List<ExportSequence.Entry> entries = ExportSequence.of(project);
+        if (entries.isEmpty()) {
+            LOG.warn("⚠️ Nothing to play - project has no panels");
+            return;
+        }
+        new AnimaticPlayer(project, entries, owner).start();
+    }
+
+    private AnimaticPlayer(Project project, List<ExportSequence.Entry> entries, Window owner) {
+        this.entries = entries;
+        this.startTimes = new double[entries.size() + 1];
+        this.transitions = new Transition[entries.size()];
+
+        for (int i = 0; i < entries.size(); i++) {
+            Panel panel = entries.get(i).getPanel();
+            double duration = panel.getDisplayDuration() != null ? panel.getDisplayDuration().toSeconds() : 3.0;
+            startTimes[i + 1] = startTimes[i] + Math.max(0.1, duration);
+            transitions[i] = parseTransition(panel.getTransitionType());
+        }
+
+        double frameWidth = Math.min(MAX_FRAME_WIDTH, project.getCanvasWidth());
+        double frameHeight = frameWidth * project.getCanvasHeight() / project.getCanvasWidth();
+
+        List<Panel> panels = entries.stream().map(ExportSequence.Entry::getPanel).collect(Collectors.toList());
+        this.buffer = new DecodeAheadBuffer(panels, BUFFER_FRAMES, frameWidth, frameHeight);
+
+        backdrop = new Rectangle(frameWidth, frameHeight, Color.WHITE);
+        for (ImageView view : Arrays.asList(currentView, nextView)) {
+            view.setFitWidth(frameWidth);
+            view.setFitHeight(frameHeight);
+            view.setPreserveRatio(true);
+        }
+
+        StackPane screen = new StackPane(backdrop, currentView, nextView);
+        screen.setStyle("-fx-background-color: black;");
+        screen.setPadding(new Insets(12));
+
+        Button restartButton = new Button("⏮ Restart");
+        restartButton.setOnAction(e -> seek(0));
+        playButton.setOnAction(e -> togglePlaying());
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox controls = new HBox(10, restartButton, playButton, panelLabel, spacer, statsLabel, timeLabel);
+        controls.setAlignment(Pos.CENTER_LEFT);
+        controls.setPadding(new Insets(8, 12, 8, 12));
+
+        BorderPane root = new BorderPane(screen);
+        root.setBottom(controls);
+
+        Scene scene = new Scene(root);
+        scene.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.SPACE) {
+                togglePlaying();
+            } else if (e.getCode() == KeyCode.RIGHT) {
+                seek(startTimes[Math.min(entries.size() - 1, Math.max(0, currentIndex) + 1)]);
+            } else if (e.getCode() == KeyCode.LEFT) {
+                seek(startTimes[Math.max(0, currentIndex - 1)]);
+            } else if (e.getCode() == KeyCode.ESCAPE) {
+                stage.close();
+            }
+        });
+
+        stage.setTitle("Animatic Preview - " + project.getName());
+        stage.initOwner(owner);
+        stage.setScene(scene);
+        stage.setOnHidden(e -> dispose());
+    }
+
+    private void start() {
+        LOG.info("▶️ Playing animatic: " + entries.size() + " panels, " +
+                formatTime(startTimes[entries.size()]));
+        buffer.start();
+        stage.show();
+        timer.start();
+    }
+
+    private void dispose() {
+        timer.stop();
+        buffer.stop();
+        LOG.info("⏹ Animatic preview closed: " + displayFrames + " frames shown, " +
+                droppedFrames + " dropped, " + latePanels + " late panels");
+    }
+
+    // =====================================
+    // PLAYBACK
+    // =====================================
+
+    private void onPulse(long now) {
+        if (playing && lastPulseNanos != 0) {
+            double elapsed = (now - lastPulseNanos) / 1_000_000_000.0;
+            // Pulses that arrived late mean display frames were skipped
+            long missed = Math.round(elapsed / DISPLAY_FRAME_SECONDS) - 1;
+            if (missed > 0) {
+                droppedFrames += missed;
+            }
+            positionSeconds += elapsed;
+        }
+        lastPulseNanos = now;
+
+        double total = startTimes[entries.size()];
+        if (positionSeconds >= total) {
+            positionSeconds = total;
+            setPlaying(false);
+        }
+
+        render();
+        if (playing) {
+            displayFrames++;
+        }
+    }
+
+    private void render() {
+        int index = indexAt(positionSeconds);
+        if (index != currentIndex) {
+            currentIndex = index;
+            currentPanelLate = false;
+            buffer.advanceTo(index);
+            backdrop.setFill(backgroundColor(entries.get(index).getPanel()));
+            ExportSequence.Entry entry = entries.get(index);
+            panelLabel.setText("Scene " + entry.getSceneNumber() + " · Panel " + entry.getPanelNumber() +
+                    " · " + entry.getPanel().getName());
+        }
+
+        if (buffer.isReady(index)) {
+            currentView.setImage(buffer.get(index));
+        } else if (playing) {
+            // Not decoded in time: keep the previous image up and let the clock run on
+            droppedFrames++;
+            if (!currentPanelLate) {
+                currentPanelLate = true;
+                latePanels++;
+            }
+        }
+
+        applyTransition(index);
+
+        timeLabel.setText(formatTime(positionSeconds) + " / " + formatTime(startTimes[entries.size()]));
+        statsLabel.setText(String.format("Buffered %d/%d · Dropped %d · Late panels %d",
+                buffer.getBufferedCount(), buffer.getCapacity(), droppedFrames, latePanels));
+    }
+
+    /**
+     * A panel's transition is applied as it hands over to the next panel
+     */
+    private void applyTransition(int index) {
+        currentView.setOpacity(1.0);
+        nextView.setOpacity(0.0);
+        backdrop.setOpacity(1.0);
+
+        if (index + 1 >= entries.size() || transitions[index] == Transition.CUT) {
+            return;
+        }
+
+        double panelEnd = startTimes[index + 1];
+        double length = Math.min(TRANSITION_SECONDS, (panelEnd - startTimes[index]) / 2);
+        double progress = 1.0 - (panelEnd - positionSeconds) / length;
+        if (progress <= 0 || !buffer.isReady(index + 1)) {
+            return;
+        }
+
+        nextView.setImage(buffer.get(index + 1));
+        if (transitions[index] == Transition.DISSOLVE) {
+            nextView.setOpacity(progress);
+        } else {
+            // Fade through black: out over the first half, in over the second
+            currentView.setOpacity(Math.max(0, 1 - progress * 2));
+            backdrop.setOpacity(Math.max(0, 1 - progress * 2));
+            nextView.setOpacity(Math.max(0, progress * 2 - 1));
+        }
+    }
+
+    private void togglePlaying() {
+        if (!playing && positionSeconds >= startTimes[entries.size()]) {
+            positionSeconds = 0;
+        }
+        setPlaying(!playing);
+    }
+
+    private void setPlaying(boolean playing) {
+        this.playing = playing;
+        lastPulseNanos = 0;
+        playButton.setText(playing ? "⏸ Pause" : "▶ Play");
+    }
+
+    private void seek(double seconds) {
+        positionSeconds = Math.max(0, Math.min(seconds, startTimes[entries.size()]));
+        lastPulseNanos = 0;
+        render();
+    }
+
+    private int indexAt(double seconds) {
+        int found = Arrays.binarySearch(startTimes, seconds);
+        int index = found >= 0 ? found : -found - 2;
+        return Math.max(0, Math.min(index, entries.size() - 1));
+    }
+
+    // =====================================
+    // HELPERS
+    // =====================================
+
+    private static Transition parseTransition(String type) {
+        if (type == null) return Transition.CUT;
+        String value = type.toLowerCase(Locale.ROOT);
+        if (value.contains("dissolve") || value.contains("cross")) return Transition.DISSOLVE;
+        if (value.contains("fade")) return Transition.FADE;
+        return Transition.CUT;
+    }
+
+    private static Color backgroundColor(Panel panel) {
+        try {
+            return panel.getCanvasBackgroundColor() != null ? Color.web(panel.getCanvasBackgroundColor()) : Color.WHITE;
+        } catch (IllegalArgumentException e) {
+            return Color.WHITE;
+        }
+    }
+
+    private static String formatTime(double seconds) {
+        int whole = (int) seconds;
+        return String.format("%d:%02d.%d", whole / 60, whole % 60, (int) ((seconds - whole) * 10));
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.scenory.view.dialogs;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import com.example.scenory.model.Panel;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -17,6 +19,8 @@ import java.util.function.Consumer;
  */
 public class RichTextModal {
 
+    private static final Logger LOG = Log.getLogger(RichTextModal.class);
+
     /**
      * Open the rich text editor modal for a specific panel
      *
@@ -26,7 +30,7 @@ public class RichTextModal {
      */
     public static void openForPanel(Panel panel, Window ownerWindow, Consumer<String> onSave) {
         try {
-            System.out.println("📝 Opening Rich Text Modal for: " + panel.getName());
+            LOG.info("📝 Opening Rich Text Modal for: " + panel.getName());
 
             // Load the FXML
             FXMLLoader loader = new FXMLLoader(
@@ -52,7 +56,7 @@ public class RichTextModal {
                         .toExternalForm();
                 scene.getStylesheets().add(cssFile);
             } catch (Exception e) {
-                System.out.println("⚠️ Could not load CSS for Rich Text Modal");
+                LOG.warn("⚠️ Could not load CSS for Rich Text Modal");
             }
 
             stage.setScene(scene);
@@ -68,8 +72,7 @@ public class RichTextModal {
             stage.showAndWait();
 
         } catch (IOException e) {
-            System.err.println("❌ Failed to create Rich Text Modal: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Failed to create Rich Text Modal: " + e.getMessage(), e);
             throw new RuntimeException("Could not create Rich Text Modal", e);
         }
     }
@@ -79,7 +82,7 @@ public class RichTextModal {
      */
     public static void editPanelDescription(Panel panel, Window ownerWindow) {
         openForPanel(panel, ownerWindow, (content) -> {
-            System.out.println("📝 Panel description saved: " + content.length() + " characters");
+            LOG.info("📝 Panel description saved: " + content.length() + " characters");
         });
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.scenory.view.dialogs;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import com.example.scenory.model.Panel;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -18,6 +20,8 @@ import java.util.function.Consumer;
  */
 public class RichTextModalController implements Initializable {
 
+    private static final Logger LOG = Log.getLogger(RichTextModalController.class);
+
     // =====================================
     // FXML UI Components
     // =====================================
@@ -48,12 +52,12 @@ public class RichTextModalController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        System.out.println("🖋️ Initializing Simplified Rich Text Modal Controller...");
+        LOG.info("🖋️ Initializing Simplified Rich Text Modal Controller...");
 
         setupTextArea();
         setupEventHandlers();
 
-        System.out.println("✅ Simplified Rich Text Modal Controller initialized");
+        LOG.info("✅ Simplified Rich Text Modal Controller initialized");
     }
 
     private void setupTextArea() {
@@ -109,7 +113,7 @@ public class RichTextModalController implements Initializable {
         isModified = false;
         updateCharacterCount(originalText);
 
-        System.out.println("📝 Rich text editor opened for panel: " + (panel != null ? panel.getName() : "Unknown"));
+        LOG.info("📝 Rich text editor opened for panel: " + (panel != null ? panel.getName() : "Unknown"));
     }
 
     // =====================================
@@ -210,7 +214,7 @@ public class RichTextModalController implements Initializable {
             // Close modal
             closeModal();
 
-            System.out.println("💾 Panel description saved: " + content.length() + " characters");
+            LOG.info("💾 Panel description saved: " + content.length() + " characters");
         }
     }
 
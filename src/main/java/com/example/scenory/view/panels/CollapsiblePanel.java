@@ -1,5 +1,7 @@
 package com.example.scenory.view.panels;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import javafx.animation.Interpolator;
 import javafx.animation.Transition;
 import javafx.beans.property.BooleanProperty;
@@ -16,6 +18,9 @@ import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 
 public class CollapsiblePanel extends VBox {
+
+    private static final Logger LOG = Log.getLogger(CollapsiblePanel.class);
+
     private BooleanProperty collapsed = new SimpleBooleanProperty(false);
     private VBox contentArea;
     private Button toggleButton;
@@ -37,7 +42,7 @@ public class CollapsiblePanel extends VBox {
         setupAnimation();
         applyInitialState();
 
-        System.out.println("🔧 CollapsiblePanel created: " + title + " (collapsed: " + startCollapsed + ")");
+        LOG.info("🔧 CollapsiblePanel created: " + title + " (collapsed: " + startCollapsed + ")");
     }
 
     private void initializeComponent() {
@@ -119,7 +124,7 @@ public class CollapsiblePanel extends VBox {
     public void toggleCollapse() {
         collapsed.set(!collapsed.get());
         animateToggle();
-        System.out.println("🔄 " + title + " " + (collapsed.get() ? "collapsed" : "expanded"));
+        LOG.info("🔄 " + title + " " + (collapsed.get() ? "collapsed" : "expanded"));
     }
 
     private void animateToggle() {
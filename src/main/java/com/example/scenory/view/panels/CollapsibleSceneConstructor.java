@@ -1,5 +1,7 @@
 package com.example.scenory.view.panels;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import javafx.animation.Interpolator;
 import javafx.animation.Transition;
 import javafx.beans.property.BooleanProperty;
@@ -18,6 +20,9 @@ import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 
 public class CollapsibleSceneConstructor extends VBox {
+
+    private static final Logger LOG = Log.getLogger(CollapsibleSceneConstructor.class);
+
     private BooleanProperty collapsed = new SimpleBooleanProperty(false);
     private VBox contentArea;
     private VBox collapsedStateContainer; // NEW: Container for collapsed state
@@ -55,7 +60,7 @@ public class CollapsibleSceneConstructor extends VBox {
         setupAnimation();
         applyInitialState();
 
-        System.out.println("🔧 FIXED CollapsibleSceneConstructor created: " + title);
+        LOG.info("🔧 FIXED CollapsibleSceneConstructor created: " + title);
     }
 
     private void initializeComponent() {
@@ -263,7 +268,7 @@ public class CollapsibleSceneConstructor extends VBox {
     public void toggleCollapse() {
         collapsed.set(!collapsed.get());
         animateToggle();
-        System.out.println("🔄 Scene Constructor " + (collapsed.get() ? "collapsed" : "expanded"));
+        LOG.info("🔄 Scene Constructor " + (collapsed.get() ? "collapsed" : "expanded"));
     }
 
     private void animateToggle() {
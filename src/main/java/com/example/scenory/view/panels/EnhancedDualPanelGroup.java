@@ -1,5 +1,7 @@
 package com.example.scenory.view.panels;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import javafx.animation.Interpolator;
 import javafx.animation.Transition;
 import javafx.beans.property.BooleanProperty;
@@ -21,6 +23,8 @@ import javafx.util.Duration;
  */
 public class EnhancedDualPanelGroup extends VBox {
 
+    private static final Logger LOG = Log.getLogger(EnhancedDualPanelGroup.class);
+
     // Panel system properties
     private VBox iconContainer;
     private VBox contentArea;
@@ -45,7 +49,7 @@ public class EnhancedDualPanelGroup extends VBox {
         setupTabBehavior();
         applyInitialState();
 
-        System.out.println("🔧 EnhancedDualPanelGroup created with Claude-style layout");
+        LOG.info("🔧 EnhancedDualPanelGroup created with Claude-style layout");
     }
 
     private void initializeComponent() {
@@ -139,7 +143,7 @@ public class EnhancedDualPanelGroup extends VBox {
         // Toggle the clicked tab
         targetProperty.set(!targetProperty.get());
 
-        System.out.println("🔄 " + tabName + " tab " + (targetProperty.get() ? "expanded" : "collapsed"));
+        LOG.info("🔄 " + tabName + " tab " + (targetProperty.get() ? "expanded" : "collapsed"));
     }
 
     private void updateLayout() {
@@ -343,12 +347,12 @@ public class EnhancedDualPanelGroup extends VBox {
     // Public API for adding content
     public void setToolsContent(Node content) {
         this.toolsContent = content;
-        System.out.println("🛠️ Tools content added to EnhancedDualPanelGroup");
+        LOG.info("🛠️ Tools content added to EnhancedDualPanelGroup");
     }
 
     public void setStructureContent(Node content) {
         this.structureContent = content;
-        System.out.println("📁 Structure content added to EnhancedDualPanelGroup");
+        LOG.info("📁 Structure content added to EnhancedDualPanelGroup");
     }
 
     // Public API for programmatic control
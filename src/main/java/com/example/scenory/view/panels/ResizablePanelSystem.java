@@ -1,5 +1,7 @@
 package com.example.scenory.view.panels;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
 import javafx.scene.input.MouseEvent;
@@ -14,6 +16,8 @@ import javafx.scene.paint.Color;
  */
 public class ResizablePanelSystem {
 
+    private static final Logger LOG = Log.getLogger(ResizablePanelSystem.class);
+
     private BorderPane mainLayout;
     private EnhancedDualPanelGroup leftPanelGroup;
     private CollapsibleSceneConstructor rightSceneConstructor;
@@ -38,7 +42,7 @@ public class ResizablePanelSystem {
     public ResizablePanelSystem(BorderPane mainLayout) {
         this.mainLayout = mainLayout;
         setupResizeHandles();
-        System.out.println("🔧 ResizablePanelSystem initialized");
+        LOG.info("🔧 ResizablePanelSystem initialized");
     }
 
     public void setComponents(EnhancedDualPanelGroup leftPanelGroup,
@@ -51,7 +55,7 @@ public class ResizablePanelSystem {
         attachResizeHandles();
         setupResizeHandlers();
 
-        System.out.println("🔗 Components attached to ResizablePanelSystem");
+        LOG.info("🔗 Components attached to ResizablePanelSystem");
     }
 
     private void setupResizeHandles() {
@@ -260,7 +264,7 @@ public class ResizablePanelSystem {
         if (leftPanelGroup != null) {
             // Save to user preferences
             double width = leftPanelGroup.getPrefWidth();
-            System.out.println("💾 Saved left panel width: " + width);
+            LOG.info("💾 Saved left panel width: " + width);
             // UserPreferences.getInstance().setDouble("left_panel_width", width);
         }
     }
@@ -269,7 +273,7 @@ public class ResizablePanelSystem {
         if (rightSceneConstructor != null) {
             // Save to user preferences
             double width = rightSceneConstructor.getPrefWidth();
-            System.out.println("💾 Saved right panel width: " + width);
+            LOG.info("💾 Saved right panel width: " + width);
             // UserPreferences.getInstance().setDouble("right_panel_width", width);
         }
     }
@@ -312,10 +316,10 @@ public class ResizablePanelSystem {
                 rightSceneConstructor.setExpandedWidth(rightWidth);
             }
 
-            System.out.println("📐 Restored panel sizes: left=" + leftWidth + ", right=" + rightWidth);
+            LOG.info("📐 Restored panel sizes: left=" + leftWidth + ", right=" + rightWidth);
 
         } catch (Exception e) {
-            System.err.println("❌ Error restoring panel sizes: " + e.getMessage());
+            LOG.error("❌ Error restoring panel sizes: " + e.getMessage());
         }
     }
 
@@ -325,7 +329,7 @@ public class ResizablePanelSystem {
         double rightWidth = rightSceneConstructor != null ? rightSceneConstructor.getPrefWidth() : 0;
         double centerWidth = mainLayout.getWidth() - leftWidth - rightWidth;
 
-        System.out.println("📐 Panel sizes: Left=" + leftWidth +
+        LOG.info("📐 Panel sizes: Left=" + leftWidth +
                 ", Center=" + centerWidth +
                 ", Right=" + rightWidth);
     }
@@ -1,5 +1,7 @@
 package com.example.scenory.view.panels;
 
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import javafx.animation.Interpolator;
 import javafx.animation.Transition;
 import javafx.beans.property.BooleanProperty;
@@ -15,6 +17,8 @@ import javafx.util.Duration;
 
 public class SmartTabbedPanelGroup extends VBox {
 
+    private static final Logger LOG = Log.getLogger(SmartTabbedPanelGroup.class);
+
     // Tab system properties
     private VBox tabContainer;
     private VBox contentArea;
@@ -35,7 +39,7 @@ public class SmartTabbedPanelGroup extends VBox {
         setupTabBehavior();
         applyInitialState();
 
-        System.out.println("🔧 SmartTabbedPanelGroup created with icon tabs");
+        LOG.info("🔧 SmartTabbedPanelGroup created with icon tabs");
     }
 
     private void initializeComponent() {
@@ -94,13 +98,13 @@ public class SmartTabbedPanelGroup extends VBox {
         if (currentActiveTab == clickedTab && isExpanded.get()) {
             // Collapse if same tab clicked while expanded
             collapsePanel();
-            System.out.println("🔄 Collapsed " + tabName + " tab");
+            LOG.info("🔄 Collapsed " + tabName + " tab");
         } else {
             // Expand with new content or switch content
             Node content = getContentForTab(clickedTab);
             if (content != null) {
                 expandPanel(clickedTab, content);
-                System.out.println("🔄 Expanded " + tabName + " tab");
+                LOG.info("🔄 Expanded " + tabName + " tab");
             }
         }
     }
@@ -200,12 +204,12 @@ public class SmartTabbedPanelGroup extends VBox {
     // Public API for adding content
     public void setToolsContent(Node content) {
         this.toolsContent = content;
-        System.out.println("🛠️ Tools content added to SmartTabbedPanelGroup");
+        LOG.info("🛠️ Tools content added to SmartTabbedPanelGroup");
     }
 
     public void setStructureContent(Node content) {
         this.structureContent = content;
-        System.out.println("📁 Structure content added to SmartTabbedPanelGroup");
+        LOG.info("📁 Structure content added to SmartTabbedPanelGroup");
     }
 
     // Public API for programmatic control
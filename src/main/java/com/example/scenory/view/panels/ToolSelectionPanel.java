@@ -1,6 +1,8 @@
 package com.example.scenory.view.panels;
 
 import com.example.scenory.enums.DrawingTool;
+import com.example.scenory.logging.Log;
+import com.example.scenory.logging.Logger;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.DoubleProperty;
@@ -13,6 +15,8 @@ import javafx.scene.paint.Color;
 
 public class ToolSelectionPanel extends VBox {
 
+    private static final Logger LOG = Log.getLogger(ToolSelectionPanel.class);
+
     // Properties for tool state
     private ObjectProperty<DrawingTool> selectedTool = new SimpleObjectProperty<>(DrawingTool.PEN);
     private ObjectProperty<Color> selectedColor = new SimpleObjectProperty<>(Color.BLACK);
@@ -31,7 +35,7 @@ public class ToolSelectionPanel extends VBox {
         createToolButtons();
         createToolOptions();
 
-        System.out.println("🔧 ToolSelectionPanel created");
+        LOG.info("🔧 ToolSelectionPanel created");
     }
 
     private void initializeComponent() {
@@ -49,7 +53,7 @@ public class ToolSelectionPanel extends VBox {
             if (newToggle != null) {
                 DrawingTool tool = (DrawingTool) newToggle.getUserData();
                 selectedTool.set(tool);
-                System.out.println("🛠️ Tool selected: " + tool.getDisplayName());
+                LOG.info("🛠️ Tool selected: " + tool.getDisplayName());
             }
         });
     }
@@ -145,7 +149,7 @@ public class ToolSelectionPanel extends VBox {
         // Bind color picker to property
         selectedColor.bind(colorPicker.valueProperty());
         colorPicker.valueProperty().addListener((obs, oldVal, newVal) -> {
-            System.out.println("🎨 Color changed to: " + newVal);
+            LOG.info("🎨 Color changed to: " + newVal);
         });
 
         optionsContainer.getChildren().addAll(
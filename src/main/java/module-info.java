@@ -13,6 +13,9 @@ module com.example.scenory {
     // WebView JavaScript bridge requirement
     requires jdk.jsobject; // For JavaScript-Java communication
 
+    // Flight Recorder events for the metrics layer
+    requires jdk.jfr;
+
     // Open packages for FXML and JSON processing
     opens com.example.scenory to javafx.fxml;
     opens com.example.scenory.controller to javafx.fxml;
@@ -32,4 +35,7 @@ module com.example.scenory {
     exports com.example.scenory.view.dialogs; // NEW: For rich text modal
     exports com.example.scenory.enums;
     exports com.example.scenory.utils;
+    exports com.example.scenory.export;
+    exports com.example.scenory.metrics;
+    exports com.example.scenory.logging;
 }
\ No newline at end of file